@@ -0,0 +1,171 @@
+package com.thc.my_cardmapp.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 파싱 처리량 비교 (seoul_merchants_1000.csv 데이터 행을 scale 배 복제)
+ * - legacy: 이전 임포트 방식 (BufferedReader 라인 + 문자 단위 파싱, 필드마다 String)
+ * - csvReader*: CsvReader 스트리밍/메모리 매핑, 문자열 복사 여부별
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvReaderBenchmark {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    @Param({"100"})
+    private int scale;
+
+    private byte[] data;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] sample;
+        try (InputStream in = CsvReaderBenchmark.class.getResourceAsStream("/seoul_merchants_1000.csv")) {
+            if (in == null) {
+                throw new IllegalStateException("seoul_merchants_1000.csv 를 찾을 수 없습니다");
+            }
+            sample = in.readAllBytes();
+        }
+        int headerEnd = 0;
+        while (sample[headerEnd] != '\n') {
+            headerEnd++;
+        }
+        headerEnd++;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(sample.length * scale);
+        out.write(sample, 0, headerEnd);
+        for (int i = 0; i < scale; i++) {
+            out.write(sample, headerEnd, sample.length - headerEnd);
+        }
+        data = out.toByteArray();
+
+        file = Files.createTempFile("csv-benchmark", ".csv");
+        Files.write(file, data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long legacyLineParser() throws IOException {
+        long checksum = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(data), EUC_KR))) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (String field : parseCsvLine(line)) {
+                    checksum += field.length();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long csvReaderStrings() throws IOException {
+        return readStrings(CsvReader.open(new ByteArrayInputStream(data), EUC_KR, 0));
+    }
+
+    @Benchmark
+    public long csvReaderSlices() throws IOException {
+        return readSlices(CsvReader.open(new ByteArrayInputStream(data), EUC_KR, 0));
+    }
+
+    @Benchmark
+    public long csvReaderMappedStrings() throws IOException {
+        return readStrings(CsvReader.open(file, EUC_KR, 0, true));
+    }
+
+    @Benchmark
+    public long csvReaderMappedSlices() throws IOException {
+        return readSlices(CsvReader.open(file, EUC_KR, 0, true));
+    }
+
+    // Helper Methods
+
+    private static long readStrings(CsvReader reader) throws IOException {
+        long checksum = 0;
+        try (reader) {
+            reader.next();
+            while (reader.next()) {
+                for (int i = 0; i < reader.getFieldCount(); i++) {
+                    checksum += reader.getString(i).length();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private static long readSlices(CsvReader reader) throws IOException {
+        long checksum = 0;
+        try (reader) {
+            reader.next();
+            while (reader.next()) {
+                for (int i = 0; i < reader.getFieldCount(); i++) {
+                    checksum += reader.getField(i).length();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * 이전 CsvImportService 의 라인 파서 (비교 기준)
+     */
+    private static String[] parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder currentField = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (c == ',' && !inQuotes) {
+                fields.add(currentField.toString());
+                currentField = new StringBuilder();
+            } else {
+                currentField.append(c);
+            }
+        }
+        fields.add(currentField.toString());
+
+        return fields.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,109 @@
+package com.thc.my_cardmapp.geocoding;
+
+import com.thc.my_cardmapp.csv.CsvReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주소 정제 처리량 비교 (seoul_merchants_1000.csv 의 기본주소 + 상세주소, 임포트와 같은 결합)
+ * - legacy: 이전 cleanAddress (호출마다 String.replaceAll 8회)
+ * - clean: AddressNormalizer.clean
+ * - cleanAndKey: 정제 + 구성 요소 분리 + 표준 키 (GeocodingService 의 캐시 키 경로)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddressNormalizerBenchmark {
+
+    private final AddressNormalizer normalizer = new AddressNormalizer();
+
+    private List<String> addresses;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addresses = new ArrayList<>();
+        try (InputStream in = AddressNormalizerBenchmark.class.getResourceAsStream("/seoul_merchants_1000.csv")) {
+            if (in == null) {
+                throw new IllegalStateException("seoul_merchants_1000.csv 를 찾을 수 없습니다");
+            }
+            try (CsvReader reader = CsvReader.open(in, Charset.forName("EUC-KR"), 0)) {
+                reader.next();
+                while (reader.next()) {
+                    if (reader.getFieldCount() < 5) {
+                        continue;
+                    }
+                    String address = reader.getString(4).trim();
+                    String detail = reader.getFieldCount() > 5 ? reader.getString(5).trim() : "";
+                    addresses.add(detail.isEmpty() ? address : address + " " + detail);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public long legacy() {
+        long checksum = 0;
+        for (String address : addresses) {
+            checksum += legacyCleanAddress(address).length();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long clean() {
+        long checksum = 0;
+        for (String address : addresses) {
+            checksum += normalizer.clean(address).length();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long cleanAndKey() {
+        long checksum = 0;
+        for (String address : addresses) {
+            checksum += normalizer.cacheKey(normalizer.clean(address)).length();
+        }
+        return checksum;
+    }
+
+    /**
+     * 이전 지오코딩 서비스의 cleanAddress (비교 기준)
+     */
+    static String legacyCleanAddress(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            return address;
+        }
+
+        String cleaned = address;
+        cleaned = cleaned.replaceAll(",\\s*\\d+동\\s*\\d+호", "");
+        cleaned = cleaned.replaceAll(",\\s*\\d+층\\s*\\d+호", "");
+        cleaned = cleaned.replaceAll(",\\s*\\d+동", "");
+        cleaned = cleaned.replaceAll(",\\s*\\d+호", "");
+        cleaned = cleaned.replaceAll(",\\s*\\d+층", "");
+        cleaned = cleaned.replaceAll("\\s*\\([^)]*\\)", "");
+        cleaned = cleaned.replaceAll("\\s+", " ");
+        cleaned = cleaned.trim().replaceAll(",$", "");
+        return cleaned;
+    }
+}
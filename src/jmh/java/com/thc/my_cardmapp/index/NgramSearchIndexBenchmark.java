@@ -0,0 +1,64 @@
+package com.thc.my_cardmapp.index;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 키워드 검색 지연시간 (임포트 규모 합성 데이터, 질의별 첫 페이지 20건)
+ * - 목표: 10만 건에서 2~3글자 질의 5ms 이내
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NgramSearchIndexBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하강남서초역삼성동구로";
+
+    @Param({"100000"})
+    private int documents;
+
+    @Param({"강남", "역삼", "가나다", "서초구", "성동"})
+    private String query;
+
+    private NgramSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new NgramSearchIndex();
+        for (long id = 1; id <= documents; id++) {
+            index.upsert(id, randomText(random, 4 + random.nextInt(6)),
+                    "서울특별시 " + randomText(random, 3) + "구 " + randomText(random, 4) + "로 " + id);
+        }
+    }
+
+    @Benchmark
+    public NgramSearchIndex.Hits search() {
+        return index.search(query, 0, 20);
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return sb.toString();
+    }
+}
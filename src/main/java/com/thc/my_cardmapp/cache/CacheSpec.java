@@ -0,0 +1,18 @@
+package com.thc.my_cardmapp.cache;
+
+import java.time.Duration;
+
+/**
+ * 캐시별 설정 (L1/L2 공통 TTL, L1 최대 항목 수)
+ */
+public record CacheSpec(Duration ttl, long maxSize) {
+
+    public CacheSpec {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("캐시 TTL은 0보다 커야 합니다: " + ttl);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다: " + maxSize);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.thc.my_cardmapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단계 캐시 (L1: 로컬 Caffeine, L2: Redis)
+ * - 조회: L1 → L2 → 원본 메서드 순, L2 적중 시 L1 에 채움
+ * - 변경(put/evict/clear): L1, L2 모두 반영 후 다른 노드에 L1 무효화 메시지 발행
+ * - Redis 장애 시 L2 는 미스로 처리하고 L1 만으로 동작
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final int CLEAR_SCAN_COUNT = 500;
+
+    private final String name;
+    private final CacheSpec spec;
+    private final Cache<String, Object> local;
+    // null 이면 L1 전용
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TwoLevelCacheManager manager;
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+
+    TwoLevelCache(String name, CacheSpec spec, RedisTemplate<String, Object> redisTemplate, TwoLevelCacheManager manager) {
+        super(true);
+        this.name = name;
+        this.spec = spec;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(spec.ttl())
+                .maximumSize(spec.maxSize())
+                .recordStats()
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = toCacheKey(key);
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+        value = readRemote(cacheKey);
+        if (value != null) {
+            local.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 같은 키의 동시 로딩은 Caffeine 이 한 번만 수행
+        Object value = local.get(toCacheKey(key), cacheKey -> {
+            Object remote = readRemote(cacheKey);
+            if (remote != null) {
+                return remote;
+            }
+            try {
+                Object loaded = toStoreValue(valueLoader.call());
+                writeRemote(cacheKey, loaded);
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = toCacheKey(key);
+        Object storeValue = toStoreValue(value);
+        local.put(cacheKey, storeValue);
+        writeRemote(cacheKey, storeValue);
+        manager.publishEvict(name, cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        local.invalidate(cacheKey);
+        deleteRemote(cacheKey);
+        manager.publishEvict(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        clearRemote();
+        manager.publishClear(name);
+    }
+
+    /**
+     * 다른 노드의 변경 알림 반영 (L1 만 삭제)
+     */
+    void evictLocal(String cacheKey) {
+        local.invalidate(cacheKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 (L1 Caffeine 통계 + L2 적중/미스)
+     */
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = local.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", local.estimatedSize());
+        result.put("maxSize", spec.maxSize());
+        result.put("ttlSeconds", spec.ttl().toSeconds());
+        result.put("localHits", stats.hitCount());
+        result.put("localMisses", stats.missCount());
+        result.put("localHitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("remoteHits", remoteHits.sum());
+        result.put("remoteMisses", remoteMisses.sum());
+        return result;
+    }
+
+    // Helper Methods
+
+    /**
+     * 캐시 키를 문자열로 통일 (L1 키 = L2 키 = 무효화 메시지 키)
+     */
+    private String toCacheKey(Object key) {
+        return name + "::" + key;
+    }
+
+    private Object readRemote(String cacheKey) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(cacheKey);
+            if (value != null) {
+                remoteHits.increment();
+            } else {
+                remoteMisses.increment();
+            }
+            return value;
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패 - {}: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String cacheKey, Object storeValue) {
+        // null 결과는 로컬에만 보관
+        if (redisTemplate == null || storeValue == NullValue.INSTANCE) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(cacheKey, storeValue, spec.ttl());
+        } catch (Exception e) {
+            log.warn("Redis 캐시 저장 실패 - {}: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private void deleteRemote(String cacheKey) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(cacheKey);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 삭제 실패 - {}: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 이름 접두의 Redis 키 삭제 (KEYS 대신 SCAN 사용)
+     */
+    private void clearRemote() {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(name + "::*").count(CLEAR_SCAN_COUNT).build();
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                deleteMatching(connection, options);
+                return null;
+            });
+            log.debug("Redis 캐시 전체 삭제 - {}", name);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 전체 삭제 실패 - {}: {}", name, e.getMessage());
+        }
+    }
+
+    private static void deleteMatching(RedisConnection connection, ScanOptions options) {
+        List<byte[]> batch = new ArrayList<>(CLEAR_SCAN_COUNT);
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == CLEAR_SCAN_COUNT) {
+                    connection.keyCommands().del(batch.toArray(new byte[0][]));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            connection.keyCommands().del(batch.toArray(new byte[0][]));
+        }
+    }
+}
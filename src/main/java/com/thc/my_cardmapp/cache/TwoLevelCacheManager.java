@@ -0,0 +1,111 @@
+package com.thc.my_cardmapp.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caffeine(L1) + Redis(L2) 캐시 매니저
+ * - 캐시별 TTL/최대 크기는 specs 로 지정, 없는 이름은 기본 설정으로 동적 생성
+ * - 변경 시 Redis pub/sub 으로 다른 노드의 L1 을 무효화 (redisTemplate 이 null 이면 단일 노드 L1 전용)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+
+    // 자기 노드가 보낸 메시지 구분용
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, CacheSpec> specs;
+    private final CacheSpec defaultSpec;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(Map<String, CacheSpec> specs, CacheSpec defaultSpec,
+                                RedisTemplate<String, Object> redisTemplate) {
+        this.specs = Map.copyOf(specs);
+        this.defaultSpec = defaultSpec;
+        this.redisTemplate = redisTemplate;
+        specs.keySet().forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name,
+                cacheName -> new TwoLevelCache(cacheName, specs.getOrDefault(cacheName, defaultSpec), redisTemplate, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 캐시별 통계
+     */
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        caches.values().forEach(cache -> result.put(cache.getName(), cache.getStatistics()));
+        return result;
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 ("노드ID|연산|캐시명|키")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (OP_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (OP_EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    void publishEvict(String cacheName, String cacheKey) {
+        publish(OP_EVICT + "|" + cacheName + "|" + cacheKey);
+    }
+
+    void publishClear(String cacheName) {
+        publish(OP_CLEAR + "|" + cacheName);
+    }
+
+    // Helper Methods
+
+    private void publish(String body) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            // 값 직렬화기를 거치지 않도록 원시 바이트로 발행
+            byte[] channel = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+            byte[] payload = (nodeId + "|" + body).getBytes(StandardCharsets.UTF_8);
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, payload));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - {}: {}", body, e.getMessage());
+        }
+    }
+}
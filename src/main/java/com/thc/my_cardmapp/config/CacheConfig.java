@@ -1,10 +1,42 @@
 package com.thc.my_cardmapp.config;
 
+import com.thc.my_cardmapp.cache.CacheSpec;
+import com.thc.my_cardmapp.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
-    // Redis 캐시 매니저 설정은 나중에 추가
-}
\ No newline at end of file
+
+    // 캐시별 TTL / 로컬 최대 항목 수
+    private static final Map<String, CacheSpec> CACHE_SPECS = Map.of(
+            "activeCards", new CacheSpec(Duration.ofHours(6), 10),
+            "activeCategories", new CacheSpec(Duration.ofHours(6), 10),
+            "cardStatistics", new CacheSpec(Duration.ofMinutes(30), 500),
+            "popularCategories", new CacheSpec(Duration.ofMinutes(30), 500),
+            "nearbyMerchants", new CacheSpec(Duration.ofMinutes(10), 10_000)
+    );
+
+    // 목록에 없는 캐시 이름의 기본값
+    private static final CacheSpec DEFAULT_SPEC = new CacheSpec(Duration.ofMinutes(10), 1_000);
+
+    /**
+     * L1(Caffeine) + L2(Redis) 캐시 매니저
+     * - cache.redis.enabled=false 이면 Redis 템플릿이 없으므로 L1 전용으로 동작
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(
+            @Qualifier("cacheRedisTemplate") ObjectProvider<RedisTemplate<String, Object>> cacheRedisTemplate) {
+        return new TwoLevelCacheManager(CACHE_SPECS, DEFAULT_SPEC, cacheRedisTemplate.getIfAvailable());
+    }
+}
@@ -0,0 +1,19 @@
+package com.thc.my_cardmapp.config;
+
+import com.thc.my_cardmapp.embedding.HashingTextEmbedder;
+import com.thc.my_cardmapp.embedding.TextEmbedder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EmbeddingConfig {
+
+    /**
+     * 가맹점/검색어 임베딩 (오프라인 해시 임베딩, 모델 기반 구현으로 바꾸면 저장된 임베딩은 다시 계산됨)
+     */
+    @Bean
+    public TextEmbedder textEmbedder(@Value("${embedding.dimension:128}") int dimension) {
+        return new HashingTextEmbedder(dimension);
+    }
+}
@@ -0,0 +1,39 @@
+package com.thc.my_cardmapp.config;
+
+import com.thc.my_cardmapp.geocoding.GeocodingResult;
+import com.thc.my_cardmapp.geocoding.StubGeocodingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class GeocodingConfig {
+
+    /**
+     * 지오코딩 API 공용 RestTemplate (기본 RestTemplate 은 타임아웃이 없어 응답 없는 서버에 작업자가 묶임)
+     */
+    @Bean
+    public RestTemplate geocodingRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${geocoding.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${geocoding.http.read-timeout-ms:5000}") long readTimeoutMs) {
+        return builder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+    }
+
+    /**
+     * 오프라인 개발/테스트용 지오코딩 (geocoding.stub.enabled=true 일 때만, 실제 위치와 무관한 좌표)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "geocoding.stub.enabled", havingValue = "true")
+    public StubGeocodingProvider stubGeocodingProvider(@Value("${geocoding.stub.latency-ms:20}") long latencyMs) {
+        return new StubGeocodingProvider("STUB", latencyMs, GeocodingResult.Status.FOUND);
+    }
+}
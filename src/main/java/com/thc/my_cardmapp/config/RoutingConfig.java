@@ -0,0 +1,38 @@
+package com.thc.my_cardmapp.config;
+
+import com.thc.my_cardmapp.routing.LocalRoutingEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class RoutingConfig {
+
+    /**
+     * 경로 API 전용 RestTemplate (지오코딩과 별도 타임아웃, 화면 응답을 기다리므로 더 짧게)
+     */
+    @Bean
+    public RestTemplate routingRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${route.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${route.http.read-timeout-ms:3000}") long readTimeoutMs) {
+        return builder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+    }
+
+    /**
+     * 오프라인 도보 경로 추정 (route.engine=LOCAL 이거나 실제 엔진 실패 시 대체용, 항상 등록)
+     */
+    @Bean
+    public LocalRoutingEngine localRoutingEngine(
+            @Value("${route.local.detour-factor:1.3}") double detourFactor,
+            @Value("${route.local.walking-speed-mps:1.2}") double walkingSpeedMps) {
+        return new LocalRoutingEngine(detourFactor, walkingSpeedMps);
+    }
+}
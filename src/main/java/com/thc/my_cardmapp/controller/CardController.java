@@ -90,20 +90,19 @@ public class CardController {
         // 카드 존재 여부 확인
         Card card = cardService.getCardById(id);
 
-        List<Merchant> merchants;
+        List<MerchantDto> merchantDtos;
         if (lat != null && lng != null) {
-            // 위치 정보가 있으면 근처 가맹점만 조회
-            merchants = merchantService.findNearbyMerchantsByCards(lat, lng, radius, List.of(card.getName()));
+            // 위치 정보가 있으면 근처 가맹점만 조회 (프로젝션 - 거리 포함)
+            merchantDtos = merchantService.findNearbyMerchantsByCards(lat, lng, radius, List.of(card.getName())).stream()
+                    .map(MerchantDto::from)
+                    .collect(Collectors.toList());
         } else {
             // 위치 정보가 없으면 해당 카드의 모든 가맹점 조회
-            merchants = merchantService.findMerchantsByCardId(id);
+            merchantDtos = merchantService.findMerchantsByCardId(id).stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toList());
         }
 
-        // Entity를 DTO로 변환
-        List<MerchantDto> merchantDtos = merchants.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
         log.info("조회된 가맹점 수: {}", merchantDtos.size());
         return ResponseEntity.ok(merchantDtos);
     }
@@ -1,6 +1,9 @@
 package com.thc.my_cardmapp.controller;
 
-import com.thc.my_cardmapp.service.CsvImportService;
+import com.thc.my_cardmapp.domain.ImportJob;
+import com.thc.my_cardmapp.domain.ImportJobStatus;
+import com.thc.my_cardmapp.dto.ImportJobDto;
+import com.thc.my_cardmapp.service.ImportJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +11,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin/csv-import")
 @RequiredArgsConstructor
@@ -15,28 +23,43 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "CSV Import", description = "CSV 데이터 임포트 관리")
 public class CsvImportController {
 
-    private final CsvImportService csvImportService;
+    private final ImportJobService importJobService;
 
     @PostMapping("/merchants")
-    @Operation(summary = "가맹점 CSV 임포트", description = "서울사랑상품권 가맹점 CSV 파일을 DB에 임포트합니다.")
-    public ResponseEntity<String> importMerchants(
+    @Operation(summary = "가맹점 CSV 임포트",
+            description = "서울사랑상품권 가맹점 CSV 임포트 작업을 등록합니다. 이름+주소 기준으로 upsert 하며, 전체 적재 시 파일에 없는 가맹점은 폐업 처리합니다. 진행 상황은 작업 조회 API로 확인합니다.")
+    public ResponseEntity<ImportJobDto> importMerchants(
             @RequestParam String csvFilePath,
             @RequestParam(defaultValue = "0") int limit) {
+        log.info("CSV 임포트 요청 - 파일: {}, 제한: {}", csvFilePath, limit);
         try {
-            log.info("CSV 임포트 요청 - 파일: {}, 제한: {}", csvFilePath, limit);
-
-            csvImportService.importMerchantsFromCsv(csvFilePath, limit);
-
-            String message = limit > 0
-                    ? String.format("CSV 임포트 완료 (최대 %d개)", limit)
-                    : "CSV 임포트 완료 (전체)";
+            ImportJob job = importJobService.submit(csvFilePath, limit);
+            return ResponseEntity.accepted().body(convertToDto(job));
+        } catch (IllegalArgumentException e) {
+            log.warn("CSV 임포트 요청 거부 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-            return ResponseEntity.ok(message);
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "임포트 작업 조회", description = "진행률, 처리 속도(건/초), 예상 남은 시간, 스킵 건수, 오류 샘플을 조회합니다.")
+    public ResponseEntity<ImportJobDto> getJob(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(convertToDto(importJobService.getJob(id)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("CSV 임포트 실패", e);
-            return ResponseEntity.internalServerError()
-                    .body("CSV 임포트 실패: " + e.getMessage());
+    @PostMapping("/jobs/{id}/resume")
+    @Operation(summary = "임포트 작업 재개", description = "실패한 작업을 마지막 체크포인트부터 다시 실행합니다.")
+    public ResponseEntity<ImportJobDto> resumeJob(@PathVariable Long id) {
+        log.info("CSV 임포트 재개 요청 - ID: {}", id);
+        try {
+            return ResponseEntity.accepted().body(convertToDto(importJobService.resume(id)));
+        } catch (IllegalArgumentException e) {
+            log.warn("CSV 임포트 재개 거부 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         }
     }
 
@@ -45,4 +68,68 @@ public class CsvImportController {
     public ResponseEntity<String> test() {
         return ResponseEntity.ok("CSV Import API is working!");
     }
+
+    // Helper Methods
+
+    private ImportJobDto convertToDto(ImportJob job) {
+        boolean running = job.getStatus() == ImportJobStatus.RUNNING;
+        LocalDateTime end = job.getFinishedAt() != null && !running ? job.getFinishedAt() : LocalDateTime.now();
+        double elapsedSeconds = job.getRunStartedAt() != null
+                ? Duration.between(job.getRunStartedAt(), end).toMillis() / 1000.0
+                : 0;
+
+        // 이번 실행에서 처리한 양 기준 속도
+        double linesPerSecond = elapsedSeconds > 0
+                ? (job.getLinesRead() - job.getRunStartLines()) / elapsedSeconds
+                : 0;
+        double bytesPerSecond = elapsedSeconds > 0
+                ? (job.getByteOffset() - job.getRunStartOffset()) / elapsedSeconds
+                : 0;
+
+        Long etaSeconds = null;
+        if (running) {
+            if (job.getLineLimit() > 0 && linesPerSecond > 0) {
+                etaSeconds = Math.round(Math.max(0, job.getLineLimit() - job.getLinesRead()) / linesPerSecond);
+            } else if (job.getTotalBytes() > 0 && bytesPerSecond > 0) {
+                etaSeconds = Math.round(Math.max(0, job.getTotalBytes() - job.getByteOffset()) / bytesPerSecond);
+            }
+        }
+
+        Double progressPercent = null;
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            progressPercent = 100.0;
+        } else if (job.getLineLimit() > 0) {
+            progressPercent = Math.min(100.0, job.getLinesRead() * 100.0 / job.getLineLimit());
+        } else if (job.getTotalBytes() > 0) {
+            progressPercent = Math.min(100.0, job.getByteOffset() * 100.0 / job.getTotalBytes());
+        }
+
+        List<String> errorSamples = job.getErrorSamples() == null || job.getErrorSamples().isEmpty()
+                ? List.of()
+                : Arrays.asList(job.getErrorSamples().split("\n"));
+
+        return ImportJobDto.builder()
+                .id(job.getId())
+                .filePath(job.getFilePath())
+                .status(job.getStatus().name())
+                .lineLimit(job.getLineLimit())
+                .totalBytes(job.getTotalBytes())
+                .byteOffset(job.getByteOffset())
+                .progressPercent(progressPercent)
+                .linesRead(job.getLinesRead())
+                .importedRows(job.getImportedRows())
+                .insertedRows(job.getInsertedRows())
+                .updatedRows(job.getUpdatedRows())
+                .unchangedRows(job.getUnchangedRows())
+                .closedRows(job.getClosedRows())
+                .skippedRows(job.getSkippedRows())
+                .rowsPerSecond(Math.round(linesPerSecond * 10) / 10.0)
+                .etaSeconds(etaSeconds)
+                .errorSamples(errorSamples)
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .runStartedAt(job.getRunStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
 }
@@ -0,0 +1,52 @@
+package com.thc.my_cardmapp.controller;
+
+import com.thc.my_cardmapp.service.DistrictService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/districts")
+@RequiredArgsConstructor
+@Tag(name = "District", description = "행정구역 조회 API")
+public class DistrictController {
+
+    private final DistrictService districtService;
+
+    @Operation(summary = "좌표의 행정구역 조회", description = "위도/경도가 속한 구와 행정동을 로컬 경계 데이터로 조회합니다. 경계 밖이면 null, 경계 데이터가 없으면 503을 반환합니다")
+    @GetMapping("/lookup")
+    public ResponseEntity<Map<String, Object>> lookup(
+            @Parameter(description = "위도", required = true, example = "37.5665") @RequestParam double lat,
+            @Parameter(description = "경도", required = true, example = "126.9780") @RequestParam double lng) {
+
+        if (!districtService.isAvailable()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        DistrictService.DistrictMatch match = districtService.lookup(lat, lng);
+        Map<String, Object> response = new HashMap<>();
+        response.put("lat", lat);
+        response.put("lng", lng);
+        response.put("gu", match.gu());
+        response.put("dong", match.dong());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "경계 데이터 상태", description = "적재된 구/행정동 경계 수를 확인합니다")
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(districtService.getStatus());
+    }
+}
@@ -0,0 +1,48 @@
+package com.thc.my_cardmapp.controller;
+
+import com.thc.my_cardmapp.service.MerchantEmbeddingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/embeddings")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Embedding", description = "가맹점 임베딩 관리 API")
+public class EmbeddingController {
+
+    private final MerchantEmbeddingService merchantEmbeddingService;
+
+    @PostMapping("/refresh")
+    @Operation(summary = "임베딩 갱신",
+               description = "임베딩이 없거나 오래된(방식 변경, 가맹점 변경, 보관 기간 초과) 가맹점을 바로 계산·저장하고 유사도 인덱스에 반영합니다. 폐업 가맹점 임베딩은 삭제합니다. 백그라운드로 실행되며 평소에는 embedding.refresh.interval-ms 주기로 실행됩니다")
+    public ResponseEntity<Map<String, Object>> refresh() {
+        boolean queued = merchantEmbeddingService.requestRefresh();
+        log.info("임베딩 갱신 요청 - 등록: {}", queued);
+        return ResponseEntity.accepted().body(merchantEmbeddingService.getStatus());
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "임베딩 인덱스 재적재",
+               description = "저장된 임베딩으로 유사도 인덱스를 새로 만듭니다 (교체로 쌓인 삭제 표시 노드 정리, 보통은 비율을 넘으면 자동 실행). 백그라운드로 실행되며 재적재 중에는 이전 인덱스로 검색합니다")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        boolean queued = merchantEmbeddingService.startReload();
+        log.info("임베딩 인덱스 재적재 요청 - 등록: {}", queued);
+        return ResponseEntity.accepted().body(merchantEmbeddingService.getStatus());
+    }
+
+    @GetMapping("/status")
+    @Operation(summary = "임베딩 인덱스 상태", description = "임베딩 방식, 인덱스 크기, 갱신 대기 건수와 처리량(마지막 갱신의 초당 처리 수), 누적 갱신/제거/실패 수, 마지막 재적재 결과, 검색 방식별 횟수를 조회합니다")
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(merchantEmbeddingService.getStatus());
+    }
+}
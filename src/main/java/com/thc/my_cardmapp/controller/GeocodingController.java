@@ -1,8 +1,12 @@
 package com.thc.my_cardmapp.controller;
 
 import com.thc.my_cardmapp.domain.Merchant;
+import com.thc.my_cardmapp.dto.GeocodingJobDto;
+import com.thc.my_cardmapp.geocoding.GeocodingResult;
 import com.thc.my_cardmapp.repository.MerchantRepository;
-import com.thc.my_cardmapp.service.NaverGeocodingService;
+import com.thc.my_cardmapp.service.GeocodeCacheService;
+import com.thc.my_cardmapp.service.GeocodingJobService;
+import com.thc.my_cardmapp.service.GeocodingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,64 +28,31 @@ import java.util.Map;
 public class GeocodingController {
 
     private final MerchantRepository merchantRepository;
-    private final NaverGeocodingService geocodingService;
+    private final GeocodingJobService geocodingJobService;
+    private final GeocodeCacheService geocodeCacheService;
+    private final GeocodingService geocodingService;
 
     @PostMapping("/update-all")
     @Operation(summary = "전체 가맹점 좌표 변환",
-               description = "DB의 모든 가맹점 주소를 위도/경도로 변환하여 업데이트합니다. (Rate limit: 10req/sec)")
-    public ResponseEntity<Map<String, Object>> updateAllMerchantCoordinates() {
-        log.info("전체 가맹점 좌표 변환 시작");
-
-        List<Merchant> merchants = merchantRepository.findAll();
-        int total = merchants.size();
-        int success = 0;
-        int failed = 0;
-        int skipped = 0;
-
-        for (int i = 0; i < merchants.size(); i++) {
-            Merchant merchant = merchants.get(i);
-
-            // 이미 좌표가 있으면 스킵
-            if (merchant.getLocation() != null) {
-                skipped++;
-                continue;
-            }
-
-            // Geocoding 수행
-            NaverGeocodingService.GeocodingResult result = geocodingService.geocode(merchant.getAddress());
-
-            if (result.isSuccess()) {
-                merchant.setLocation(result.getPoint());
-                merchantRepository.save(merchant);
-                success++;
-                log.info("진행률: {}/{} - 성공: {}, ID: {}, 주소: {}",
-                         i + 1, total, success, merchant.getId(), merchant.getAddress());
-            } else {
-                failed++;
-                log.warn("Geocoding 실패: ID: {}, 주소: {}, 에러: {}",
-                         merchant.getId(), merchant.getAddress(), result.getErrorMessage());
-            }
-
-            // Rate limit 대응: 초당 10개 요청 (100ms 간격)
-            if (i < merchants.size() - 1) {
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.error("Thread interrupted", e);
-                    break;
-                }
-            }
+               description = "좌표가 없는 가맹점을 백그라운드에서 일괄 변환합니다. 동시 요청 수와 초당 요청 수는 geocoding.batch 설정을 따르며, 429/5xx 응답 시 속도를 낮춰 재시도합니다. 진행 상황은 작업 조회 API로 확인합니다.")
+    public ResponseEntity<GeocodingJobDto> updateAllMerchantCoordinates() {
+        log.info("전체 가맹점 좌표 변환 요청");
+        try {
+            return ResponseEntity.accepted().body(convertToDto(geocodingJobService.start()));
+        } catch (IllegalArgumentException e) {
+            log.warn("좌표 변환 요청 거부 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         }
+    }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("total", total);
-        response.put("success", success);
-        response.put("failed", failed);
-        response.put("skipped", skipped);
-
-        log.info("좌표 변환 완료 - 총: {}, 성공: {}, 실패: {}, 스킵: {}", total, success, failed, skipped);
-        return ResponseEntity.ok(response);
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "좌표 변환 작업 조회", description = "진행률, 처리 속도, 현재 요청 속도 제한, 예상 남은 시간, 실패 샘플을 조회합니다.")
+    public ResponseEntity<GeocodingJobDto> getJob(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(convertToDto(geocodingJobService.getJob(id)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
     @PostMapping("/update/{merchantId}")
@@ -90,18 +63,16 @@ public class GeocodingController {
         Merchant merchant = merchantRepository.findById(merchantId)
                 .orElseThrow(() -> new IllegalArgumentException("가맹점을 찾을 수 없습니다: " + merchantId));
 
-        NaverGeocodingService.GeocodingResult result = geocodingService.geocode(merchant.getAddress());
+        GeocodingResult result = geocodingJobService.geocodeMerchant(merchant);
 
         Map<String, Object> response = new HashMap<>();
         if (result.isSuccess()) {
-            merchant.setLocation(result.getPoint());
-            merchantRepository.save(merchant);
-
             response.put("success", true);
             response.put("merchantId", merchantId);
             response.put("address", merchant.getAddress());
             response.put("latitude", result.getLatitude());
             response.put("longitude", result.getLongitude());
+            response.put("provider", result.getProvider());
             log.info("좌표 변환 성공: ID={}, ({}, {})", merchantId, result.getLatitude(), result.getLongitude());
         } else {
             response.put("success", false);
@@ -114,8 +85,14 @@ public class GeocodingController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/providers")
+    @Operation(summary = "지오코딩 서비스 통계", description = "서비스별 현재 시도 순서, 최근 성공률, p50/p95 지연시간, 헤징 횟수를 확인합니다.")
+    public ResponseEntity<Map<String, Object>> getProviderStats() {
+        return ResponseEntity.ok(geocodingService.getRoutingStats());
+    }
+
     @GetMapping("/status")
-    @Operation(summary = "좌표 변환 상태", description = "좌표가 있는/없는 가맹점 수를 확인합니다.")
+    @Operation(summary = "좌표 변환 상태", description = "좌표가 있는/없는 가맹점 수와 지오코딩 캐시 적중 통계를 확인합니다.")
     public ResponseEntity<Map<String, Object>> getGeocodingStatus() {
         long totalCount = merchantRepository.count();
         long withCoordinates = merchantRepository.countByLocationIsNotNull();
@@ -126,7 +103,51 @@ public class GeocodingController {
         response.put("withCoordinates", withCoordinates);
         response.put("withoutCoordinates", withoutCoordinates);
         response.put("percentage", totalCount > 0 ? (withCoordinates * 100.0 / totalCount) : 0);
+        response.put("cache", geocodeCacheService.getStats());
 
         return ResponseEntity.ok(response);
     }
+
+    // Helper Methods
+
+    private GeocodingJobDto convertToDto(GeocodingJobService.GeocodingJob job) {
+        boolean running = job.getStatus() == GeocodingJobService.GeocodingJob.Status.RUNNING;
+        LocalDateTime end = job.getFinishedAt() != null && !running ? job.getFinishedAt() : LocalDateTime.now();
+        double elapsedSeconds = Duration.between(job.getStartedAt(), end).toMillis() / 1000.0;
+        long processed = job.getProcessed().get();
+        double perSecond = elapsedSeconds > 0 ? processed / elapsedSeconds : 0;
+
+        Long etaSeconds = null;
+        if (running && perSecond > 0) {
+            etaSeconds = Math.round(Math.max(0, job.getTotalTargets() - processed) / perSecond);
+        }
+
+        Double progressPercent;
+        if (job.getStatus() == GeocodingJobService.GeocodingJob.Status.COMPLETED) {
+            progressPercent = 100.0;
+        } else {
+            progressPercent = job.getTotalTargets() > 0
+                    ? Math.min(100.0, processed * 100.0 / job.getTotalTargets())
+                    : null;
+        }
+
+        return GeocodingJobDto.builder()
+                .id(job.getId())
+                .status(job.getStatus().name())
+                .totalTargets(job.getTotalTargets())
+                .processed(processed)
+                .succeeded(job.getSucceeded().get())
+                .failed(job.getFailed().get())
+                .retried(job.getRetried().get())
+                .cacheHits(job.getCacheHits().get())
+                .progressPercent(progressPercent)
+                .merchantsPerSecond(Math.round(perSecond * 10) / 10.0)
+                .rateLimitPerSecond(Math.round(job.getCurrentRate() * 10) / 10.0)
+                .etaSeconds(etaSeconds)
+                .errorSamples(List.copyOf(job.getErrorSamples()))
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
 }
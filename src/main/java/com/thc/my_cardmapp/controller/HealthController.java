@@ -2,6 +2,8 @@ package com.thc.my_cardmapp.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.thc.my_cardmapp.service.CacheService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,8 +18,11 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/v1")
 @Tag(name = "Health", description = "서버 상태 확인 API")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final CacheService cacheService;
+
     @Operation(summary = "Health Check", description = "서버 상태를 확인합니다 (UptimeRobot용)")
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
@@ -30,4 +35,10 @@ public class HealthController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "캐시 통계", description = "캐시별 크기, 로컬(L1) 적중률, Redis(L2) 적중/미스 횟수를 확인합니다")
+    @GetMapping("/health/cache")
+    public ResponseEntity<Map<String, Map<String, Object>>> cacheStatistics() {
+        return ResponseEntity.ok(cacheService.getCacheStatistics());
+    }
 }
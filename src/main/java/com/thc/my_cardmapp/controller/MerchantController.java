@@ -4,9 +4,17 @@ import com.thc.my_cardmapp.domain.Card;
 import com.thc.my_cardmapp.domain.Merchant;
 import com.thc.my_cardmapp.dto.CardDto;
 import com.thc.my_cardmapp.dto.CategoryDto;
+import com.thc.my_cardmapp.dto.CursorPageDto;
+import com.thc.my_cardmapp.dto.MerchantClusterDto;
 import com.thc.my_cardmapp.dto.MerchantDetailDto;
 import com.thc.my_cardmapp.dto.MerchantDto;
+import com.thc.my_cardmapp.dto.MerchantViewportDto;
+import com.thc.my_cardmapp.dto.SuggestionDto;
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
+import com.thc.my_cardmapp.service.MerchantEmbeddingService;
 import com.thc.my_cardmapp.service.MerchantService;
+import com.thc.my_cardmapp.service.RouteService;
+import com.thc.my_cardmapp.service.SuggestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,6 +38,9 @@ import java.util.stream.Collectors;
 public class MerchantController {
 
         private final MerchantService merchantService;
+        private final SuggestService suggestService;
+        private final RouteService routeService;
+        private final MerchantEmbeddingService merchantEmbeddingService;
 
         @Operation(summary = "모든 가맹점 조회", description = "모든 가맹점 목록을 페이지네이션하여 조회합니다")
         @GetMapping // GET - 모든 가맹점 조회
@@ -47,31 +59,155 @@ public class MerchantController {
                 return ResponseEntity.ok(merchantDtos);
         }
 
-        @Operation(summary = "위치 기반 가맹점 검색", description = "현재 위치 주변의 가맹점을 검색합니다")
+        @Operation(summary = "모든 가맹점 조회 (커서)", description = "모든 가맹점 목록을 커서 방식으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다")
+        @GetMapping("/cursor") // GET - 모든 가맹점 조회 (커서 페이지네이션)
+        public ResponseEntity<CursorPageDto<MerchantDto>> getAllMerchantsByCursor(
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+                        @Parameter(description = "전체 건수 추정치 포함 여부") @RequestParam(defaultValue = "false") boolean withTotal) {
+
+                log.info("모든 가맹점 조회(커서) - 크기: {}", size);
+
+                try {
+                        return ResponseEntity.ok(merchantService.getAllMerchants(cursor, size, withTotal).map(MerchantDto::from));
+                } catch (IllegalArgumentException e) {
+                        // 잘못된 커서
+                        return ResponseEntity.badRequest().build();
+                }
+        }
+
+        @Operation(summary = "위치 기반 가맹점 검색", description = "현재 위치 주변의 가맹점을 검색합니다. orderBy=eta 이면 가까운 후보(기본 30개)를 도보 소요 시간 순으로 재정렬하고, 시간 제한(기본 300ms) 안에 경로를 모두 구하지 못하면 거리순으로 반환합니다")
         @GetMapping("/nearby") // GET - 근처 가맹점 조회
         public ResponseEntity<List<MerchantDto>> findNearbyMerchants(
                         @Parameter(description = "위도", required = true, example = "37.5665") @RequestParam double lat,
                         @Parameter(description = "경도", required = true, example = "126.9780") @RequestParam double lng,
                         @Parameter(description = "검색 반경(미터)", example = "1000") @RequestParam(defaultValue = "1000") double radius,
-                        @Parameter(description = "카드 이름 목록", example = "아동급식카드,문화누리카드") @RequestParam(required = false) List<String> cardNames) {
+                        @Parameter(description = "카드 이름 목록", example = "아동급식카드,문화누리카드") @RequestParam(required = false) List<String> cardNames,
+                        @Parameter(description = "정렬 기준 (distance: 직선 거리, eta: 도보 소요 시간)", example = "distance") @RequestParam(defaultValue = "distance") String orderBy) {
+
+                log.info("위치 기반 검색 - 위도: {}, 경도: {}, 반경: {}m, 카드: {}, 정렬: {}", lat, lng, radius, cardNames, orderBy);
 
-                log.info("위치 기반 검색 - 위도: {}, 경도: {}, 반경: {}m, 카드: {}", lat, lng, radius, cardNames);
+                boolean orderByEta = "eta".equalsIgnoreCase(orderBy);
+                if (!orderByEta && !"distance".equalsIgnoreCase(orderBy)) {
+                        return ResponseEntity.badRequest().build();
+                }
 
-                List<Merchant> merchants;
+                // 경로 캐시가 이전 도착지를 담지 않도록 가맹점 조회 전에 변경 순번을 받음
+                long changeStamp = routeService.changeStamp();
+                List<MerchantNearbyView> merchants;
                 if (cardNames != null && !cardNames.isEmpty()) {
                         merchants = merchantService.findNearbyMerchantsByCards(lat, lng, radius, cardNames);
                 } else {
                         merchants = merchantService.findNearbyMerchants(lat, lng, radius);
                 }
 
-                // Entity를 DTO로 변환
+                // 도보 소요 시간 순 (시간 제한 안에 경로를 모두 구하지 못하면 거리순, 구한 경로는 포함)
+                if (orderByEta) {
+                        return ResponseEntity.ok(routeService.rankByTravelTime(lat, lng, merchants, changeStamp).stream()
+                                        .map(this::convertToDto)
+                                        .collect(Collectors.toList()));
+                }
+
+                // 프로젝션을 DTO로 변환 (거리 포함)
                 List<MerchantDto> merchantDtos = merchants.stream()
+                                .map(MerchantDto::from)
+                                .collect(Collectors.toList());
+
+                return ResponseEntity.ok(merchantDtos);
+        }
+
+        @Operation(summary = "위치 기반 가맹점 검색 (커서)", description = "현재 위치 주변의 가맹점을 거리순 커서 방식으로 조회합니다")
+        @GetMapping("/nearby/cursor") // GET - 근처 가맹점 조회 (커서 페이지네이션)
+        public ResponseEntity<CursorPageDto<MerchantDto>> findNearbyMerchantsByCursor(
+                        @Parameter(description = "위도", required = true, example = "37.5665") @RequestParam double lat,
+                        @Parameter(description = "경도", required = true, example = "126.9780") @RequestParam double lng,
+                        @Parameter(description = "검색 반경(미터)", example = "1000") @RequestParam(defaultValue = "1000") double radius,
+                        @Parameter(description = "카드 이름 목록", example = "아동급식카드,문화누리카드") @RequestParam(required = false) List<String> cardNames,
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+                log.info("위치 기반 검색(커서) - 위도: {}, 경도: {}, 반경: {}m, 카드: {}", lat, lng, radius, cardNames);
+
+                try {
+                        return ResponseEntity.ok(merchantService.findNearbyMerchants(lat, lng, radius, cardNames, cursor, size)
+                                        .map(MerchantDto::from));
+                } catch (IllegalArgumentException e) {
+                        // 잘못된 커서
+                        return ResponseEntity.badRequest().build();
+                }
+        }
+
+        @Operation(summary = "가장 가까운 가맹점 검색", description = "반경 제한 없이 현재 위치에서 가까운 순으로 N개의 가맹점을 검색합니다 (최대 100개)")
+        @GetMapping("/nearest") // GET - 가까운 순 N개 가맹점 조회
+        public ResponseEntity<List<MerchantDto>> findNearestMerchants(
+                        @Parameter(description = "위도", required = true, example = "37.5665") @RequestParam double lat,
+                        @Parameter(description = "경도", required = true, example = "126.9780") @RequestParam double lng,
+                        @Parameter(description = "조회 개수", example = "20") @RequestParam(defaultValue = "20") int limit,
+                        @Parameter(description = "카드 이름 목록", example = "아동급식카드,문화누리카드") @RequestParam(required = false) List<String> cardNames) {
+
+                log.info("최근접 검색 - 위도: {}, 경도: {}, 개수: {}, 카드: {}", lat, lng, limit, cardNames);
+
+                List<MerchantDto> merchantDtos = merchantService.findNearestMerchants(lat, lng, limit, cardNames).stream()
+                                .map(MerchantDto::from)
+                                .collect(Collectors.toList());
+
+                return ResponseEntity.ok(merchantDtos);
+        }
+
+        @Operation(summary = "가장 가까운 가맹점 + 도보 경로", description = "가까운 순 N개 가맹점(최대 100개)과 각 가맹점까지의 도보 거리/소요 시간을 함께 조회합니다. 캐시에 없는 경로만 경로 엔진으로 동시에 계산합니다")
+        @GetMapping("/nearest/routes") // GET - 가까운 순 N개 가맹점 + 도보 경로
+        public ResponseEntity<List<MerchantDto>> findNearestMerchantsWithRoutes(
+                        @Parameter(description = "위도", required = true, example = "37.5665") @RequestParam double lat,
+                        @Parameter(description = "경도", required = true, example = "126.9780") @RequestParam double lng,
+                        @Parameter(description = "조회 개수", example = "10") @RequestParam(defaultValue = "10") int limit,
+                        @Parameter(description = "카드 이름 목록", example = "아동급식카드,문화누리카드") @RequestParam(required = false) List<String> cardNames) {
+
+                log.info("최근접 + 도보 경로 검색 - 위도: {}, 경도: {}, 개수: {}, 카드: {}", lat, lng, limit, cardNames);
+
+                List<MerchantDto> merchantDtos = routeService.findNearestWithRoutes(lat, lng, limit, cardNames).stream()
                                 .map(this::convertToDto)
                                 .collect(Collectors.toList());
 
                 return ResponseEntity.ok(merchantDtos);
         }
 
+        @Operation(summary = "지도 영역 가맹점 조회", description = "지도 화면 영역의 가맹점을 조회합니다. 낮은 줌에서는 격자 클러스터(개수 + 중심 좌표)를, 높은 줌(16 이상)에서는 개별 가맹점을 반환합니다")
+        @GetMapping("/bbox") // GET - 지도 화면 영역 조회
+        public ResponseEntity<MerchantViewportDto> findMerchantsInViewport(
+                        @Parameter(description = "최소 위도", required = true, example = "37.55") @RequestParam double minLat,
+                        @Parameter(description = "최소 경도", required = true, example = "126.96") @RequestParam double minLng,
+                        @Parameter(description = "최대 위도", required = true, example = "37.58") @RequestParam double maxLat,
+                        @Parameter(description = "최대 경도", required = true, example = "127.00") @RequestParam double maxLng,
+                        @Parameter(description = "지도 줌 레벨", required = true, example = "14") @RequestParam int zoom) {
+
+                log.info("지도 영역 조회 - ({}, {}) ~ ({}, {}), 줌: {}", minLat, minLng, maxLat, maxLng, zoom);
+
+                MerchantService.ViewportResult result;
+                try {
+                        result = merchantService.findMerchantsInViewport(minLat, minLng, maxLat, maxLng, zoom);
+                } catch (IllegalArgumentException e) {
+                        // min 값이 max 값보다 작지 않은 영역
+                        return ResponseEntity.badRequest().build();
+                }
+
+                MerchantViewportDto dto = MerchantViewportDto.builder()
+                                .zoom(zoom)
+                                .clustered(result.isClustered())
+                                .clusters(result.getClusters().stream()
+                                                .map(cluster -> MerchantClusterDto.builder()
+                                                                .latitude(cluster.getLatitude())
+                                                                .longitude(cluster.getLongitude())
+                                                                .count(cluster.getCount())
+                                                                .build())
+                                                .collect(Collectors.toList()))
+                                .merchants(result.getMerchants().stream()
+                                                .map(MerchantDto::from)
+                                                .collect(Collectors.toList()))
+                                .build();
+
+                return ResponseEntity.ok(dto);
+        }
+
         @Operation(summary = "가맹점 검색", description = "키워드로 가맹점을 검색합니다")
         @GetMapping("/search") // GET - 근처 가맹점 검색
         public ResponseEntity<Page<MerchantDto>> searchMerchants(
@@ -92,6 +228,103 @@ public class MerchantController {
                 return ResponseEntity.ok(dtoResults);
         }
 
+        @Operation(summary = "검색어 자동완성", description = "가맹점/카드/카테고리 이름을 접두(자모 단위)로 찾아 인기순으로 반환합니다")
+        @GetMapping("/suggest") // GET - 검색어 자동완성
+        public ResponseEntity<List<SuggestionDto>> suggest(
+                        @Parameter(description = "입력 중인 검색어", required = true, example = "스탑") @RequestParam String q,
+                        @Parameter(description = "최대 개수 (최대 20)") @RequestParam(defaultValue = "10") int limit) {
+
+                List<SuggestionDto> suggestions = suggestService.suggest(q, limit).stream()
+                                .map(suggestion -> SuggestionDto.builder()
+                                                .type(suggestion.type().name())
+                                                .id(suggestion.refId())
+                                                .text(suggestion.text())
+                                                .build())
+                                .collect(Collectors.toList());
+
+                return ResponseEntity.ok(suggestions);
+        }
+
+        @Operation(summary = "가맹점 키워드 검색", description = "가맹점 이름/주소의 부분 일치로 검색하고 관련도순(이름 일치 > 이름 접두 > 이름 포함 > 주소 포함)으로 정렬합니다")
+        @GetMapping("/search/keyword") // GET - 키워드 관련도 검색
+        public ResponseEntity<Page<MerchantDto>> searchMerchantsByKeyword(
+                        @Parameter(description = "검색 키워드", required = true, example = "스타벅스") @RequestParam String q,
+                        @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+                        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+
+                log.info("가맹점 키워드 검색 - 키워드: {}", q);
+
+                Page<MerchantDto> dtoResults = merchantService.searchByKeyword(q, null, PageRequest.of(page, size))
+                                .map(MerchantDto::from);
+
+                return ResponseEntity.ok(dtoResults);
+        }
+
+        @Operation(summary = "가맹점 의미 검색", description = "검색어와 이름/카테고리가 비슷한 가맹점을 임베딩 유사도순으로 검색합니다 (최대 50개). lat/lng 를 함께 보내면 반경 안에서만 검색하고 거리를 포함합니다. 임베딩 인덱스 적재 전에는 503을 반환합니다")
+        @GetMapping("/search/semantic") // GET - 임베딩 유사도 검색
+        public ResponseEntity<List<MerchantDto>> searchMerchantsBySemantic(
+                        @Parameter(description = "검색어", required = true, example = "커피 전문점") @RequestParam String q,
+                        @Parameter(description = "조회 개수 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int limit,
+                        @Parameter(description = "위도 (위치 조건)", example = "37.5665") @RequestParam(required = false) Double lat,
+                        @Parameter(description = "경도 (위치 조건)", example = "126.9780") @RequestParam(required = false) Double lng,
+                        @Parameter(description = "검색 반경(미터, 위치 조건이 있을 때만)", example = "1000") @RequestParam(defaultValue = "1000") double radius) {
+
+                log.info("가맹점 의미 검색 - 검색어: {}, 위도: {}, 경도: {}, 반경: {}m", q, lat, lng, radius);
+
+                if (!merchantEmbeddingService.isReady()) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                }
+                try {
+                        return ResponseEntity.ok(merchantEmbeddingService.search(q, limit, lat, lng, radius).stream()
+                                        .map(this::convertToDto)
+                                        .collect(Collectors.toList()));
+                } catch (IllegalArgumentException e) {
+                        return ResponseEntity.badRequest().build();
+                }
+        }
+
+        @Operation(summary = "비슷한 가맹점 조회", description = "이름/카테고리 임베딩이 비슷한 가맹점을 유사도순으로 조회합니다 (자신 제외, 최대 50개). lat/lng 를 함께 보내면 반경 안에서만 찾습니다. 임베딩이 없는 가맹점은 404, 인덱스 적재 전에는 503을 반환합니다")
+        @GetMapping("/similar/{id}") // GET - 비슷한 가맹점 조회
+        public ResponseEntity<List<MerchantDto>> findSimilarMerchants(
+                        @Parameter(description = "가맹점 ID", required = true) @PathVariable Long id,
+                        @Parameter(description = "조회 개수 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int limit,
+                        @Parameter(description = "위도 (위치 조건)", example = "37.5665") @RequestParam(required = false) Double lat,
+                        @Parameter(description = "경도 (위치 조건)", example = "126.9780") @RequestParam(required = false) Double lng,
+                        @Parameter(description = "검색 반경(미터, 위치 조건이 있을 때만)", example = "1000") @RequestParam(defaultValue = "1000") double radius) {
+
+                if (!merchantEmbeddingService.isReady()) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                }
+                try {
+                        return ResponseEntity.ok(merchantEmbeddingService.findSimilar(id, limit, lat, lng, radius).stream()
+                                        .map(this::convertToDto)
+                                        .collect(Collectors.toList()));
+                } catch (IllegalArgumentException e) {
+                        return ResponseEntity.notFound().build();
+                }
+        }
+
+        @Operation(summary = "가맹점 검색 (커서)", description = "키워드/카드/카테고리로 가맹점을 커서 방식으로 검색합니다")
+        @GetMapping("/search/cursor") // GET - 가맹점 검색 (커서 페이지네이션)
+        public ResponseEntity<CursorPageDto<MerchantDto>> searchMerchantsByCursor(
+                        @Parameter(description = "검색 키워드", example = "편의점") @RequestParam(required = false) String keyword,
+                        @Parameter(description = "카드 ID") @RequestParam(required = false) Long cardId,
+                        @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId,
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+                        @Parameter(description = "전체 건수 포함 여부 (COUNT 쿼리 추가)") @RequestParam(defaultValue = "false") boolean withTotal) {
+
+                log.info("가맹점 검색(커서) - 키워드: {}, 카드ID: {}, 카테고리ID: {}", keyword, cardId, categoryId);
+
+                try {
+                        return ResponseEntity.ok(merchantService.searchMerchants(cardId, categoryId, keyword, cursor, size, withTotal)
+                                        .map(MerchantDto::from));
+                } catch (IllegalArgumentException e) {
+                        // 잘못된 커서
+                        return ResponseEntity.badRequest().build();
+                }
+        }
+
         @Operation(summary = "가맹점 상세 조회", description = "특정 가맹점의 상세 정보를 조회합니다")
         @GetMapping("/{id}") // GET - 가맹점 정보 상세 조회
         public ResponseEntity<MerchantDetailDto> getMerchantDetail(
@@ -167,6 +400,21 @@ public class MerchantController {
                                 .build();
         }
 
+        // 가맹점 + 도보 경로 DTO 변환 메서드
+        private MerchantDto convertToDto(RouteService.MerchantRoute merchantRoute) {
+                MerchantDto dto = MerchantDto.from(merchantRoute.merchant());
+                if (merchantRoute.route() != null) {
+                        dto.setRoute(RouteController.convertToDto(merchantRoute.route()));
+                }
+                return dto;
+        }
+
+        private MerchantDto convertToDto(MerchantEmbeddingService.SimilarMerchant similar) {
+                MerchantDto dto = MerchantDto.from(similar.merchant());
+                dto.setSimilarity(similar.score());
+                return dto;
+        }
+
         // DTO 클래스
         @lombok.Data
         static class MerchantCreateRequest {
@@ -0,0 +1,59 @@
+package com.thc.my_cardmapp.controller;
+
+import com.thc.my_cardmapp.dto.RouteDto;
+import com.thc.my_cardmapp.service.RouteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/routes")
+@RequiredArgsConstructor
+@Tag(name = "Route", description = "도보 경로 API")
+public class RouteController {
+
+    private final RouteService routeService;
+
+    @Operation(summary = "가맹점까지 도보 경로", description = "현재 위치에서 가맹점까지의 도보 거리, 소요 시간, 경로선(WKT)을 조회합니다. 근처(기본 100m)에서 계산한 경로가 있으면 재사용하고, 경로 엔진이 실패하면 직선 거리 기반 추정값(estimated=true)을 반환합니다")
+    @GetMapping("/merchants/{merchantId}")
+    public ResponseEntity<RouteDto> getRoute(
+            @Parameter(description = "가맹점 ID", required = true) @PathVariable Long merchantId,
+            @Parameter(description = "위도", required = true, example = "37.5665") @RequestParam double lat,
+            @Parameter(description = "경도", required = true, example = "126.9780") @RequestParam double lng) {
+
+        log.info("도보 경로 조회 - 가맹점: {}, 위도: {}, 경도: {}", merchantId, lat, lng);
+        try {
+            return ResponseEntity.ok(convertToDto(routeService.route(merchantId, lat, lng)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "경로 엔진/캐시 통계", description = "사용 중인 경로 엔진, 캐시 적중, 합쳐진 동시 요청, 테이블 기록 대기 수를 확인합니다")
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        return ResponseEntity.ok(routeService.getStatistics());
+    }
+
+    static RouteDto convertToDto(RouteService.RouteInfo route) {
+        return RouteDto.builder()
+                .merchantId(route.merchantId())
+                .distanceM(route.distanceM())
+                .travelTimeS(route.travelTimeS())
+                .path(route.path())
+                .cached(route.cached())
+                .estimated(route.estimated())
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.thc.my_cardmapp.controller;
+
+import com.thc.my_cardmapp.service.MerchantTileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tiles")
+@RequiredArgsConstructor
+@Tag(name = "Tile", description = "지도 벡터 타일 API")
+public class TileController {
+
+    private static final MediaType MVT_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    private final MerchantTileService merchantTileService;
+
+    @Operation(summary = "가맹점 벡터 타일", description = "가맹점 위치를 Mapbox Vector Tile(레이어: merchants)로 반환합니다. 피처 속성: id, name, category, cards(카드명 JSON 배열 문자열)")
+    @GetMapping("/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getMerchantTile(
+            @Parameter(description = "줌 레벨", required = true, example = "14") @PathVariable int z,
+            @Parameter(description = "타일 X", required = true, example = "13970") @PathVariable int x,
+            @Parameter(description = "타일 Y", required = true, example = "6344") @PathVariable int y,
+            @Parameter(description = "카드 이름 목록", example = "아동급식카드,문화누리카드") @RequestParam(required = false) List<String> cardNames,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        log.debug("타일 요청 - {}/{}/{}, 카드: {}", z, x, y, cardNames);
+
+        MerchantTileService.Tile tile;
+        try {
+            tile = merchantTileService.getTile(z, x, y, cardNames);
+        } catch (IllegalArgumentException e) {
+            // 범위 밖 줌 레벨 또는 타일 좌표
+            return ResponseEntity.badRequest().build();
+        }
+        CacheControl cacheControl = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
+        // 클라이언트 캐시와 동일하면 본문 없이 304
+        if (tile.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(tile.getEtag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MVT_MEDIA_TYPE)
+                .eTag(tile.getEtag())
+                .cacheControl(cacheControl)
+                .body(tile.getData());
+    }
+}
@@ -0,0 +1,74 @@
+package com.thc.my_cardmapp.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 문자셋 추정 (CsvReader 가 지원하는 ASCII 호환 문자셋 기준)
+ * - UTF-8 BOM 이 있거나 앞부분이 올바른 UTF-8 이면 UTF-8, 아니면 기본 문자셋 (공공데이터는 대부분 EUC-KR)
+ * - UTF-16 BOM 은 지원하지 않음
+ */
+public final class CsvCharsetDetector {
+
+    private static final int SAMPLE_SIZE = 64 * 1024;
+
+    private CsvCharsetDetector() {
+    }
+
+    /**
+     * 스트림 앞부분으로 문자셋 추정 (스트림은 호출 측에서 닫음)
+     */
+    public static Charset detect(InputStream in, Charset fallback) throws IOException {
+        byte[] sample = in.readNBytes(SAMPLE_SIZE);
+        return detect(sample, sample.length, fallback, sample.length < SAMPLE_SIZE);
+    }
+
+    /**
+     * @param complete sample 이 데이터 전체이면 true (끝이 잘린 멀티바이트 문자를 오류로 봄)
+     */
+    public static Charset detect(byte[] sample, int length, Charset fallback, boolean complete) {
+        if (length >= 3 && sample[0] == (byte) 0xEF && sample[1] == (byte) 0xBB && sample[2] == (byte) 0xBF) {
+            return StandardCharsets.UTF_8;
+        }
+        if (length >= 2 && ((sample[0] == (byte) 0xFE && sample[1] == (byte) 0xFF)
+                || (sample[0] == (byte) 0xFF && sample[1] == (byte) 0xFE))) {
+            throw new IllegalArgumentException("UTF-16 CSV 는 지원하지 않습니다");
+        }
+
+        boolean ascii = true;
+        for (int i = 0; i < length; i++) {
+            if (sample[i] < 0) {
+                ascii = false;
+                break;
+            }
+        }
+        // ASCII 만 있으면 어느 쪽으로 읽어도 같음
+        if (ascii) {
+            return fallback;
+        }
+        return isUtf8(sample, length, complete) ? StandardCharsets.UTF_8 : fallback;
+    }
+
+    // Helper Methods
+
+    private static boolean isUtf8(byte[] sample, int length, boolean complete) {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ByteBuffer in = ByteBuffer.wrap(sample, 0, length);
+        CharBuffer out = CharBuffer.allocate(length);
+        CoderResult result = decoder.decode(in, out, complete);
+        if (result.isError()) {
+            return false;
+        }
+        // 샘플 끝에서 잘린 문자는 최대 3바이트까지 허용
+        return complete ? !in.hasRemaining() : in.remaining() <= 3;
+    }
+}
@@ -0,0 +1,459 @@
+package com.thc.my_cardmapp.csv;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * RFC 4180 스트리밍 CSV 리더
+ * - 구분자/따옴표/줄바꿈은 바이트 단위로 찾고 필드는 처음 요청할 때 레코드 단위로 디코딩
+ *   (ASCII 호환 문자셋 전용 - UTF-8, EUC-KR, CP949 는 멀티바이트 안에 해당 바이트가 나오지 않음)
+ * - 따옴표 필드 안의 쉼표, 줄바꿈, "" 이스케이프 처리 (닫는 따옴표 뒤 문자는 그대로 이어 붙임)
+ * - 바이트/문자 버퍼와 필드 슬라이스를 재사용하므로 레코드당 할당 없음 (getString 제외)
+ * - getOffset() 은 다음 레코드의 바이트 위치 (임포트 체크포인트용)
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    // null 이면 전체 데이터가 buffer 에 있음 (메모리 매핑 또는 in-memory)
+    private final ReadableByteChannel channel;
+    private final Closeable resource;
+    private final CharsetDecoder decoder;
+    private final boolean utf8;
+
+    private ByteBuffer buffer;
+    private ByteBuffer decodeView;
+    private int limit;
+    private boolean eof;
+    // buffer 0번 위치의 파일 내 바이트 위치
+    private long bufferOffset;
+
+    private int recordStart;
+    private int recordEnd;
+    private long recordNumber;
+
+    // 현재 레코드 필드 (buffer 기준 원본 범위, 따옴표 여부)
+    private int fieldCount;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private boolean[] fieldQuoted = new boolean[16];
+
+    // 디코딩 결과 (레코드 단위, 필드는 chars 의 구간)
+    private boolean decoded;
+    private CharBuffer chars = CharBuffer.allocate(1024);
+    private int[] charStarts = new int[16];
+    private int[] charEnds = new int[16];
+    private Slice[] slices = new Slice[16];
+    private byte[] unescaped = new byte[256];
+    private ByteBuffer unescapedView = ByteBuffer.wrap(unescaped);
+
+    private CsvReader(ReadableByteChannel channel, Closeable resource, ByteBuffer buffer, int limit, boolean eof,
+                      long startOffset, Charset charset) {
+        this.channel = channel;
+        this.resource = resource;
+        this.buffer = buffer;
+        this.decodeView = buffer.duplicate();
+        this.limit = limit;
+        this.eof = eof;
+        this.bufferOffset = startOffset;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.utf8 = StandardCharsets.UTF_8.equals(charset);
+    }
+
+    /**
+     * 파일에서 읽기
+     * @param startOffset 이어서 읽을 바이트 위치 (처음부터면 0, 레코드 시작 위치여야 함)
+     * @param memoryMapped true 면 파일을 메모리 매핑 (2GB 초과 시 스트리밍으로 대체)
+     */
+    public static CsvReader open(Path path, Charset charset, long startOffset, boolean memoryMapped) throws IOException {
+        FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = fileChannel.size();
+            if (startOffset > size) {
+                throw new EOFException("시작 위치가 파일 크기를 넘습니다: " + startOffset);
+            }
+            if (memoryMapped && size - startOffset <= Integer.MAX_VALUE) {
+                ByteBuffer mapped = fileChannel.map(FileChannel.MapMode.READ_ONLY, startOffset, size - startOffset);
+                return new CsvReader(null, fileChannel, mapped, mapped.limit(), true, startOffset, charset).skipBom();
+            }
+            fileChannel.position(startOffset);
+            return new CsvReader(fileChannel, fileChannel, ByteBuffer.allocate(DEFAULT_BUFFER_SIZE), 0, false,
+                    startOffset, charset).skipBom();
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 스트림에서 읽기 (startOffset 만큼 건너뛴 뒤 시작)
+     */
+    public static CsvReader open(InputStream in, Charset charset, long startOffset) throws IOException {
+        return open(in, charset, startOffset, DEFAULT_BUFFER_SIZE);
+    }
+
+    static CsvReader open(InputStream in, Charset charset, long startOffset, int bufferSize) throws IOException {
+        try {
+            skipFully(in, startOffset);
+            ReadableByteChannel streamChannel = Channels.newChannel(in);
+            return new CsvReader(streamChannel, in, ByteBuffer.allocate(bufferSize), 0, false,
+                    startOffset, charset).skipBom();
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 메모리에 있는 데이터에서 읽기 (position ~ limit 구간)
+     */
+    public static CsvReader of(ByteBuffer data, Charset charset) {
+        ByteBuffer slice = data.slice();
+        try {
+            return new CsvReader(null, null, slice, slice.limit(), true, 0, charset).skipBom();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 다음 레코드로 이동 (없으면 false)
+     */
+    public boolean next() throws IOException {
+        recordStart = recordEnd;
+        decoded = false;
+        while (true) {
+            int end = scanRecord(recordStart);
+            if (end >= 0) {
+                recordEnd = end;
+                recordNumber++;
+                return true;
+            }
+            if (eof) {
+                fieldCount = 0;
+                return false;
+            }
+            fill();
+        }
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * 디코딩된 필드 (재사용 슬라이스, 다음 next() 호출 전까지만 유효)
+     */
+    public CharSequence getField(int index) {
+        checkIndex(index);
+        decodeRecord();
+        Slice slice = slices[index];
+        if (slice == null) {
+            slice = new Slice();
+            slices[index] = slice;
+        }
+        slice.start = charStarts[index];
+        slice.end = charEnds[index];
+        return slice;
+    }
+
+    public String getString(int index) {
+        checkIndex(index);
+        decodeRecord();
+        return new String(chars.array(), charStarts[index], charEnds[index] - charStarts[index]);
+    }
+
+    /**
+     * 현재 레코드 원문 (줄바꿈 제외, 오류 로그용)
+     */
+    public String getRecordText() {
+        int end = recordEnd;
+        while (end > recordStart && (buffer.get(end - 1) == LF || buffer.get(end - 1) == CR)) {
+            end--;
+        }
+        byte[] raw = new byte[end - recordStart];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = buffer.get(recordStart + i);
+        }
+        return new String(raw, decoder.charset());
+    }
+
+    /**
+     * 지금까지 읽은 레코드 수 (헤더 포함)
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * 현재 레코드 다음의 바이트 위치
+     */
+    public long getOffset() {
+        return bufferOffset + recordEnd;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (resource != null) {
+            resource.close();
+        }
+    }
+
+    // Helper Methods
+
+    /**
+     * recordStart 부터 레코드 하나를 찾아 필드 범위를 기록
+     * @return 레코드 다음 위치, 데이터가 더 필요하면 -1
+     */
+    private int scanRecord(int start) {
+        if (start >= limit && eof) {
+            return -1;
+        }
+        fieldCount = 0;
+        int i = start;
+        while (true) {
+            int fieldStart = i;
+            boolean quoted = false;
+
+            if (i < limit && buffer.get(i) == QUOTE) {
+                quoted = true;
+                i++;
+                while (true) {
+                    if (i >= limit) {
+                        if (!eof) {
+                            return -1;
+                        }
+                        break; // 닫히지 않은 따옴표는 끝까지 필드
+                    }
+                    if (buffer.get(i) == QUOTE) {
+                        if (i + 1 >= limit && !eof) {
+                            return -1; // "" 이스케이프인지 알 수 없음
+                        }
+                        if (i + 1 < limit && buffer.get(i + 1) == QUOTE) {
+                            i += 2;
+                            continue;
+                        }
+                        i++;
+                        break;
+                    }
+                    i++;
+                }
+            }
+
+            while (i < limit) {
+                byte b = buffer.get(i);
+                if (b == COMMA || b == LF || b == CR) {
+                    break;
+                }
+                i++;
+            }
+            addField(fieldStart, i, quoted);
+
+            if (i >= limit) {
+                return eof ? i : -1;
+            }
+            byte b = buffer.get(i);
+            if (b == COMMA) {
+                i++;
+                continue;
+            }
+            if (b == LF) {
+                return i + 1;
+            }
+            // CR 또는 CRLF
+            if (i + 1 < limit) {
+                return buffer.get(i + 1) == LF ? i + 2 : i + 1;
+            }
+            return eof ? i + 1 : -1;
+        }
+    }
+
+    private void addField(int start, int end, boolean quoted) {
+        if (fieldCount == fieldStarts.length) {
+            int capacity = fieldCount * 2;
+            fieldStarts = Arrays.copyOf(fieldStarts, capacity);
+            fieldEnds = Arrays.copyOf(fieldEnds, capacity);
+            fieldQuoted = Arrays.copyOf(fieldQuoted, capacity);
+            charStarts = Arrays.copyOf(charStarts, capacity);
+            charEnds = Arrays.copyOf(charEnds, capacity);
+            slices = Arrays.copyOf(slices, capacity);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldQuoted[fieldCount] = quoted;
+        fieldCount++;
+    }
+
+    /**
+     * 현재 레코드 앞의 데이터를 버리고 버퍼를 채움 (레코드가 버퍼보다 크면 버퍼 확장)
+     */
+    private void fill() throws IOException {
+        if (recordStart > 0) {
+            buffer.limit(limit).position(recordStart);
+            buffer.compact();
+            bufferOffset += recordStart;
+            limit -= recordStart;
+            recordEnd -= recordStart;
+            recordStart = 0;
+        }
+        if (limit == buffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.limit(limit).position(0);
+            larger.put(buffer);
+            buffer = larger;
+            decodeView = buffer.duplicate();
+        }
+        buffer.limit(buffer.capacity()).position(limit);
+        int read = channel.read(buffer);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    private CsvReader skipBom() throws IOException {
+        if (bufferOffset != 0 || !utf8) {
+            return this;
+        }
+        while (limit < 3 && !eof) {
+            fill();
+        }
+        if (limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+            recordEnd = 3;
+        }
+        return this;
+    }
+
+    private void decodeRecord() {
+        if (decoded) {
+            return;
+        }
+        while (!tryDecodeRecord()) {
+            chars = CharBuffer.allocate(chars.capacity() * 2);
+        }
+        decoded = true;
+    }
+
+    /**
+     * 레코드의 모든 필드를 chars 에 디코딩 (공간이 부족하면 false)
+     */
+    private boolean tryDecodeRecord() {
+        chars.clear();
+        for (int f = 0; f < fieldCount; f++) {
+            ByteBuffer in;
+            if (fieldQuoted[f]) {
+                in = unescape(fieldStarts[f], fieldEnds[f]);
+            } else {
+                decodeView.limit(fieldEnds[f]).position(fieldStarts[f]);
+                in = decodeView;
+            }
+            charStarts[f] = chars.position();
+            decoder.reset();
+            CoderResult result = decoder.decode(in, chars, true);
+            if (result.isOverflow() || decoder.flush(chars).isOverflow()) {
+                return false;
+            }
+            charEnds[f] = chars.position();
+        }
+        return true;
+    }
+
+    /**
+     * 따옴표 필드 원본에서 감싼 따옴표와 "" 이스케이프 제거
+     */
+    private ByteBuffer unescape(int start, int end) {
+        if (unescaped.length < end - start) {
+            unescaped = new byte[Math.max(end - start, unescaped.length * 2)];
+            unescapedView = ByteBuffer.wrap(unescaped);
+        }
+        int length = 0;
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == QUOTE) {
+                if (inQuotes && i + 1 < end && buffer.get(i + 1) == QUOTE) {
+                    unescaped[length++] = QUOTE;
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else {
+                unescaped[length++] = b;
+            }
+        }
+        unescapedView.limit(length).position(0);
+        return unescapedView;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("필드 번호 " + index + " (필드 수 " + fieldCount + ")");
+        }
+    }
+
+    private static void skipFully(InputStream in, long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                // skip 을 지원하지 않는 스트림은 읽어서 버림
+                if (in.read() < 0) {
+                    throw new EOFException("시작 위치가 파일 크기를 넘습니다: " + count);
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * 디코딩된 필드 구간 (chars 를 직접 참조)
+     */
+    private final class Slice implements CharSequence {
+
+        private int start;
+        private int end;
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars.get(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return CharBuffer.wrap(chars.array(), start + from, to - from);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars.array(), start, end - start);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.thc.my_cardmapp.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -24,5 +25,6 @@ public class Category {
     // 관계 매핑
     @OneToMany(mappedBy = "category")
     @Builder.Default
+    @JsonIgnore // 캐시 직렬화 시 지연 로딩 컬렉션 제외
     private List<Merchant> merchants = new ArrayList<>();
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.thc.my_cardmapp.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "geocode_cache")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeocodeCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 주소 키 (AddressNormalizer.cacheKey 결과, 고유 인덱스)
+    @Column(name = "address_key", nullable = false, columnDefinition = "TEXT")
+    private String addressKey;
+
+    // false 면 결과 없음 (좌표 null)
+    @Column(nullable = false)
+    private boolean found;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    // 결과를 준 지오코딩 서비스 (NAVER, GOOGLE)
+    @Column(length = 20)
+    private String provider;
+
+    // 0 ~ 1 (서비스별 정확도 정보를 환산, 결과 없음이면 null)
+    private Double confidence;
+
+    @Column(name = "cached_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime cachedAt;
+}
@@ -0,0 +1,88 @@
+package com.thc.my_cardmapp.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * CSV 임포트 작업 (청크 커밋마다 체크포인트 갱신, 재기동 시 byteOffset 부터 이어서 실행)
+ */
+@Entity
+@Table(name = "import_job")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_path", nullable = false, columnDefinition = "TEXT")
+    private String filePath;
+
+    // 처리할 최대 데이터 라인 수 (0이면 전체)
+    @Column(name = "line_limit", nullable = false)
+    private int lineLimit;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportJobStatus status;
+
+    // 파일 크기 (ETA 계산용, 알 수 없으면 -1)
+    @Column(name = "total_bytes", nullable = false)
+    private long totalBytes;
+
+    // 체크포인트: 마지막으로 커밋된 청크 다음 라인의 바이트 위치와 그때까지 읽은 데이터 라인 수
+    @Column(name = "byte_offset", nullable = false)
+    private long byteOffset;
+
+    @Column(name = "lines_read", nullable = false)
+    private long linesRead;
+
+    // 적재 행 = 추가 + 갱신 + 변경 없음
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+
+    @Column(name = "inserted_rows", nullable = false)
+    private long insertedRows;
+
+    @Column(name = "updated_rows", nullable = false)
+    private long updatedRows;
+
+    @Column(name = "unchanged_rows", nullable = false)
+    private long unchangedRows;
+
+    // 파일 전체 적재 후 파일에 없어 폐업 처리한 가맹점 수
+    @Column(name = "closed_rows", nullable = false)
+    private long closedRows;
+
+    @Column(name = "skipped_rows", nullable = false)
+    private long skippedRows;
+
+    // 오류 라인 샘플 (줄바꿈 구분, 최대 개수 제한)
+    @Column(name = "error_samples", columnDefinition = "TEXT")
+    private String errorSamples;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    // 이번 실행 시작 시점과 그때의 체크포인트 (처리 속도 계산용)
+    @Column(name = "run_started_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "run_start_offset", nullable = false)
+    private long runStartOffset;
+
+    @Column(name = "run_start_lines", nullable = false)
+    private long runStartLines;
+
+    // 진행 중 작업의 생존 신호 (오래되면 중단된 작업으로 보고 재개)
+    @Column(name = "heartbeat_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,15 @@
+package com.thc.my_cardmapp.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImportJobStatus {
+    QUEUED("대기"),
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String displayName;
+}
@@ -3,13 +3,16 @@ package com.thc.my_cardmapp.domain;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 import org.locationtech.jts.geom.Point;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "merchant")
+@SQLRestriction("closed_at IS NULL")  // 폐업 처리된 가맹점 제외
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,6 +46,21 @@ public class Merchant {
     @JoinColumn(name = "category_id")
     private Category category;
 
+    // CSV 임포트 식별 키 (정규화한 이름 + 주소의 SHA-256, 고유 인덱스)
+    @Column(name = "natural_key", length = 64)
+    @JsonIgnore
+    private String naturalKey;
+
+    // CSV 임포트 내용 해시 (같으면 갱신 생략)
+    @Column(name = "content_hash", length = 64)
+    @JsonIgnore
+    private String contentHash;
+
+    // 최신 CSV 에 없어 폐업 처리된 시각 (null 이면 영업 중)
+    @Column(name = "closed_at", columnDefinition = "TIMESTAMP")
+    @JsonIgnore
+    private LocalDateTime closedAt;
+
     // 관계 매핑
     @OneToMany(mappedBy = "merchant", cascade = CascadeType.ALL)
     @Builder.Default
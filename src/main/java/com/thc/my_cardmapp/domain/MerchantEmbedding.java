@@ -4,6 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
+/**
+ * 가맹점 임베딩 (가맹점 ID 를 그대로 키로 사용)
+ * - 벡터는 float32 little-endian 연속 배열 (VectorCodec)
+ * - sourceHash 가 현재 이름/카테고리로 만든 값과 다르면 다시 계산
+ */
 @Entity
 @Table(name = "merchant_embedding")
 @Getter @Setter
@@ -13,13 +18,23 @@ import java.time.LocalDateTime;
 public class MerchantEmbedding {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "merchant_id")
     private Long merchantId;
 
-    @Column(columnDefinition = "TEXT")
-    private String embedding;
+    // 기존 TEXT 컬럼(embedding)은 data.sql 에서 삭제
+    @Column(name = "vector", columnDefinition = "BYTEA")
+    private byte[] vector;
+
+    // 임베딩 방식 (TextEmbedder.getName)
+    @Column(length = 40)
+    private String model;
+
+    private Integer dimension;
+
+    // 임베딩 방식 + 입력 텍스트의 SHA-256
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash;
 
     @Column(name = "updated_at", columnDefinition = "TIMESTAMP")
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+}
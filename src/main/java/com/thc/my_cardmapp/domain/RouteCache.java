@@ -20,6 +20,10 @@ public class RouteCache {
     @Column(columnDefinition = "geography(Point, 4326)")
     private Point origin;
 
+    // 출발지 격자 셀 (geohash, (merchant_id, origin_cell) 고유 인덱스로 조회)
+    @Column(name = "origin_cell", length = 12)
+    private String originCell;
+
     @Column(columnDefinition = "geography(Point, 4326)")
     private Point dest;
 
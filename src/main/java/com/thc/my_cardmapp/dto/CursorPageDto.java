@@ -0,0 +1,28 @@
+package com.thc.my_cardmapp.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 커서(keyset) 기반 페이지 - nextCursor 를 다음 요청의 cursor 로 전달
+@Data
+@Builder
+public class CursorPageDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalCount;          // 요청한 경우에만 채워짐
+    private Boolean totalApproximate; // true 면 통계 기반 추정치
+
+    public <R> CursorPageDto<R> map(Function<T, R> converter) {
+        return CursorPageDto.<R>builder()
+                .content(content.stream().map(converter).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(totalCount)
+                .totalApproximate(totalApproximate)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.thc.my_cardmapp.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class GeocodingJobDto {
+    private Long id;
+    private String status;              // RUNNING, COMPLETED, FAILED, CANCELLED
+    private Long totalTargets;          // 시작 시점의 좌표 없는 가맹점 수
+    private Long processed;
+    private Long succeeded;
+    private Long failed;
+    private Long retried;               // 429/5xx 재시도 횟수
+    private Long cacheHits;             // 캐시로 처리 (API 호출 없음)
+    private Double progressPercent;
+    private Double merchantsPerSecond;
+    private Double rateLimitPerSecond;  // 현재 요청 속도 제한 (제한 초과 응답 시 낮아짐)
+    private Long etaSeconds;            // 진행 중이 아니거나 계산 불가면 null
+    private List<String> errorSamples;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,33 @@
+package com.thc.my_cardmapp.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class ImportJobDto {
+    private Long id;
+    private String filePath;
+    private String status;          // QUEUED, RUNNING, COMPLETED, FAILED
+    private Integer lineLimit;      // 0이면 전체
+    private Long totalBytes;        // 알 수 없으면 -1
+    private Long byteOffset;        // 마지막 체크포인트
+    private Double progressPercent;
+    private Long linesRead;
+    private Long importedRows;      // 추가 + 갱신 + 변경 없음
+    private Long insertedRows;
+    private Long updatedRows;
+    private Long unchangedRows;     // 내용 해시가 같아 갱신 생략
+    private Long closedRows;        // 파일에 없어 폐업 처리 (전체 적재 시)
+    private Long skippedRows;
+    private Double rowsPerSecond;   // 이번 실행 기준
+    private Long etaSeconds;        // 진행 중이 아니거나 계산 불가면 null
+    private List<String> errorSamples;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime runStartedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,12 @@
+package com.thc.my_cardmapp.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MerchantClusterDto {
+    private Double latitude;
+    private Double longitude;
+    private Long count;
+}
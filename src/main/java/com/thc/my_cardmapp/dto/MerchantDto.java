@@ -1,5 +1,6 @@
 package com.thc.my_cardmapp.dto;
 
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
 import lombok.Builder;
 import lombok.Data;
 import java.util.List;
@@ -17,4 +18,26 @@ public class MerchantDto {
     private CategoryDto category;
     private List<CardDto> availableCards;
     private Double distance;
+    private RouteDto route;             // 도보 경로 (경로 포함 조회에서만, 그 외 null)
+    private Double similarity;          // 유사도 (유사 가맹점/의미 검색에서만, 코사인 유사도)
+
+    /**
+     * 가맹점 조회 프로젝션 → DTO (SQL 에서 계산한 거리 포함)
+     */
+    public static MerchantDto from(MerchantNearbyView view) {
+        return MerchantDto.builder()
+                .id(view.getId())
+                .name(view.getName())
+                .address(view.getAddress())
+                .latitude(view.getLatitude())
+                .longitude(view.getLongitude())
+                .phone(view.getPhone())
+                .businessHours(view.getBusinessHours())
+                .category(view.getCategoryId() != null ? CategoryDto.builder()
+                        .id(view.getCategoryId())
+                        .name(view.getCategoryName())
+                        .build() : null)
+                .distance(view.getDistance())
+                .build();
+    }
 }
\ No newline at end of file
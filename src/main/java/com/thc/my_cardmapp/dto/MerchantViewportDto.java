@@ -0,0 +1,15 @@
+package com.thc.my_cardmapp.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+// 지도 화면 영역 조회 결과 - clustered=true 면 clusters, 아니면 merchants 가 채워짐
+@Data
+@Builder
+public class MerchantViewportDto {
+    private Integer zoom;
+    private Boolean clustered;
+    private List<MerchantClusterDto> clusters;
+    private List<MerchantDto> merchants;
+}
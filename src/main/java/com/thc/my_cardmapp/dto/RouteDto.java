@@ -0,0 +1,15 @@
+package com.thc.my_cardmapp.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RouteDto {
+    private Long merchantId;
+    private Integer distanceM;          // 도보 거리 (m)
+    private Integer travelTimeS;        // 도보 소요 시간 (초)
+    private String path;                // 경로선 WKT (LINESTRING, 경도 위도 순)
+    private Boolean cached;             // 경로 캐시에서 가져왔는지
+    private Boolean estimated;          // 경로 엔진 실패로 직선 거리 기반 추정값인지
+}
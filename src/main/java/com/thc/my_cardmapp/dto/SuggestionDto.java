@@ -0,0 +1,12 @@
+package com.thc.my_cardmapp.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SuggestionDto {
+    private String type;   // CARD, CATEGORY, MERCHANT
+    private Long id;
+    private String text;
+}
@@ -0,0 +1,103 @@
+package com.thc.my_cardmapp.embedding;
+
+import com.thc.my_cardmapp.index.HnswIndex;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 해시 기반 오프라인 임베딩 (외부 API/모델 없음, 결정적)
+ * - 토큰(공백/기호 구분)과 토큰 내 글자 bigram 을 해시해 차원에 부호와 함께 누적 (feature hashing)
+ * - 글자 bigram 으로 "스타벅스 강남점" 과 "스타벅스" 처럼 일부만 같은 이름도 가깝게
+ * - 의미가 아니라 표기 유사도이므로 모델 기반 임베딩 전까지의 대체 구현
+ */
+public class HashingTextEmbedder implements TextEmbedder {
+
+    private static final long TOKEN_SEED = 0xcbf29ce484222325L;
+    private static final long BIGRAM_SEED = 0x84222325cbf29ce4L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final float BIGRAM_WEIGHT = 0.5f;
+    private static final float SLOT_WEIGHT = (float) Math.sqrt(0.5);
+
+    private final int dimension;
+    private final String name;
+
+    public HashingTextEmbedder(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("차원은 0보다 커야 합니다: " + dimension);
+        }
+        this.dimension = dimension;
+        // 차원이 바뀌면 저장된 벡터와 호환되지 않으므로 이름에 포함
+        this.name = "hash-v2-" + dimension;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean tokenChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                addToken(vector, normalized, start, i);
+                start = -1;
+            }
+        }
+
+        HnswIndex.normalize(vector);
+        return vector;
+    }
+
+    // Helper Methods
+
+    private void addToken(float[] vector, String text, int start, int end) {
+        add(vector, hash(text, start, end, TOKEN_SEED), 1f);
+        for (int i = start; i + 2 <= end; i++) {
+            add(vector, hash(text, i, i + 2, BIGRAM_SEED), BIGRAM_WEIGHT);
+        }
+    }
+
+    /**
+     * 특징 하나를 두 차원에 나눠 누적 (한 차원의 해시 충돌이 유사도를 좌우하지 않도록)
+     * - 해시 하위 32비트/상위 32비트로 각각 차원, 비트 31/63 으로 부호 결정 (충돌이 서로 상쇄되도록)
+     */
+    private void add(float[] vector, long hash, float weight) {
+        float half = weight * SLOT_WEIGHT;
+        int low = (int) hash;
+        int high = (int) (hash >>> 32);
+        vector[Integer.remainderUnsigned(low, dimension)] += low < 0 ? -half : half;
+        vector[Integer.remainderUnsigned(high, dimension)] += high < 0 ? -half : half;
+    }
+
+    /**
+     * FNV-1a 64비트 + 최종 섞기 (seed 로 토큰/bigram 구분)
+     */
+    private static long hash(String text, int start, int end, long seed) {
+        long h = seed;
+        for (int i = start; i < end; i++) {
+            h ^= text.charAt(i);
+            h *= FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
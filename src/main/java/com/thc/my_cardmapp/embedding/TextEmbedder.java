@@ -0,0 +1,38 @@
+package com.thc.my_cardmapp.embedding;
+
+import com.thc.my_cardmapp.index.HnswIndex;
+
+/**
+ * 텍스트 → 벡터 임베딩 (오프라인 해시 임베딩, 필요하면 모델 기반 구현으로 교체)
+ * - 결과는 L2 정규화된 float[] (빈 텍스트는 0 벡터)
+ * - 같은 입력이면 항상 같은 벡터 (저장된 임베딩을 이름으로 구분해 재사용)
+ */
+public interface TextEmbedder {
+
+    /**
+     * 임베딩 방식 식별자 (merchant_embedding.model 에 저장, 다르면 다시 계산)
+     */
+    String getName();
+
+    int getDimension();
+
+    float[] embed(String text);
+
+    /**
+     * 여러 필드의 가중 합 (필드별 임베딩에 가중치를 곱해 더한 뒤 정규화)
+     */
+    default float[] embed(String[] fields, float[] weights) {
+        float[] sum = new float[getDimension()];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null || fields[i].isBlank()) {
+                continue;
+            }
+            float[] vector = embed(fields[i]);
+            for (int d = 0; d < sum.length; d++) {
+                sum[d] += vector[d] * weights[i];
+            }
+        }
+        HnswIndex.normalize(sum);
+        return sum;
+    }
+}
@@ -0,0 +1,32 @@
+package com.thc.my_cardmapp.embedding;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * float[] ↔ byte[] 변환 (merchant_embedding.embedding BYTEA, float32 little-endian 연속 배열)
+ */
+public final class VectorCodec {
+
+    private VectorCodec() {
+    }
+
+    public static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    /**
+     * @throws IllegalArgumentException 길이가 dimension 과 맞지 않을 때
+     */
+    public static float[] decode(byte[] bytes, int dimension) {
+        if (bytes == null || bytes.length != dimension * Float.BYTES) {
+            throw new IllegalArgumentException("임베딩 길이가 차원과 맞지 않습니다: "
+                    + (bytes == null ? 0 : bytes.length) + "바이트 (차원: " + dimension + ")");
+        }
+        float[] vector = new float[dimension];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
@@ -0,0 +1,28 @@
+package com.thc.my_cardmapp.event;
+
+import lombok.Getter;
+import org.locationtech.jts.geom.Point;
+
+import java.util.List;
+
+/**
+ * 가맹점 위치/정보 변경 이벤트
+ * 트랜잭션 커밋 후 인메모리 인덱스 등 파생 데이터 갱신에 사용
+ */
+@Getter
+public class MerchantChangedEvent {
+
+    private final List<Long> merchantIds;
+
+    // 위치가 바뀐 가맹점의 변경 전 좌표 (이전 위치 기준 캐시 무효화용)
+    private final List<Point> previousLocations;
+
+    public MerchantChangedEvent(List<Long> merchantIds) {
+        this(merchantIds, List.of());
+    }
+
+    public MerchantChangedEvent(List<Long> merchantIds, List<Point> previousLocations) {
+        this.merchantIds = merchantIds;
+        this.previousLocations = previousLocations;
+    }
+}
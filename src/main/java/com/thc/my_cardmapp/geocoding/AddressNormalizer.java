@@ -0,0 +1,254 @@
+package com.thc.my_cardmapp.geocoding;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 지오코딩용 주소 정규화
+ * - clean: 상세 주소(동/호수, 층수, 괄호 내용) 제거 (이전 cleanAddress 와 같은 결과, 패턴은 미리 컴파일)
+ * - parse: 도로명/지번 주소를 시도·시군구·도로명(동)·건물번호(번지)로 분리
+ * - cacheKey: 분리 가능하면 표준 형태 키 ("서울" → "서울특별시", 상세 주소 제외), 아니면 정제한 주소
+ */
+@Component
+public class AddressNormalizer {
+
+    // 1. 동호수 (예: ", 102동 204호")
+    private static final Pattern UNIT_DONG_HO = Pattern.compile(",\\s*\\d+동\\s*\\d+호");
+    // 2. 층호수 (예: ", 2층 202호")
+    private static final Pattern UNIT_FLOOR_HO = Pattern.compile(",\\s*\\d+층\\s*\\d+호");
+    // 3. 단독 동 (예: ", 102동")
+    private static final Pattern UNIT_DONG = Pattern.compile(",\\s*\\d+동");
+    // 4. 단독 호수 (예: ", 202호")
+    private static final Pattern UNIT_HO = Pattern.compile(",\\s*\\d+호");
+    // 5. 층수 (예: ", 2층")
+    private static final Pattern UNIT_FLOOR = Pattern.compile(",\\s*\\d+층");
+    // 6. 괄호 안 내용 (예: " (구산동,갈현현대아파트)")
+    private static final Pattern PARENTHESES = Pattern.compile("\\s*\\([^)]*\\)");
+    // 8. 끝 쉼표
+    private static final Pattern TRAILING_COMMA = Pattern.compile(",$");
+
+    // 시도 약칭 → 공식 명칭
+    private static final Map<String, String> SIDO = Map.ofEntries(
+            Map.entry("서울", "서울특별시"), Map.entry("서울시", "서울특별시"), Map.entry("서울특별시", "서울특별시"),
+            Map.entry("부산", "부산광역시"), Map.entry("부산시", "부산광역시"), Map.entry("부산광역시", "부산광역시"),
+            Map.entry("대구", "대구광역시"), Map.entry("대구시", "대구광역시"), Map.entry("대구광역시", "대구광역시"),
+            Map.entry("인천", "인천광역시"), Map.entry("인천시", "인천광역시"), Map.entry("인천광역시", "인천광역시"),
+            Map.entry("광주", "광주광역시"), Map.entry("광주광역시", "광주광역시"),
+            Map.entry("대전", "대전광역시"), Map.entry("대전시", "대전광역시"), Map.entry("대전광역시", "대전광역시"),
+            Map.entry("울산", "울산광역시"), Map.entry("울산시", "울산광역시"), Map.entry("울산광역시", "울산광역시"),
+            Map.entry("세종", "세종특별자치시"), Map.entry("세종시", "세종특별자치시"), Map.entry("세종특별자치시", "세종특별자치시"),
+            Map.entry("경기", "경기도"), Map.entry("경기도", "경기도"),
+            Map.entry("강원", "강원특별자치도"), Map.entry("강원도", "강원특별자치도"), Map.entry("강원특별자치도", "강원특별자치도"),
+            Map.entry("충북", "충청북도"), Map.entry("충청북도", "충청북도"),
+            Map.entry("충남", "충청남도"), Map.entry("충청남도", "충청남도"),
+            Map.entry("전북", "전북특별자치도"), Map.entry("전라북도", "전북특별자치도"), Map.entry("전북특별자치도", "전북특별자치도"),
+            Map.entry("전남", "전라남도"), Map.entry("전라남도", "전라남도"),
+            Map.entry("경북", "경상북도"), Map.entry("경상북도", "경상북도"),
+            Map.entry("경남", "경상남도"), Map.entry("경상남도", "경상남도"),
+            Map.entry("제주", "제주특별자치도"), Map.entry("제주도", "제주특별자치도"), Map.entry("제주특별자치도", "제주특별자치도"));
+
+    /**
+     * 주소 정제 (상세 주소 제거, 공백 정리)
+     * - 단계별 결과가 이전 구현과 같도록 순서 유지, 해당 문자가 없는 단계는 건너뜀
+     */
+    public String clean(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            return address;
+        }
+
+        String cleaned = address;
+
+        // 1~5. 쉼표 뒤 동/층/호수
+        if (cleaned.indexOf(',') >= 0) {
+            boolean dong = cleaned.indexOf('동') >= 0;
+            boolean floor = cleaned.indexOf('층') >= 0;
+            boolean ho = cleaned.indexOf('호') >= 0;
+            if (dong && ho) {
+                cleaned = UNIT_DONG_HO.matcher(cleaned).replaceAll("");
+            }
+            if (floor && ho) {
+                cleaned = UNIT_FLOOR_HO.matcher(cleaned).replaceAll("");
+            }
+            if (dong) {
+                cleaned = UNIT_DONG.matcher(cleaned).replaceAll("");
+            }
+            if (ho) {
+                cleaned = UNIT_HO.matcher(cleaned).replaceAll("");
+            }
+            if (floor) {
+                cleaned = UNIT_FLOOR.matcher(cleaned).replaceAll("");
+            }
+        }
+
+        // 6. 괄호 안 내용
+        if (cleaned.indexOf('(') >= 0) {
+            cleaned = PARENTHESES.matcher(cleaned).replaceAll("");
+        }
+
+        // 7. 다중 공백을 단일 공백으로
+        cleaned = collapseWhitespace(cleaned).trim();
+
+        // 8. 끝 쉼표 (줄 끝 문자 앞 쉼표 포함)
+        if (cleaned.lastIndexOf(',') >= cleaned.length() - 2) {
+            cleaned = TRAILING_COMMA.matcher(cleaned).replaceAll("");
+        }
+
+        return cleaned;
+    }
+
+    /**
+     * 정제한 주소를 구성 요소로 분리 (시도와 도로명+건물번호 또는 동+번지를 찾지 못하면 empty)
+     */
+    public Optional<ParsedAddress> parse(String cleaned) {
+        if (cleaned == null || cleaned.isEmpty()) {
+            return Optional.empty();
+        }
+        String[] tokens = cleaned.split(" ");
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = stripTrailingComma(tokens[i]);
+        }
+
+        int i = 0;
+        String sido = SIDO.get(tokens[i]);
+        if (sido == null) {
+            return Optional.empty();
+        }
+        i++;
+
+        // 시군구 (일반구가 있는 시는 "수원시 장안구" 처럼 두 단어, 세종은 없음)
+        String sigungu = null;
+        if (i < tokens.length && isSigungu(tokens[i])) {
+            sigungu = tokens[i++];
+            if (sigungu.endsWith("시") && i < tokens.length && isSigungu(tokens[i]) && tokens[i].endsWith("구")) {
+                sigungu += " " + tokens[i++];
+            }
+        }
+        if (i >= tokens.length) {
+            return Optional.empty();
+        }
+
+        // 도로명 주소: 도로명 [지하] 건물번호
+        if (isRoadName(tokens[i])) {
+            String road = tokens[i++];
+            boolean underground = i < tokens.length && tokens[i].equals("지하");
+            if (underground) {
+                i++;
+            }
+            int[] number = i < tokens.length ? parseNumber(tokens[i]) : null;
+            if (number == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new ParsedAddress(ParsedAddress.Type.ROAD, sido, sigungu, road,
+                    underground, number[0], number[1]));
+        }
+
+        // 지번 주소: [읍/면] 동/리/가 [산]번지
+        StringBuilder locality = new StringBuilder();
+        if (tokens[i].endsWith("읍") || tokens[i].endsWith("면")) {
+            locality.append(tokens[i++]).append(' ');
+        }
+        if (i >= tokens.length || !isLocality(tokens[i])) {
+            return Optional.empty();
+        }
+        locality.append(tokens[i++]);
+
+        // 산번지 ("산 12" 또는 "산12")
+        boolean mountain = i < tokens.length && tokens[i].startsWith("산");
+        String lot = null;
+        if (mountain) {
+            lot = tokens[i].length() > 1 ? tokens[i].substring(1) : i + 1 < tokens.length ? tokens[i + 1] : null;
+        } else if (i < tokens.length) {
+            lot = tokens[i];
+        }
+        int[] number = lot != null ? parseNumber(lot) : null;
+        if (number == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ParsedAddress(ParsedAddress.Type.LOT, sido, sigungu, locality.toString(),
+                mountain, number[0], number[1]));
+    }
+
+    /**
+     * 캐시/중복 판단용 키 (표준 형태 키, 분리할 수 없으면 정제한 주소)
+     */
+    public String cacheKey(String cleaned) {
+        return parse(cleaned).map(ParsedAddress::key).orElse(cleaned);
+    }
+
+    // Helper Methods
+
+    /**
+     * replaceAll("\\s+", " ") 와 같은 결과 (\\s 는 공백, 탭, 줄바꿈, 수직 탭, 폼 피드, 캐리지 리턴)
+     */
+    private static String collapseWhitespace(String value) {
+        StringBuilder result = null;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isWhitespace(c) || (c == ' ' && (i + 1 == length || !isWhitespace(value.charAt(i + 1))))) {
+                if (result != null) {
+                    result.append(c);
+                }
+                continue;
+            }
+            if (result == null) {
+                result = new StringBuilder(length).append(value, 0, i);
+            }
+            result.append(' ');
+            while (i + 1 < length && isWhitespace(value.charAt(i + 1))) {
+                i++;
+            }
+        }
+        return result != null ? result.toString() : value;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static String stripTrailingComma(String token) {
+        return token.endsWith(",") ? token.substring(0, token.length() - 1) : token;
+    }
+
+    private static boolean isSigungu(String token) {
+        return token.length() >= 2 && (token.endsWith("시") || token.endsWith("군") || token.endsWith("구"));
+    }
+
+    private static boolean isRoadName(String token) {
+        return token.length() >= 2 && (token.endsWith("로") || token.endsWith("길"));
+    }
+
+    private static boolean isLocality(String token) {
+        return token.length() >= 2 && (token.endsWith("동") || token.endsWith("리") || token.endsWith("가"));
+    }
+
+    /**
+     * "143-48", "12번지", "21대도빌딩" → {본번, 부번} (숫자로 시작하지 않으면 null, 숫자 뒤 건물명 등은 무시)
+     */
+    private static int[] parseNumber(String token) {
+        int mainEnd = digitsEnd(token, 0);
+        if (mainEnd == 0 || mainEnd > 9) {
+            return null;
+        }
+        int main = Integer.parseInt(token, 0, mainEnd, 10);
+        int sub = 0;
+        if (mainEnd < token.length() && token.charAt(mainEnd) == '-') {
+            int subEnd = digitsEnd(token, mainEnd + 1);
+            if (subEnd > mainEnd + 1 && subEnd - mainEnd - 1 <= 9) {
+                sub = Integer.parseInt(token, mainEnd + 1, subEnd, 10);
+            }
+        }
+        return new int[]{main, sub};
+    }
+
+    private static int digitsEnd(String value, int start) {
+        int i = start;
+        while (i < value.length() && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,21 @@
+package com.thc.my_cardmapp.geocoding;
+
+/**
+ * 주소 → 좌표 변환 서비스 (Naver, Google, 오프라인 스텁)
+ * - 주소는 호출 측에서 정제해서 전달, 캐시는 호출 측 책임
+ * - 예외 대신 GeocodingResult 로 실패를 알림 (한도 초과/서버 오류는 retryable)
+ */
+public interface GeocodingProvider {
+
+    /**
+     * 결과에 기록되는 서비스 이름 (geocoding.providers 설정과 같은 값)
+     */
+    String getName();
+
+    /**
+     * API 키 등 호출에 필요한 설정이 있는지
+     */
+    boolean isEnabled();
+
+    GeocodingResult geocode(String address);
+}
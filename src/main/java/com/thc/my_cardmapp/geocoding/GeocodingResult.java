@@ -0,0 +1,58 @@
+package com.thc.my_cardmapp.geocoding;
+
+import lombok.Getter;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * 지오코딩 결과
+ * - FOUND: 좌표 있음, NOT_FOUND: 정상 응답이지만 결과 없음 (캐시 가능), ERROR: 호출 실패
+ */
+@Getter
+public class GeocodingResult {
+
+    public enum Status { FOUND, NOT_FOUND, ERROR }
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private final Status status;
+    private final double latitude;
+    private final double longitude;
+    private final Point point;
+    private final String provider;
+    private final Double confidence;    // 0 ~ 1, FOUND 일 때만
+    private final String errorMessage;
+    private final boolean retryable;    // 429/5xx/연결 오류 (다시 시도하면 성공할 수 있음)
+
+    private GeocodingResult(Status status, double latitude, double longitude, Point point, String provider,
+                            Double confidence, String errorMessage, boolean retryable) {
+        this.status = status;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.point = point;
+        this.provider = provider;
+        this.confidence = confidence;
+        this.errorMessage = errorMessage;
+        this.retryable = retryable;
+    }
+
+    public static GeocodingResult found(String provider, double latitude, double longitude, double confidence) {
+        // PostGIS Point 생성 (경도, 위도 순서 주의!)
+        Point point = geometryFactory.createPoint(new Coordinate(longitude, latitude));
+        return new GeocodingResult(Status.FOUND, latitude, longitude, point, provider, confidence, null, false);
+    }
+
+    public static GeocodingResult notFound(String provider, String message) {
+        return new GeocodingResult(Status.NOT_FOUND, 0, 0, null, provider, null, message, false);
+    }
+
+    public static GeocodingResult error(String provider, String message, boolean retryable) {
+        return new GeocodingResult(Status.ERROR, 0, 0, null, provider, null, message, retryable);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.FOUND;
+    }
+}
@@ -0,0 +1,238 @@
+package com.thc.my_cardmapp.geocoding;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 지오코딩 서비스를 순서대로 시도하는 라우터
+ * - 실패하거나 결과가 없으면 다음 서비스로 대체
+ * - 헤징: 첫 서비스가 최근 지연시간 백분위를 넘기도록 응답이 없으면 다음 서비스에도 요청하고 먼저 찾은 결과 사용
+ * - 서비스별 최근 성공률과 p95 지연시간으로 순서를 조정 (표본이 모이기 전에는 설정 순서)
+ */
+@Slf4j
+public class GeocodingRouter implements AutoCloseable {
+
+    // 지연시간 100ms 를 성공률 1%p 로 환산해 점수 계산
+    private static final double LATENCY_PENALTY_PER_MS = 0.0001;
+
+    private final List<GeocodingProvider> providers;
+    private final Map<String, ProviderStats> stats = new LinkedHashMap<>();
+    private final Settings settings;
+    private final ExecutorService executor;
+
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * @param providers 설정 순서대로 (사용 가능한 서비스만)
+     */
+    public GeocodingRouter(List<GeocodingProvider> providers, Settings settings) {
+        this.providers = List.copyOf(providers);
+        this.settings = settings;
+        for (GeocodingProvider provider : this.providers) {
+            stats.put(provider.getName(), new ProviderStats());
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "geocoding-call-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 정제한 주소 지오코딩
+     * - 찾으면 FOUND, 시도한 서비스가 모두 결과 없음이면 NOT_FOUND, 그 외는 ERROR (하나라도 재시도 가능하면 retryable)
+     */
+    public GeocodingResult geocode(String address) throws InterruptedException {
+        List<GeocodingProvider> ordered = rankedProviders();
+        if (ordered.isEmpty()) {
+            return GeocodingResult.error(null, "사용 가능한 지오코딩 서비스가 없습니다", false);
+        }
+
+        List<GeocodingResult> failures = new ArrayList<>();
+        int index = 0;
+        while (index < ordered.size()) {
+            GeocodingProvider primary = ordered.get(index);
+            GeocodingProvider backup = settings.hedgeEnabled() && index + 1 < ordered.size()
+                    ? ordered.get(index + 1)
+                    : null;
+
+            List<GeocodingResult> results = backup == null
+                    ? List.of(call(primary, address))
+                    : callHedged(primary, backup, address);
+            index += results.size();
+
+            for (GeocodingResult result : results) {
+                if (result.isSuccess()) {
+                    return result;
+                }
+                failures.add(result);
+            }
+        }
+        return combineFailures(failures);
+    }
+
+    /**
+     * 현재 시도 순서 (점수 높은 순, 같으면 설정 순서)
+     */
+    public List<GeocodingProvider> rankedProviders() {
+        for (GeocodingProvider provider : providers) {
+            if (stats.get(provider.getName()).getSamples() < settings.minSamples()) {
+                return providers;
+            }
+        }
+        List<GeocodingProvider> ranked = new ArrayList<>(providers);
+        ranked.sort(Comparator.comparingDouble((GeocodingProvider provider) -> score(provider)).reversed());
+        return ranked;
+    }
+
+    /**
+     * 서비스별 통계 (순서는 현재 시도 순서)
+     */
+    public List<Map<String, Object>> getProviderStats() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (GeocodingProvider provider : rankedProviders()) {
+            ProviderStats providerStats = stats.get(provider.getName());
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("provider", provider.getName());
+            entry.put("calls", providerStats.getTotalCalls());
+            entry.put("samples", providerStats.getSamples());
+            entry.put("successRate", Math.round(providerStats.getSuccessRate() * 1000) / 1000.0);
+            entry.put("p50LatencyMs", providerStats.getLatencyPercentileMillis(50));
+            entry.put("p95LatencyMs", providerStats.getLatencyPercentileMillis(95));
+            result.add(entry);
+        }
+        return result;
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Helper Methods
+
+    /**
+     * 첫 서비스가 헤징 지연 안에 끝나면 그 결과 하나, 아니면 두 서비스의 결과 (찾은 결과가 나오면 그 시점까지)
+     * - 늦게 끝난 요청은 취소하지 않음 (통계가 실제 지연시간을 반영하도록)
+     */
+    private List<GeocodingResult> callHedged(GeocodingProvider primary, GeocodingProvider backup, String address)
+            throws InterruptedException {
+        CompletionService<GeocodingResult> completion = new ExecutorCompletionService<>(executor);
+        Future<GeocodingResult> first = completion.submit(() -> call(primary, address));
+
+        Future<GeocodingResult> done = completion.poll(hedgeDelayMillis(primary), TimeUnit.MILLISECONDS);
+        if (done != null) {
+            return List.of(resultOf(done, primary));
+        }
+
+        hedges.increment();
+        completion.submit(() -> call(backup, address));
+        List<GeocodingResult> results = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            Future<GeocodingResult> next = completion.take();
+            GeocodingResult result = resultOf(next, next == first ? primary : backup);
+            results.add(result);
+            if (result.isSuccess()) {
+                if (next != first) {
+                    hedgeWins.increment();
+                }
+                break;
+            }
+        }
+        return results;
+    }
+
+    private GeocodingResult call(GeocodingProvider provider, String address) {
+        long start = System.nanoTime();
+        GeocodingResult result;
+        try {
+            result = provider.geocode(address);
+        } catch (RuntimeException e) {
+            log.warn("지오코딩 서비스 오류: {} - {}", provider.getName(), e.getMessage());
+            result = GeocodingResult.error(provider.getName(), e.getMessage(), true);
+        }
+        stats.get(provider.getName()).record(result.isSuccess(), System.nanoTime() - start);
+        return result;
+    }
+
+    private long hedgeDelayMillis(GeocodingProvider primary) {
+        ProviderStats primaryStats = stats.get(primary.getName());
+        if (primaryStats.getSamples() < settings.minSamples()) {
+            return settings.initialHedgeDelayMs();
+        }
+        return Math.max(settings.minHedgeDelayMs(),
+                primaryStats.getLatencyPercentileMillis(settings.hedgePercentile()));
+    }
+
+    private double score(GeocodingProvider provider) {
+        ProviderStats providerStats = stats.get(provider.getName());
+        return providerStats.getSuccessRate()
+                - providerStats.getLatencyPercentileMillis(95) * LATENCY_PENALTY_PER_MS;
+    }
+
+    private static GeocodingResult resultOf(Future<GeocodingResult> future, GeocodingProvider provider)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return GeocodingResult.error(provider.getName(), e.getCause().getMessage(), true);
+        }
+    }
+
+    private static GeocodingResult combineFailures(List<GeocodingResult> failures) {
+        boolean allNotFound = true;
+        boolean retryable = false;
+        for (GeocodingResult failure : failures) {
+            allNotFound &= failure.getStatus() == GeocodingResult.Status.NOT_FOUND;
+            retryable |= failure.isRetryable();
+        }
+        GeocodingResult last = failures.get(failures.size() - 1);
+        if (allNotFound) {
+            return last;
+        }
+        StringBuilder message = new StringBuilder();
+        for (GeocodingResult failure : failures) {
+            if (!message.isEmpty()) {
+                message.append("; ");
+            }
+            message.append(failure.getProvider()).append(": ").append(failure.getErrorMessage());
+        }
+        return GeocodingResult.error(last.getProvider(), message.toString(), retryable);
+    }
+
+    /**
+     * 라우터 설정
+     * @param hedgeEnabled 헤징 사용 여부
+     * @param hedgePercentile 헤징 기준 지연시간 백분위 (예: 95)
+     * @param initialHedgeDelayMs 표본이 모이기 전 헤징 지연
+     * @param minHedgeDelayMs 헤징 지연 하한 (빠른 서비스에 불필요한 중복 요청 방지)
+     * @param minSamples 순서 조정/백분위 사용에 필요한 서비스별 최소 표본 수
+     */
+    public record Settings(boolean hedgeEnabled, double hedgePercentile, long initialHedgeDelayMs,
+                           long minHedgeDelayMs, int minSamples) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.thc.my_cardmapp.geocoding;
+
+/**
+ * 구성 요소로 분리한 주소 (AddressNormalizer.parse)
+ * @param type 도로명 / 지번
+ * @param sido 시도 공식 명칭 (예: 서울특별시)
+ * @param sigungu 시군구 (세종 등 없으면 null, 일반구는 "수원시 장안구")
+ * @param street 도로명 (예: 왕십리로31길) 또는 [읍/면] 동/리 (예: 역삼동)
+ * @param special 도로명은 지하 건물, 지번은 산번지
+ * @param mainNumber 건물 본번 / 번지 본번
+ * @param subNumber 부번 (없으면 0)
+ */
+public record ParsedAddress(Type type, String sido, String sigungu, String street, boolean special,
+                            int mainNumber, int subNumber) {
+
+    public enum Type { ROAD, LOT }
+
+    /**
+     * 표준 형태 키 (예: "서울특별시 성동구 왕십리로31길 10-1", "서울특별시 강남구 역삼동 산12")
+     */
+    public String key() {
+        StringBuilder key = new StringBuilder(48).append(sido).append(' ');
+        if (sigungu != null) {
+            key.append(sigungu).append(' ');
+        }
+        key.append(street).append(' ');
+        if (special) {
+            key.append(type == Type.ROAD ? "지하 " : "산");
+        }
+        key.append(mainNumber);
+        if (subNumber > 0) {
+            key.append('-').append(subNumber);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.thc.my_cardmapp.geocoding;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지오코딩 서비스별 최근 호출 통계 (최근 WINDOW 건 기준 성공률, 지연시간 백분위)
+ */
+public final class ProviderStats {
+
+    static final int WINDOW = 200;
+
+    private final long[] latencies = new long[WINDOW];
+    private final boolean[] outcomes = new boolean[WINDOW];
+    private int size;
+    private int next;
+    private int successes;
+    private long totalCalls;
+
+    /**
+     * @param success 좌표를 찾았으면 true
+     */
+    public synchronized void record(boolean success, long latencyNanos) {
+        if (size == WINDOW) {
+            if (outcomes[next]) {
+                successes--;
+            }
+        } else {
+            size++;
+        }
+        latencies[next] = latencyNanos;
+        outcomes[next] = success;
+        if (success) {
+            successes++;
+        }
+        next = (next + 1) % WINDOW;
+        totalCalls++;
+    }
+
+    public synchronized int getSamples() {
+        return size;
+    }
+
+    public synchronized long getTotalCalls() {
+        return totalCalls;
+    }
+
+    /**
+     * 최근 성공률 (기록 없으면 1)
+     */
+    public synchronized double getSuccessRate() {
+        return size == 0 ? 1.0 : (double) successes / size;
+    }
+
+    /**
+     * 최근 지연시간 백분위 (ms, 기록 없으면 0)
+     * @param percentile 0 ~ 100
+     */
+    public synchronized long getLatencyPercentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, Math.min(size - 1, index))]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.thc.my_cardmapp.geocoding;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오프라인 개발/테스트용 지오코딩 (외부 API 호출 없음)
+ * - FOUND 모드는 주소 해시로 서울 영역 안의 좌표를 만듦 (같은 주소는 항상 같은 좌표, 실제 위치와 무관)
+ * - NOT_FOUND / ERROR 모드와 지연시간으로 대체 경로와 헤징을 재현
+ */
+public class StubGeocodingProvider implements GeocodingProvider {
+
+    // 서울 영역 (minLat, minLng, maxLat, maxLng)
+    private static final double MIN_LAT = 37.41;
+    private static final double MIN_LNG = 126.76;
+    private static final double MAX_LAT = 37.72;
+    private static final double MAX_LNG = 127.19;
+
+    private final String name;
+    private final long latencyMs;
+    private final GeocodingResult.Status mode;
+
+    public StubGeocodingProvider(String name, long latencyMs, GeocodingResult.Status mode) {
+        this.name = name;
+        this.latencyMs = latencyMs;
+        this.mode = mode;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public GeocodingResult geocode(String address) {
+        if (latencyMs > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return GeocodingResult.error(name, "interrupted", true);
+            }
+        }
+        if (mode == GeocodingResult.Status.ERROR) {
+            return GeocodingResult.error(name, "stub error", true);
+        }
+        if (mode == GeocodingResult.Status.NOT_FOUND || address == null || address.isBlank()) {
+            return GeocodingResult.notFound(name, "No results found: stub");
+        }
+
+        long hash = mix(address.hashCode());
+        double latFraction = (hash >>> 32) / (double) (1L << 32);
+        double lngFraction = (hash & 0xffffffffL) / (double) (1L << 32);
+        return GeocodingResult.found(name,
+                MIN_LAT + (MAX_LAT - MIN_LAT) * latFraction,
+                MIN_LNG + (MAX_LNG - MIN_LNG) * lngFraction,
+                1.0);
+    }
+
+    // Helper Methods
+
+    /**
+     * 비슷한 주소도 좌표가 고르게 퍼지도록 해시 섞기 (splitmix64)
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,92 @@
+package com.thc.my_cardmapp.index;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카드별 사용 가능 가맹점 비트맵 인덱스
+ * - 카드명 → 가맹점 ID 압축 비트맵(RoaringBitmap)
+ * - 다중 카드 필터는 비트맵 OR 연산으로 처리
+ */
+public class CardMembershipIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> bitmapsByCard = new HashMap<>();
+
+    public void add(String cardName, long merchantId) {
+        lock.writeLock().lock();
+        try {
+            bitmapsByCard.computeIfAbsent(cardName, k -> new RoaringBitmap()).add(toIndex(merchantId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가맹점의 카드 목록을 통째로 교체 (기존 카드 비트맵에서 모두 제거 후 재등록)
+     */
+    public void replaceMerchant(long merchantId, Collection<String> cardNames) {
+        int index = toIndex(merchantId);
+        lock.writeLock().lock();
+        try {
+            bitmapsByCard.values().forEach(bitmap -> bitmap.remove(index));
+            for (String cardName : cardNames) {
+                bitmapsByCard.computeIfAbsent(cardName, k -> new RoaringBitmap()).add(index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 카드 중 하나라도 사용 가능한 가맹점 집합 (복사본 반환)
+     */
+    public RoaringBitmap union(Collection<String> cardNames) {
+        RoaringBitmap result = new RoaringBitmap();
+        lock.readLock().lock();
+        try {
+            for (String cardName : cardNames) {
+                RoaringBitmap bitmap = bitmapsByCard.get(cardName);
+                if (bitmap != null) {
+                    result.or(bitmap);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public int count(String cardName) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmapsByCard.get(cardName);
+            return bitmap != null ? bitmap.getCardinality() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 완료 후 메모리 압축 (run-length 컨테이너 변환)
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            bitmapsByCard.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 비트맵은 int 범위만 지원하므로 가맹점 ID를 int로 변환
+     */
+    public static int toIndex(long merchantId) {
+        return Math.toIntExact(merchantId);
+    }
+}
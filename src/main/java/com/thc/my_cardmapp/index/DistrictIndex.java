@@ -0,0 +1,133 @@
+package com.thc.my_cardmapp.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 행정구역 경계 인메모리 인덱스 (점 → 구역 이름)
+ * - 구역 외곽 사각형을 STRtree 에 넣어 후보를 좁힌 뒤 PreparedGeometry 로 포함 여부 판정
+ * - 생성 후 변경하지 않으므로 동시에 조회 가능
+ */
+public class DistrictIndex {
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private final STRtree tree = new STRtree();
+    private final int size;
+
+    public DistrictIndex(List<District> districts) {
+        for (District district : districts) {
+            tree.insert(district.geometry().getEnvelopeInternal(),
+                    new Entry(district.name(), PreparedGeometryFactory.prepare(district.geometry())));
+        }
+        // 조회 시 지연 생성되지 않도록 미리 구성 (동시 조회 대비)
+        tree.build();
+        this.size = districts.size();
+    }
+
+    /**
+     * GeoJSON FeatureCollection 에서 생성 (WGS84 경위도, Polygon/MultiPolygon 만 사용)
+     * @param nameProperty 구역 이름이 들어 있는 properties 키 (예: SIG_KOR_NM, adm_nm)
+     */
+    public static DistrictIndex fromGeoJson(InputStream in, String nameProperty) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(in);
+        JsonNode features = root.path("features");
+        if (!features.isArray()) {
+            throw new IllegalArgumentException("GeoJSON FeatureCollection 이 아닙니다");
+        }
+
+        List<District> districts = new ArrayList<>();
+        for (JsonNode feature : features) {
+            String name = feature.path("properties").path(nameProperty).asText(null);
+            Geometry geometry = toGeometry(feature.path("geometry"));
+            if (name != null && geometry != null) {
+                districts.add(new District(name, geometry));
+            }
+        }
+        return new DistrictIndex(districts);
+    }
+
+    /**
+     * 좌표가 속한 구역 이름 (없으면 null, 경계 위의 점은 맞닿은 구역 중 하나)
+     */
+    public String find(double lat, double lng) {
+        Point point = geometryFactory.createPoint(new Coordinate(lng, lat));
+        @SuppressWarnings("unchecked")
+        List<Entry> candidates = tree.query(new Envelope(lng, lng, lat, lat));
+        for (Entry candidate : candidates) {
+            if (candidate.geometry().covers(point)) {
+                return candidate.name();
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Helper Methods
+
+    private static Geometry toGeometry(JsonNode geometry) {
+        JsonNode coordinates = geometry.path("coordinates");
+        return switch (geometry.path("type").asText("")) {
+            case "Polygon" -> coordinates.isEmpty() ? null : toPolygon(coordinates);
+            case "MultiPolygon" -> {
+                List<Polygon> polygons = new ArrayList<>();
+                for (JsonNode polygon : coordinates) {
+                    if (!polygon.isEmpty()) {
+                        polygons.add(toPolygon(polygon));
+                    }
+                }
+                yield polygons.isEmpty() ? null : geometryFactory.createMultiPolygon(polygons.toArray(new Polygon[0]));
+            }
+            default -> null;
+        };
+    }
+
+    /**
+     * [외곽 링, 구멍 링...] → Polygon
+     */
+    private static Polygon toPolygon(JsonNode rings) {
+        LinearRing shell = toRing(rings.get(0));
+        LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 1; i < rings.size(); i++) {
+            holes[i - 1] = toRing(rings.get(i));
+        }
+        return geometryFactory.createPolygon(shell, holes);
+    }
+
+    private static LinearRing toRing(JsonNode positions) {
+        Coordinate[] coordinates = new Coordinate[positions.size()];
+        for (int i = 0; i < coordinates.length; i++) {
+            JsonNode position = positions.get(i);
+            coordinates[i] = new Coordinate(position.get(0).asDouble(), position.get(1).asDouble());
+        }
+        return geometryFactory.createLinearRing(coordinates);
+    }
+
+    /**
+     * 이름이 붙은 구역 경계
+     */
+    public record District(String name, Geometry geometry) {
+    }
+
+    private record Entry(String name, PreparedGeometry geometry) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.thc.my_cardmapp.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geohash 인코딩 및 셀 크기 계산 (결과 캐시의 좌표 양자화용)
+ */
+public final class GeoHash {
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final int MAX_PRECISION = 12;
+    private static final double METERS_PER_DEGREE = 111_320d;
+
+    private GeoHash() {
+    }
+
+    /**
+     * 좌표를 지정한 자릿수의 geohash 로 변환
+     */
+    public static String encode(double lat, double lng, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("geohash 자릿수는 1~" + MAX_PRECISION + " 이어야 합니다: " + precision);
+        }
+
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int value = 0;
+
+        while (sb.length() < precision) {
+            // 짝수 번째 비트는 경도, 홀수 번째 비트는 위도
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    value = (value << 1) | 1;
+                    minLng = mid;
+                } else {
+                    value <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    value = (value << 1) | 1;
+                    minLat = mid;
+                } else {
+                    value <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                sb.append(BASE32.charAt(value));
+                bit = 0;
+                value = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * geohash 셀 중심 좌표 {위도, 경도}
+     */
+    public static double[] decodeCenter(String geohash) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        boolean evenBit = true;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            int value = BASE32.indexOf(geohash.charAt(i));
+            if (value < 0) {
+                throw new IllegalArgumentException("잘못된 geohash 입니다: " + geohash);
+            }
+            for (int shift = 4; shift >= 0; shift--) {
+                boolean set = ((value >> shift) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (set) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{(minLat + maxLat) / 2, (minLng + maxLng) / 2};
+    }
+
+    /**
+     * 셀 높이 (위도, 도)
+     */
+    public static double cellHeightDeg(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    /**
+     * 셀 너비 (경도, 도)
+     */
+    public static double cellWidthDeg(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    /**
+     * 좌표에서 반경(m) 안의 점이 속할 수 있는 셀 목록 (반경 원의 외곽 사각형과 겹치는 셀, 좌표가 속한 셀이 첫 번째)
+     */
+    public static List<String> coveringCells(double lat, double lng, double radiusM, int precision) {
+        String own = encode(lat, lng, precision);
+        double cellHeight = cellHeightDeg(precision);
+        double cellWidth = cellWidthDeg(precision);
+        double dLat = radiusM / METERS_PER_DEGREE;
+        double dLng = dLat / Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        long minRow = (long) Math.floor((Math.max(lat - dLat, -90) + 90) / cellHeight);
+        long maxRow = (long) Math.floor((Math.min(lat + dLat, 90 - 1e-9) + 90) / cellHeight);
+        long minCol = (long) Math.floor((Math.max(lng - dLng, -180) + 180) / cellWidth);
+        long maxCol = (long) Math.floor((Math.min(lng + dLng, 180 - 1e-9) + 180) / cellWidth);
+
+        List<String> cells = new ArrayList<>();
+        cells.add(own);
+        for (long row = minRow; row <= maxRow; row++) {
+            double centerLat = -90 + (row + 0.5) * cellHeight;
+            for (long col = minCol; col <= maxCol; col++) {
+                String cell = encode(centerLat, -180 + (col + 0.5) * cellWidth, precision);
+                if (!cell.equals(own)) {
+                    cells.add(cell);
+                }
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,525 @@
+package com.thc.my_cardmapp.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 기반 인메모리 근사 최근접 벡터 인덱스 (코사인 유사도)
+ * - 벡터는 등록 시 L2 정규화한 float[] 로 보관, 유사도는 내적
+ * - 노드 슬롯 단위 원시 배열 저장, 층별 이웃 목록은 int[] (0번 칸은 이웃 수)
+ * - 갱신은 기존 노드를 삭제 표시한 뒤 새 노드 추가 (삭제 노드는 탐색 경로로만 쓰고 결과에서 제외)
+ * - 읽기는 동시에, 쓰기(upsert/remove)는 배타적으로 수행
+ */
+public class HnswIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_LEVEL = 16;
+
+    private final int dimension;
+    private final int maxNeighbors;
+    private final int maxNeighborsLevel0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private float[][] vectors = new float[INITIAL_CAPACITY][];
+    private int[][][] neighbors = new int[INITIAL_CAPACITY][][];
+    private boolean[] deleted = new boolean[INITIAL_CAPACITY];
+    private int nodeCount;
+    private int deletedCount;
+
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private int entryPoint = -1;
+    private int topLevel = -1;
+
+    /**
+     * @param dimension 벡터 차원
+     * @param maxNeighbors 층별 최대 이웃 수 M (0층은 2M)
+     * @param efConstruction 등록 시 이웃 후보 탐색 폭
+     * @param seed 층 배정 난수 시드 (같은 순서로 등록하면 같은 그래프)
+     */
+    public HnswIndex(int dimension, int maxNeighbors, int efConstruction, long seed) {
+        if (dimension <= 0 || maxNeighbors < 2 || efConstruction < maxNeighbors) {
+            throw new IllegalArgumentException("차원은 1 이상, M 은 2 이상, efConstruction 은 M 이상이어야 합니다");
+        }
+        this.dimension = dimension;
+        this.maxNeighbors = maxNeighbors;
+        this.maxNeighborsLevel0 = maxNeighbors * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(maxNeighbors);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 벡터 등록 또는 교체 (0 벡터는 검색할 수 없으므로 기존 벡터만 제거)
+     */
+    public void upsert(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 다릅니다: " + vector.length + " (인덱스: " + dimension + ")");
+        }
+        float[] normalized = vector.clone();
+        boolean searchable = normalize(normalized);
+
+        lock.writeLock().lock();
+        try {
+            markDeleted(id);
+            if (searchable) {
+                insert(id, normalized);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ID 제거 (없으면 무시)
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 등록된(삭제되지 않은) 벡터 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시되어 탐색 경로로만 남은 노드 수 (많아지면 재구성 권장)
+     */
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 등록된 정규화 벡터 사본 (없으면 null)
+     */
+    public float[] vector(long id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            return node != null ? vectors[node].clone() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 근사 최근접 검색 - 유사도 내림차순
+     * @param ef 0층 탐색 폭 (클수록 정확하고 느림, k 보다 작으면 k)
+     * @param filter ID 필터 (null이면 전체, 조건이 까다로울수록 탐색이 길어지므로 후보가 적으면 searchAmong 사용)
+     */
+    public Hits search(float[] query, int k, int ef, LongPredicate filter) {
+        float[] normalized = query.clone();
+        if (k <= 0 || query.length != dimension || !normalize(normalized)) {
+            return Hits.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || nodeById.isEmpty()) {
+                return Hits.EMPTY;
+            }
+            int current = entryPoint;
+            for (int level = topLevel; level > 0; level--) {
+                current = searchLayer(normalized, current, 1, level, node -> true).nodes[0];
+            }
+            IntPredicate accept = filter == null
+                    ? node -> !deleted[node]
+                    : node -> !deleted[node] && filter.test(ids[node]);
+            NodeHeap results = searchLayer(normalized, current, Math.max(ef, k), 0, accept);
+            return toHits(results, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 후보 ID 중 정확한 상위 k개 - 유사도 내림차순 (인덱스에 없는 ID는 무시)
+     */
+    public Hits searchAmong(float[] query, long[] candidateIds, int k) {
+        float[] normalized = query.clone();
+        if (k <= 0 || query.length != dimension || !normalize(normalized)) {
+            return Hits.EMPTY;
+        }
+
+        NodeHeap results = new NodeHeap(k + 1, true);
+        lock.readLock().lock();
+        try {
+            for (long id : candidateIds) {
+                Integer node = nodeById.get(id);
+                if (node == null) {
+                    continue;
+                }
+                float distance = distance(normalized, vectors[node]);
+                if (results.size < k || distance < results.peekDistance()) {
+                    results.push(node, distance);
+                    if (results.size > k) {
+                        results.pop();
+                    }
+                }
+            }
+            return toHits(results, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * L2 정규화 (제자리, 0 벡터면 false)
+     */
+    public static boolean normalize(float[] vector) {
+        double sum = 0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        if (sum == 0 || Double.isNaN(sum)) {
+            return false;
+        }
+        float scale = (float) (1 / Math.sqrt(sum));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return true;
+    }
+
+    // Helper Methods
+
+    private void markDeleted(long id) {
+        Integer existing = nodeById.remove(id);
+        if (existing != null) {
+            deleted[existing] = true;
+            deletedCount++;
+        }
+    }
+
+    private void insert(long id, float[] vector) {
+        int level = randomLevel();
+        int node = allocateNode(id, vector, level);
+        if (entryPoint < 0) {
+            entryPoint = node;
+            topLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int l = topLevel; l > level; l--) {
+            current = searchLayer(vector, current, 1, l, candidate -> true).nodes[0];
+        }
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            NodeHeap found = searchLayer(vector, current, efConstruction, l, candidate -> true);
+            int[] sorted = found.drainAscending();
+            current = sorted[0];
+
+            int[] selected = selectNeighbors(vector, sorted, maxNeighbors, node);
+            int[] own = neighbors[node][l];
+            for (int neighbor : selected) {
+                own[++own[0]] = neighbor;
+                connect(neighbor, node, l);
+            }
+        }
+
+        if (level > topLevel) {
+            entryPoint = node;
+            topLevel = level;
+        }
+    }
+
+    /**
+     * neighbor 의 이웃 목록에 node 추가 (가득 차면 휴리스틱으로 다시 선택)
+     */
+    private void connect(int neighbor, int node, int level) {
+        int[] list = neighbors[neighbor][level];
+        int capacity = list.length - 1;
+        if (list[0] < capacity) {
+            list[++list[0]] = node;
+            return;
+        }
+
+        float[] base = vectors[neighbor];
+        NodeHeap candidates = new NodeHeap(capacity + 1, false);
+        for (int i = 1; i <= list[0]; i++) {
+            candidates.push(list[i], distance(base, vectors[list[i]]));
+        }
+        candidates.push(node, distance(base, vectors[node]));
+        int[] selected = selectNeighbors(base, candidates.drainAscending(), capacity, -1);
+        list[0] = selected.length;
+        System.arraycopy(selected, 0, list, 1, selected.length);
+    }
+
+    /**
+     * 이웃 선택 휴리스틱 - 이미 고른 이웃보다 기준점에 더 가까운 후보만 선택해 여러 방향으로 연결
+     * - 모자라면 버린 후보 중 가까운 순으로 채움, 삭제 노드와 exclude 는 제외
+     * @param sorted 기준점에서 가까운 순 후보
+     */
+    private int[] selectNeighbors(float[] base, int[] sorted, int limit, int exclude) {
+        int[] selected = new int[limit];
+        int count = 0;
+        int[] pruned = new int[sorted.length];
+        int prunedCount = 0;
+
+        for (int candidate : sorted) {
+            if (count == limit) {
+                break;
+            }
+            if (candidate == exclude || deleted[candidate]) {
+                continue;
+            }
+            float candidateDistance = distance(base, vectors[candidate]);
+            boolean diverse = true;
+            for (int i = 0; i < count; i++) {
+                if (distance(vectors[candidate], vectors[selected[i]]) < candidateDistance) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidate;
+            } else {
+                pruned[prunedCount++] = candidate;
+            }
+        }
+        for (int i = 0; i < prunedCount && count < limit; i++) {
+            selected[count++] = pruned[i];
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * 한 층에서 query 에 가까운 노드 탐색 (결과는 accept 를 통과한 노드만, 탐색은 모든 노드를 거쳐 진행)
+     * @return 가까운 ef 개 (최대 힙)
+     */
+    private NodeHeap searchLayer(float[] query, int entry, int ef, int level, IntPredicate accept) {
+        BitSet visited = new BitSet(nodeCount);
+        NodeHeap candidates = new NodeHeap(ef * 2, false);
+        NodeHeap results = new NodeHeap(ef + 1, true);
+
+        float entryDistance = distance(query, vectors[entry]);
+        visited.set(entry);
+        candidates.push(entry, entryDistance);
+        if (accept.test(entry)) {
+            results.push(entry, entryDistance);
+        }
+
+        while (candidates.size > 0) {
+            float closest = candidates.peekDistance();
+            if (results.size >= ef && closest > results.peekDistance()) {
+                break;
+            }
+            int current = candidates.pop();
+            if (level >= neighbors[current].length) {
+                continue;
+            }
+            int[] list = neighbors[current][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int neighbor = list[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float distance = distance(query, vectors[neighbor]);
+                if (results.size < ef || distance < results.peekDistance()) {
+                    candidates.push(neighbor, distance);
+                    if (accept.test(neighbor)) {
+                        results.push(neighbor, distance);
+                        if (results.size > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private Hits toHits(NodeHeap results, int k) {
+        while (results.size > k) {
+            results.pop();
+        }
+        int count = results.size;
+        long[] hitIds = new long[count];
+        float[] scores = new float[count];
+        // 최대 힙에서 먼 것부터 꺼내 뒤에서부터 채움
+        for (int i = count - 1; i >= 0; i--) {
+            scores[i] = 1 - results.peekDistance();
+            hitIds[i] = ids[results.pop()];
+        }
+        return new Hits(hitIds, scores);
+    }
+
+    private int allocateNode(long id, float[] vector, int level) {
+        if (nodeCount == ids.length) {
+            int newCapacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, newCapacity);
+            vectors = Arrays.copyOf(vectors, newCapacity);
+            neighbors = Arrays.copyOf(neighbors, newCapacity);
+            deleted = Arrays.copyOf(deleted, newCapacity);
+        }
+        int node = nodeCount++;
+        ids[node] = id;
+        vectors[node] = vector;
+        int[][] levels = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            levels[l] = new int[(l == 0 ? maxNeighborsLevel0 : maxNeighbors) + 1];
+        }
+        neighbors[node] = levels;
+        nodeById.put(id, node);
+        return node;
+    }
+
+    private int randomLevel() {
+        double level = -Math.log(1 - random.nextDouble()) * levelMultiplier;
+        return Math.min((int) level, MAX_LEVEL);
+    }
+
+    /**
+     * 코사인 거리 (정규화 벡터 기준 1 - 내적)
+     * - 누적 변수 4개로 나눠 덧셈 의존 사슬을 끊음 (검색/등록 시간 대부분이 이 계산)
+     */
+    private static float distance(float[] a, float[] b) {
+        float s0 = 0;
+        float s1 = 0;
+        float s2 = 0;
+        float s3 = 0;
+        int i = 0;
+        for (int bound = a.length & ~3; i < bound; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) {
+            s0 += a[i] * b[i];
+        }
+        return 1 - ((s0 + s1) + (s2 + s3));
+    }
+
+    /**
+     * 검색 결과 (ID와 코사인 유사도가 같은 인덱스로 대응, 유사도 내림차순)
+     */
+    public record Hits(long[] ids, float[] scores) {
+
+        static final Hits EMPTY = new Hits(new long[0], new float[0]);
+
+        public int size() {
+            return ids.length;
+        }
+
+        public boolean isEmpty() {
+            return ids.length == 0;
+        }
+    }
+
+    /**
+     * 노드 번호 + 거리 이진 힙 (박싱 없음, max 이면 먼 것이 맨 위)
+     */
+    private static final class NodeHeap {
+        private int[] nodes;
+        private float[] distances;
+        private int size;
+        private final boolean max;
+
+        NodeHeap(int capacity, boolean max) {
+            this.nodes = new int[Math.max(capacity, 4)];
+            this.distances = new float[nodes.length];
+            this.max = max;
+        }
+
+        void push(int node, float distance) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                distances = Arrays.copyOf(distances, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(distance, distances[parent])) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                distances[i] = distances[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            distances[i] = distance;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            int lastNode = nodes[--size];
+            float lastDistance = distances[size];
+            int i = 0;
+            while (true) {
+                int child = i * 2 + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(distances[child + 1], distances[child])) {
+                    child++;
+                }
+                if (!before(distances[child], lastDistance)) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                distances[i] = distances[child];
+                i = child;
+            }
+            nodes[i] = lastNode;
+            distances[i] = lastDistance;
+            return top;
+        }
+
+        float peekDistance() {
+            return distances[0];
+        }
+
+        /**
+         * 모두 꺼내 가까운 순 노드 배열로 반환
+         */
+        int[] drainAscending() {
+            int[] sorted = new int[size];
+            if (max) {
+                for (int i = size - 1; i >= 0; i--) {
+                    sorted[i] = pop();
+                }
+            } else {
+                for (int i = 0; i < sorted.length; i++) {
+                    sorted[i] = pop();
+                }
+            }
+            return sorted;
+        }
+
+        private boolean before(float a, float b) {
+            return max ? a > b : a < b;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.thc.my_cardmapp.index;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가맹점명/주소 n-gram 역색인 (부분 일치 키워드 검색용)
+ * - 공백 제거 + 소문자 정규화 후 1-gram, 2-gram 을 가맹점 ID 비트맵으로 색인
+ * - 질의의 2-gram 비트맵 교집합으로 후보를 구한 뒤 실제 포함 여부를 확인
+ * - 관련도: 이름 일치 > 이름 접두 > 이름 포함 > 주소 포함, 동점이면 짧은 이름, ID 순
+ */
+public class NgramSearchIndex {
+
+    private static final int SCORE_EXACT = 0;
+    private static final int SCORE_PREFIX = 1;
+    private static final int SCORE_NAME = 2;
+    private static final int SCORE_ADDRESS = 3;
+    private static final int NO_MATCH = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+
+    /**
+     * 문서 등록 또는 교체
+     */
+    public void upsert(long merchantId, String name, String address) {
+        int docId = CardMembershipIndex.toIndex(merchantId);
+        Document document = new Document(normalize(name), normalize(address));
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(docId, document);
+            if (previous != null) {
+                unindex(docId, previous);
+            }
+            for (String gram : grams(document)) {
+                postings.computeIfAbsent(gram, k -> new RoaringBitmap()).add(docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long merchantId) {
+        int docId = CardMembershipIndex.toIndex(merchantId);
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(docId);
+            if (previous != null) {
+                unindex(docId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 (관련도순)
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     */
+    public Hits search(String keyword, int offset, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return new Hits(new long[0], 0);
+        }
+
+        long[] ranked;
+        int count = 0;
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = candidates(query);
+            if (candidates == null || candidates.isEmpty()) {
+                return new Hits(new long[0], 0);
+            }
+
+            // (점수, 이름 길이, ID) 를 long 하나에 담아 정렬 (박싱 없음)
+            ranked = new long[candidates.getCardinality()];
+            for (int docId : candidates) {
+                Document document = documents.get(docId);
+                int score = score(document, query);
+                if (score == NO_MATCH) {
+                    continue;
+                }
+                long nameLength = Math.min(document.name().length(), 0xFFF);
+                ranked[count++] = ((long) score << 44) | (nameLength << 32) | (docId & 0xFFFFFFFFL);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Arrays.sort(ranked, 0, count);
+
+        int from = Math.min(Math.max(offset, 0), count);
+        int to = Math.min(from + Math.max(limit, 0), count);
+        long[] ids = new long[to - from];
+        for (int i = from; i < to; i++) {
+            ids[i - from] = (int) ranked[i];
+        }
+        return new Hits(ids, count);
+    }
+
+    /**
+     * 검색용 정규화 (소문자 + 공백 제거)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // Helper Methods
+
+    /**
+     * 질의 n-gram 비트맵 교집합 (가장 작은 비트맵부터)
+     */
+    private RoaringBitmap candidates(String query) {
+        if (query.length() == 1) {
+            RoaringBitmap unigram = postings.get(query);
+            return unigram != null ? unigram.clone() : null;
+        }
+
+        RoaringBitmap[] bitmaps = new RoaringBitmap[query.length() - 1];
+        for (int i = 0; i < bitmaps.length; i++) {
+            RoaringBitmap bitmap = postings.get(query.substring(i, i + 2));
+            if (bitmap == null) {
+                return null;
+            }
+            bitmaps[i] = bitmap;
+        }
+        Arrays.sort(bitmaps, (a, b) -> Integer.compare(a.getCardinality(), b.getCardinality()));
+
+        RoaringBitmap result = bitmaps[0].clone();
+        for (int i = 1; i < bitmaps.length && !result.isEmpty(); i++) {
+            result.and(bitmaps[i]);
+        }
+        return result;
+    }
+
+    private static int score(Document document, String query) {
+        if (document.name().equals(query)) {
+            return SCORE_EXACT;
+        }
+        if (document.name().startsWith(query)) {
+            return SCORE_PREFIX;
+        }
+        if (document.name().contains(query)) {
+            return SCORE_NAME;
+        }
+        if (document.address().contains(query)) {
+            return SCORE_ADDRESS;
+        }
+        return NO_MATCH;
+    }
+
+    private void unindex(int docId, Document document) {
+        for (String gram : grams(document)) {
+            RoaringBitmap bitmap = postings.get(gram);
+            if (bitmap != null) {
+                bitmap.remove(docId);
+                if (bitmap.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(Document document) {
+        Set<String> grams = new HashSet<>();
+        addGrams(document.name(), grams);
+        addGrams(document.address(), grams);
+        return grams;
+    }
+
+    private static void addGrams(String text, Set<String> grams) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 정규화된 색인 대상 문서
+     */
+    private record Document(String name, String address) {
+    }
+
+    /**
+     * 검색 결과 (요청 구간의 ID 목록 + 전체 일치 건수)
+     */
+    public record Hits(long[] ids, int total) {
+    }
+}
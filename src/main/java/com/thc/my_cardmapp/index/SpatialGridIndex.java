@@ -0,0 +1,278 @@
+package com.thc.my_cardmapp.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 위경도 균등 격자(uniform grid) 기반 인메모리 공간 인덱스
+ * - ID/좌표는 원시 배열(long[], double[])에 슬롯 단위로 저장
+ * - 셀 키 → 슬롯 목록으로 반경 검색 후보를 좁힌 뒤 Haversine 거리로 정밀 필터링
+ * - 읽기는 동시에, 쓰기(upsert/remove)는 배타적으로 수행
+ */
+public class SpatialGridIndex {
+
+    private static final double EARTH_RADIUS_M = 6_371_000d;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final double cellSizeDeg;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private double[] lats = new double[INITIAL_CAPACITY];
+    private double[] lngs = new double[INITIAL_CAPACITY];
+    private int slotCount;
+
+    private final IntList freeSlots = new IntList();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Map<Long, IntList> cells = new HashMap<>();
+
+    public SpatialGridIndex(double cellSizeDeg) {
+        if (cellSizeDeg <= 0) {
+            throw new IllegalArgumentException("셀 크기는 0보다 커야 합니다: " + cellSizeDeg);
+        }
+        this.cellSizeDeg = cellSizeDeg;
+    }
+
+    /**
+     * 좌표 등록 또는 이동 (이미 있는 ID면 기존 셀에서 제거 후 재등록)
+     */
+    public void upsert(long id, double lat, double lng) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = slotById.get(id);
+            if (existing != null) {
+                int slot = existing;
+                long oldCell = cellKey(lats[slot], lngs[slot]);
+                long newCell = cellKey(lat, lng);
+                if (oldCell != newCell) {
+                    removeFromCell(oldCell, slot);
+                    cells.computeIfAbsent(newCell, k -> new IntList()).add(slot);
+                }
+                lats[slot] = lat;
+                lngs[slot] = lng;
+                return;
+            }
+
+            int slot = allocateSlot();
+            ids[slot] = id;
+            lats[slot] = lat;
+            lngs[slot] = lng;
+            slotById.put(id, slot);
+            cells.computeIfAbsent(cellKey(lat, lng), k -> new IntList()).add(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ID 제거 (없으면 무시)
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            removeFromCell(cellKey(lats[slot], lngs[slot]), slot);
+            freeSlots.add(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 검색 - 거리 오름차순 정렬된 결과 반환
+     * @param filter ID 필터 (null이면 전체)
+     */
+    public Neighbors query(double lat, double lng, double radiusM, LongPredicate filter) {
+        double dLat = Math.toDegrees(radiusM / EARTH_RADIUS_M);
+        double dLng = dLat / Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+
+        int minRow = cellIndex(lat - dLat);
+        int maxRow = cellIndex(lat + dLat);
+        int minCol = cellIndex(lng - dLng);
+        int maxCol = cellIndex(lng + dLng);
+
+        long[] hitIds = new long[16];
+        double[] hitDistances = new double[16];
+        int count = 0;
+
+        lock.readLock().lock();
+        try {
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    IntList cell = cells.get(cellKey(row, col));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        int slot = cell.data[i];
+                        long id = ids[slot];
+                        if (filter != null && !filter.test(id)) {
+                            continue;
+                        }
+                        double distance = haversine(lat, lng, lats[slot], lngs[slot]);
+                        if (distance > radiusM) {
+                            continue;
+                        }
+                        if (count == hitIds.length) {
+                            hitIds = Arrays.copyOf(hitIds, count * 2);
+                            hitDistances = Arrays.copyOf(hitDistances, count * 2);
+                        }
+                        hitIds[count] = id;
+                        hitDistances[count] = distance;
+                        count++;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        sortByDistance(hitDistances, hitIds, 0, count - 1);
+        return new Neighbors(Arrays.copyOf(hitIds, count), Arrays.copyOf(hitDistances, count));
+    }
+
+    /**
+     * 두 지점 간 거리 (미터, Haversine)
+     */
+    public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    // Helper Methods
+
+    private int allocateSlot() {
+        if (freeSlots.size > 0) {
+            return freeSlots.data[--freeSlots.size];
+        }
+        if (slotCount == ids.length) {
+            int newCapacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, newCapacity);
+            lats = Arrays.copyOf(lats, newCapacity);
+            lngs = Arrays.copyOf(lngs, newCapacity);
+        }
+        return slotCount++;
+    }
+
+    private void removeFromCell(long cellKey, int slot) {
+        IntList cell = cells.get(cellKey);
+        if (cell != null) {
+            cell.removeValue(slot);
+            if (cell.size == 0) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    private int cellIndex(double degree) {
+        return (int) Math.floor(degree / cellSizeDeg);
+    }
+
+    private long cellKey(double lat, double lng) {
+        return cellKey(cellIndex(lat), cellIndex(lng));
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 거리 배열 기준으로 ID 배열을 함께 정렬 (박싱 없는 퀵정렬)
+     */
+    private static void sortByDistance(double[] distances, long[] ids, int lo, int hi) {
+        while (lo < hi) {
+            double pivot = distances[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (distances[i] < pivot) i++;
+                while (distances[j] > pivot) j--;
+                if (i <= j) {
+                    double d = distances[i];
+                    distances[i] = distances[j];
+                    distances[j] = d;
+                    long id = ids[i];
+                    ids[i] = ids[j];
+                    ids[j] = id;
+                    i++;
+                    j--;
+                }
+            }
+            // 작은 쪽만 재귀 호출하여 스택 깊이 제한
+            if (j - lo < hi - i) {
+                sortByDistance(distances, ids, lo, j);
+                lo = i;
+            } else {
+                sortByDistance(distances, ids, i, hi);
+                hi = j;
+            }
+        }
+    }
+
+    /**
+     * 검색 결과 (ID와 거리(m)가 같은 인덱스로 대응, 거리 오름차순)
+     */
+    public record Neighbors(long[] ids, double[] distances) {
+
+        public int size() {
+            return ids.length;
+        }
+
+        public boolean isEmpty() {
+            return ids.length == 0;
+        }
+
+        /**
+         * 가까운 순 앞쪽 limit 개
+         */
+        public Neighbors limit(int limit) {
+            if (ids.length <= limit) {
+                return this;
+            }
+            return new Neighbors(Arrays.copyOf(ids, limit), Arrays.copyOf(distances, limit));
+        }
+    }
+
+    /**
+     * 셀별 슬롯 목록용 가변 int 배열
+     */
+    private static final class IntList {
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        void removeValue(int value) {
+            for (int i = 0; i < size; i++) {
+                if (data[i] == value) {
+                    data[i] = data[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
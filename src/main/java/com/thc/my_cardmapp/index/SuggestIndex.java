@@ -0,0 +1,366 @@
+package com.thc.my_cardmapp.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성(typeahead) 접두 인덱스
+ * - 이름을 한글 자모 단위로 분해한 키를 정렬 배열에 보관 (작성 중인 음절 "스탑" → "스타벅스" 일치)
+ * - 접두 범위는 이진 탐색, 범위 내 상위 k개는 순위 세그먼트 트리로 추출 (범위 크기와 무관하게 O(k log n))
+ * - 변경분은 작은 오버레이에 쌓았다가 임계치를 넘으면 정렬 배열로 다시 압축
+ */
+public class SuggestIndex {
+
+    /**
+     * 순위: 인기도 높은 순 > 유형(카드, 카테고리, 가맹점) > 짧은 이름 > 이름 > ID
+     */
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong((Suggestion s) -> -s.popularity())
+            .thenComparing(Suggestion::type)
+            .thenComparingInt(s -> s.text().length())
+            .thenComparing(Suggestion::text)
+            .thenComparingLong(Suggestion::refId);
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char KEY_UPPER_BOUND = '\uffff';
+
+    private final int compactThreshold;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Snapshot snapshot = Snapshot.build(List.of());
+    // 스냅샷 이후 추가/변경된 항목 (자모 키 + 구분자 + 참조 키 → 항목)
+    private final TreeMap<String, Suggestion> overlay = new TreeMap<>();
+    private final Map<Long, String> overlayKeyByRef = new HashMap<>();
+    // 스냅샷 이후 변경/삭제되어 스냅샷 쪽 항목을 무시해야 하는 참조 키
+    private final Set<Long> shadowed = new HashSet<>();
+
+    public SuggestIndex(int compactThreshold) {
+        if (compactThreshold <= 0) {
+            throw new IllegalArgumentException("압축 임계치는 0보다 커야 합니다: " + compactThreshold);
+        }
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * 전체 항목 교체
+     */
+    public void replaceAll(Collection<Suggestion> suggestions) {
+        Snapshot rebuilt = Snapshot.build(suggestions);
+        lock.writeLock().lock();
+        try {
+            snapshot = rebuilt;
+            overlay.clear();
+            overlayKeyByRef.clear();
+            shadowed.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항목 등록 또는 교체 (유형 + 참조 ID 기준)
+     */
+    public void upsert(Suggestion suggestion) {
+        long refKey = refKey(suggestion.type(), suggestion.refId());
+        String key = decompose(NgramSearchIndex.normalize(suggestion.text())) + KEY_SEPARATOR + refKey;
+
+        lock.writeLock().lock();
+        try {
+            removeFromOverlay(refKey);
+            shadowed.add(refKey);
+            overlay.put(key, suggestion);
+            overlayKeyByRef.put(refKey, key);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Type type, long refId) {
+        long refKey = refKey(type, refId);
+        lock.writeLock().lock();
+        try {
+            removeFromOverlay(refKey);
+            shadowed.add(refKey);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            int live = 0;
+            for (Suggestion item : snapshot.items) {
+                if (!shadowed.contains(refKey(item.type(), item.refId()))) {
+                    live++;
+                }
+            }
+            return live + overlay.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접두 일치 상위 항목 조회 (같은 유형의 같은 이름은 하나만)
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String prefix = decompose(NgramSearchIndex.normalize(query));
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Suggestion> candidates = new ArrayList<>(limit * 2);
+        lock.readLock().lock();
+        try {
+            snapshot.collectTop(prefix, limit, shadowed, candidates);
+            candidates.addAll(overlay.subMap(prefix, true, prefix + KEY_UPPER_BOUND, false).values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidates.sort(RANKING);
+        List<Suggestion> result = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        for (Suggestion candidate : candidates) {
+            if (seen.add(candidate.type() + candidate.text())) {
+                result.add(candidate);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 한글 음절을 자모로 분해 (겹모음/겹받침도 기본 자모로 분해, 그 외 문자는 그대로)
+     */
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= Jamo.SYLLABLE_BASE && c <= Jamo.SYLLABLE_LAST) {
+                int index = c - Jamo.SYLLABLE_BASE;
+                sb.append(Jamo.CHOSEONG.charAt(index / 588));
+                sb.append(Jamo.JUNGSEONG[(index % 588) / 28]);
+                sb.append(Jamo.JONGSEONG[index % 28]);
+            } else {
+                String compound = Jamo.COMPOUND.get(c);
+                sb.append(compound != null ? compound : String.valueOf(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // Helper Methods
+
+    private static long refKey(Type type, long refId) {
+        return ((long) type.ordinal() << 56) | refId;
+    }
+
+    private void removeFromOverlay(long refKey) {
+        String previous = overlayKeyByRef.remove(refKey);
+        if (previous != null) {
+            overlay.remove(previous);
+        }
+    }
+
+    /**
+     * 변경분이 임계치를 넘으면 스냅샷과 오버레이를 합쳐 다시 정렬
+     */
+    private void compactIfNeeded() {
+        if (shadowed.size() < compactThreshold) {
+            return;
+        }
+        List<Suggestion> merged = new ArrayList<>(snapshot.items.length + overlay.size());
+        for (Suggestion item : snapshot.items) {
+            if (!shadowed.contains(refKey(item.type(), item.refId()))) {
+                merged.add(item);
+            }
+        }
+        merged.addAll(overlay.values());
+
+        snapshot = Snapshot.build(merged);
+        overlay.clear();
+        overlayKeyByRef.clear();
+        shadowed.clear();
+    }
+
+    /**
+     * 불변 정렬 배열 (자모 키 오름차순) + 순위 최소값 세그먼트 트리
+     */
+    private static final class Snapshot {
+        private final String[] keys;
+        private final Suggestion[] items;
+        private final int[] ranks;
+        private final int[] tree;
+
+        private Snapshot(String[] keys, Suggestion[] items, int[] ranks) {
+            this.keys = keys;
+            this.items = items;
+            this.ranks = ranks;
+
+            int n = keys.length;
+            this.tree = new int[Math.max(2 * n, 1)];
+            for (int i = 0; i < n; i++) {
+                tree[n + i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+            }
+        }
+
+        static Snapshot build(Collection<Suggestion> suggestions) {
+            int n = suggestions.size();
+            String[] rawKeys = new String[n];
+            Suggestion[] rawItems = suggestions.toArray(new Suggestion[0]);
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                rawKeys[i] = decompose(NgramSearchIndex.normalize(rawItems[i].text()));
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(i -> rawKeys[i]));
+
+            String[] keys = new String[n];
+            Suggestion[] items = new Suggestion[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = rawKeys[order[i]];
+                items[i] = rawItems[order[i]];
+            }
+
+            // 키 순서 위치별 전역 순위 (작을수록 상위)
+            Integer[] byRank = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                byRank[i] = i;
+            }
+            Arrays.sort(byRank, (a, b) -> RANKING.compare(items[a], items[b]));
+            int[] ranks = new int[n];
+            for (int rank = 0; rank < n; rank++) {
+                ranks[byRank[rank]] = rank;
+            }
+            return new Snapshot(keys, items, ranks);
+        }
+
+        /**
+         * 접두 범위에서 순위 순으로 항목을 꺼내 limit 개의 서로 다른 이름을 채움
+         */
+        void collectTop(String prefix, int limit, Set<Long> shadowed, List<Suggestion> out) {
+            int from = lowerBound(prefix);
+            int to = lowerBound(prefix + KEY_UPPER_BOUND);
+            if (from >= to) {
+                return;
+            }
+
+            // {구간 시작, 구간 끝(미포함), 구간 최상위 위치}
+            PriorityQueue<int[]> ranges = new PriorityQueue<>(Comparator.comparingInt((int[] r) -> ranks[r[2]]));
+            ranges.add(new int[]{from, to, bestIn(from, to)});
+            Set<String> seen = new HashSet<>();
+
+            while (!ranges.isEmpty() && seen.size() < limit) {
+                int[] range = ranges.poll();
+                int best = range[2];
+                Suggestion item = items[best];
+                if (!shadowed.contains(refKey(item.type(), item.refId())) && seen.add(item.type() + item.text())) {
+                    out.add(item);
+                }
+                if (range[0] < best) {
+                    ranges.add(new int[]{range[0], best, bestIn(range[0], best)});
+                }
+                if (best + 1 < range[1]) {
+                    ranges.add(new int[]{best + 1, range[1], bestIn(best + 1, range[1])});
+                }
+            }
+        }
+
+        private int lowerBound(String key) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * [from, to) 구간에서 순위가 가장 높은 위치
+         */
+        private int bestIn(int from, int to) {
+            int n = keys.length;
+            int best = -1;
+            for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) {
+                    best = best < 0 ? tree[l] : better(best, tree[l]);
+                    l++;
+                }
+                if ((r & 1) == 1) {
+                    r--;
+                    best = best < 0 ? tree[r] : better(best, tree[r]);
+                }
+            }
+            return best;
+        }
+
+        private int better(int a, int b) {
+            return ranks[a] <= ranks[b] ? a : b;
+        }
+    }
+
+    /**
+     * 한글 자모 분해 테이블 (호환용 자모 사용)
+     */
+    private static final class Jamo {
+        static final char SYLLABLE_BASE = '가';
+        static final char SYLLABLE_LAST = '힣';
+
+        static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+        static final String[] JUNGSEONG = {
+                "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+                "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+        };
+        static final String[] JONGSEONG = {
+                "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+                "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+        };
+
+        // 단독 입력된 겹모음/겹받침 자모 → 기본 자모
+        static final Map<Character, String> COMPOUND = Map.ofEntries(
+                Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+                Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"),
+                Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+                Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+                Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+        );
+    }
+
+    /**
+     * 자동완성 항목 유형 (순서가 동점 시 우선순위)
+     */
+    public enum Type {
+        CARD, CATEGORY, MERCHANT
+    }
+
+    /**
+     * 자동완성 항목
+     * @param popularity 인기 검색어 기반 가중치
+     */
+    public record Suggestion(Type type, long refId, String text, long popularity) {
+    }
+}
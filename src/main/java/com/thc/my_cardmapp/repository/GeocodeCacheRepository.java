@@ -0,0 +1,34 @@
+package com.thc.my_cardmapp.repository;
+
+import com.thc.my_cardmapp.domain.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, Long> {
+
+    // 1. 주소 키로 조회
+    Optional<GeocodeCache> findByAddressKey(String addressKey);
+
+    // 2. 저장 (같은 주소는 최신 결과로 덮어씀, 여러 작업자가 동시에 저장해도 충돌 없음)
+    @Modifying
+    @Query(value = "INSERT INTO geocode_cache (address_key, found, latitude, longitude, provider, confidence, cached_at) " +
+            "VALUES (:addressKey, :found, :latitude, :longitude, :provider, :confidence, :cachedAt) " +
+            "ON CONFLICT (address_key) DO UPDATE SET " +
+            "found = EXCLUDED.found, latitude = EXCLUDED.latitude, longitude = EXCLUDED.longitude, " +
+            "provider = EXCLUDED.provider, confidence = EXCLUDED.confidence, cached_at = EXCLUDED.cached_at",
+            nativeQuery = true)
+    int upsert(@Param("addressKey") String addressKey,
+               @Param("found") boolean found,
+               @Param("latitude") Double latitude,
+               @Param("longitude") Double longitude,
+               @Param("provider") String provider,
+               @Param("confidence") Double confidence,
+               @Param("cachedAt") LocalDateTime cachedAt);
+}
@@ -0,0 +1,70 @@
+package com.thc.my_cardmapp.repository;
+
+import com.thc.my_cardmapp.domain.ImportJob;
+import com.thc.my_cardmapp.domain.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    // 1. 상태별 작업 조회 (재기동 시 재개 대상)
+    List<ImportJob> findByStatusInOrderByIdAsc(List<ImportJobStatus> statuses);
+
+    // 2. 작업 실행권 획득 (대기/실패 작업, 또는 생존 신호가 끊긴 진행 중 작업만)
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :running, j.runStartedAt = :now, " +
+            "j.runStartOffset = j.byteOffset, j.runStartLines = j.linesRead, " +
+            "j.heartbeatAt = :now, j.errorMessage = null, j.finishedAt = null " +
+            "WHERE j.id = :id AND (j.status IN :claimable " +
+            "OR (j.status = :running AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)))")
+    int claim(@Param("id") Long id,
+              @Param("running") ImportJobStatus running,
+              @Param("claimable") List<ImportJobStatus> claimable,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 3. 청크 커밋 시 체크포인트 갱신 (적재와 같은 트랜잭션)
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.byteOffset = :byteOffset, j.linesRead = :linesRead, " +
+            "j.importedRows = j.importedRows + :inserted + :updated + :unchanged, " +
+            "j.insertedRows = j.insertedRows + :inserted, j.updatedRows = j.updatedRows + :updated, " +
+            "j.unchangedRows = j.unchangedRows + :unchanged, j.skippedRows = j.skippedRows + :skipped, " +
+            "j.errorSamples = :errorSamples, j.heartbeatAt = :now " +
+            "WHERE j.id = :id")
+    int updateCheckpoint(@Param("id") Long id,
+                         @Param("byteOffset") long byteOffset,
+                         @Param("linesRead") long linesRead,
+                         @Param("inserted") long inserted,
+                         @Param("updated") long updated,
+                         @Param("unchanged") long unchanged,
+                         @Param("skipped") long skipped,
+                         @Param("errorSamples") String errorSamples,
+                         @Param("now") LocalDateTime now);
+
+    // 4. 작업 종료 (완료/실패)
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :status, j.errorMessage = :errorMessage, " +
+            "j.finishedAt = :now, j.heartbeatAt = :now " +
+            "WHERE j.id = :id")
+    int finish(@Param("id") Long id,
+               @Param("status") ImportJobStatus status,
+               @Param("errorMessage") String errorMessage,
+               @Param("now") LocalDateTime now);
+
+    // 4-1. 폐업 처리 건수 기록
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.closedRows = :closedRows WHERE j.id = :id")
+    int updateClosedRows(@Param("id") Long id, @Param("closedRows") long closedRows);
+
+    // 5. 작업에서 본 가맹점 키 정리 (폐업 판정 후)
+    @Modifying
+    @Query(value = "DELETE FROM import_seen_key WHERE job_id = :jobId", nativeQuery = true)
+    int deleteSeenKeys(@Param("jobId") Long jobId);
+}
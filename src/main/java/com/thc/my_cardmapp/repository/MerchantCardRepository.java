@@ -1,11 +1,15 @@
 package com.thc.my_cardmapp.repository;
 
 import com.thc.my_cardmapp.domain.Card;
+import com.thc.my_cardmapp.domain.Merchant;
 import com.thc.my_cardmapp.domain.MerchantCard;
+import com.thc.my_cardmapp.repository.projection.MerchantCardView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +23,22 @@ public interface MerchantCardRepository extends JpaRepository<MerchantCard, Long
     @Query("SELECT mc.card FROM MerchantCard mc WHERE mc.merchant.id = :merchantId")
     List<Card> findCardsByMerchantId(Long merchantId);
 
-    // 카드로 사용 가능한 가맹점 수
-    @Query("SELECT COUNT(mc) FROM MerchantCard mc WHERE mc.card.id = :cardId")
+    // 카드로 사용 가능한 가맹점 수 (폐업 제외)
+    @Query("SELECT COUNT(mc) FROM MerchantCard mc WHERE mc.card.id = :cardId AND mc.merchant.closedAt IS NULL")
     Long countByCardId(Long cardId);
 
-    // 특정 카드를 사용할 수 있는 가맹점 목록
-    List<MerchantCard> findByCard_Id(Long cardId);
+    // 특정 카드를 사용할 수 있는 가맹점 목록 (연관 조회에는 @SQLRestriction 이 적용되지 않으므로 폐업 조건 명시)
+    @Query("SELECT m FROM MerchantCard mc JOIN mc.merchant m WHERE mc.card.id = :cardId AND m.closedAt IS NULL")
+    List<Merchant> findOpenMerchantsByCardId(@Param("cardId") Long cardId);
+
+    // 전체 가맹점-카드 연결 (카드 비트맵 적재용)
+    @Query("SELECT mc.merchant.id AS merchantId, c.name AS cardName " +
+            "FROM MerchantCard mc JOIN mc.card c")
+    List<MerchantCardView> findAllMemberships();
+
+    // 변경된 가맹점의 카드 연결 (카드 비트맵 증분 갱신용)
+    @Query("SELECT mc.merchant.id AS merchantId, c.name AS cardName " +
+            "FROM MerchantCard mc JOIN mc.card c " +
+            "WHERE mc.merchant.id IN :merchantIds")
+    List<MerchantCardView> findMembershipsByMerchantIdIn(@Param("merchantIds") Collection<Long> merchantIds);
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.thc.my_cardmapp.repository;
 
 import com.thc.my_cardmapp.domain.MerchantEmbedding;
+import com.thc.my_cardmapp.repository.projection.MerchantEmbeddingSourceView;
+import com.thc.my_cardmapp.repository.projection.MerchantEmbeddingVectorView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -11,8 +15,93 @@ import java.util.List;
 @Repository
 public interface MerchantEmbeddingRepository extends JpaRepository<MerchantEmbedding, Long> {
 
-    // 업데이트가 필요한 임베딩 조회
-    @Query("SELECT me FROM MerchantEmbedding me " +
-            "WHERE me.updatedAt < :threshold OR me.updatedAt IS NULL")
-    List<MerchantEmbedding> findOutdatedEmbeddings(LocalDateTime threshold);
-}
\ No newline at end of file
+    // 임베딩 갱신 대상 영업 중 가맹점 (id 기준 seek)
+    // - 임베딩이 없거나, 다른 방식으로 만들었거나, 변경 표시(updated_at NULL)되었거나, 기준 시각 이전에 만든 경우
+    String OUTDATED_CONDITION = "m.closed_at IS NULL AND (me.merchant_id IS NULL OR me.model <> :model " +
+            "OR me.updated_at IS NULL OR me.updated_at < :threshold) ";
+
+    @Query(value = "SELECT m.id AS id, m.name AS name, c.name AS categoryName, me.source_hash AS sourceHash " +
+            "FROM merchant m " +
+            "LEFT JOIN category c ON c.id = m.category_id " +
+            "LEFT JOIN merchant_embedding me ON me.merchant_id = m.id " +
+            "WHERE m.id > :afterId AND " + OUTDATED_CONDITION +
+            "ORDER BY m.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantEmbeddingSourceView> findOutdatedEmbeddings(@Param("model") String model,
+                                                             @Param("threshold") LocalDateTime threshold,
+                                                             @Param("afterId") long afterId,
+                                                             @Param("limit") int limit);
+
+    // 갱신 대상 수 (갱신 시작 시 밀린 작업량 계산용)
+    @Query(value = "SELECT COUNT(*) FROM merchant m " +
+            "LEFT JOIN merchant_embedding me ON me.merchant_id = m.id " +
+            "WHERE " + OUTDATED_CONDITION,
+            nativeQuery = true)
+    long countOutdatedEmbeddings(@Param("model") String model,
+                                 @Param("threshold") LocalDateTime threshold);
+
+    // 인덱스 적재용 저장된 벡터 (같은 방식/차원, 영업 중 가맹점만, merchant_id 기준 seek)
+    @Query(value = "SELECT me.merchant_id AS merchantId, me.vector AS vector " +
+            "FROM merchant_embedding me " +
+            "JOIN merchant m ON m.id = me.merchant_id " +
+            "WHERE me.model = :model AND me.dimension = :dimension AND me.merchant_id > :afterId " +
+            "AND m.closed_at IS NULL " +
+            "ORDER BY me.merchant_id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantEmbeddingVectorView> findVectorsAfter(@Param("model") String model,
+                                                       @Param("dimension") int dimension,
+                                                       @Param("afterId") long afterId,
+                                                       @Param("limit") int limit);
+
+    // 폐업/삭제된 가맹점의 임베딩 (merchant_id 기준 seek)
+    @Query(value = "SELECT me.merchant_id FROM merchant_embedding me " +
+            "LEFT JOIN merchant m ON m.id = me.merchant_id " +
+            "WHERE me.merchant_id > :afterId AND (m.id IS NULL OR m.closed_at IS NOT NULL) " +
+            "ORDER BY me.merchant_id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findOrphanedMerchantIds(@Param("afterId") long afterId,
+                                       @Param("limit") int limit);
+
+    // 임베딩 일괄 저장 (쉼표 구분 id/벡터(base64)/입력 해시 목록을 같은 순서로 묶어 INSERT 한 번으로 반영, 있으면 덮어씀)
+    @Modifying
+    @Query(value = "INSERT INTO merchant_embedding (merchant_id, vector, model, dimension, source_hash, updated_at) " +
+            "SELECT v.id, decode(v.vector, 'base64'), :model, :dimension, v.source_hash, :updatedAt " +
+            "FROM (SELECT unnest(string_to_array(CAST(:ids AS text), ','))::bigint AS id, " +
+            "unnest(string_to_array(CAST(:vectors AS text), ',')) AS vector, " +
+            "unnest(string_to_array(CAST(:sourceHashes AS text), ',')) AS source_hash) v " +
+            "ON CONFLICT (merchant_id) DO UPDATE SET " +
+            "vector = EXCLUDED.vector, model = EXCLUDED.model, dimension = EXCLUDED.dimension, " +
+            "source_hash = EXCLUDED.source_hash, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int upsertAll(@Param("ids") String ids,
+                  @Param("vectors") String vectors,
+                  @Param("sourceHashes") String sourceHashes,
+                  @Param("model") String model,
+                  @Param("dimension") int dimension,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 입력이 그대로인 임베딩의 갱신 시각만 변경 (쉼표 구분 id 목록)
+    @Modifying
+    @Query(value = "UPDATE merchant_embedding SET updated_at = :updatedAt " +
+            "WHERE merchant_id = ANY(string_to_array(CAST(:merchantIds AS text), ',')::bigint[])",
+            nativeQuery = true)
+    int markRefreshed(@Param("merchantIds") String merchantIds,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 가맹점 변경 시 다음 갱신 대상으로 표시 (쉼표 구분 id 목록)
+    @Modifying
+    @Query(value = "UPDATE merchant_embedding SET updated_at = NULL " +
+            "WHERE merchant_id = ANY(string_to_array(CAST(:merchantIds AS text), ',')::bigint[])",
+            nativeQuery = true)
+    int markOutdated(@Param("merchantIds") String merchantIds);
+
+    // 임베딩 삭제 (쉼표 구분 id 목록)
+    @Modifying
+    @Query(value = "DELETE FROM merchant_embedding " +
+            "WHERE merchant_id = ANY(string_to_array(CAST(:merchantIds AS text), ',')::bigint[])",
+            nativeQuery = true)
+    int deleteByMerchantIds(@Param("merchantIds") String merchantIds);
+}
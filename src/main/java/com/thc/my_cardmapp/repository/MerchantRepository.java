@@ -1,40 +1,149 @@
 package com.thc.my_cardmapp.repository;
 
 import com.thc.my_cardmapp.domain.Merchant;
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
+import com.thc.my_cardmapp.repository.projection.MerchantPointView;
+import com.thc.my_cardmapp.repository.projection.MerchantTextView;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MerchantRepository extends JpaRepository<Merchant, Long> {
 
-    // 1. 위치 기반 검색 (반경 내 가맹점)
-    @Query(value = "SELECT m.*, ST_Distance(m.location, :point) as distance " +
+    // 영업 중 가맹점 조건 (네이티브 쿼리용, JPQL 은 엔티티의 @SQLRestriction 으로 적용)
+    String OPEN_CONDITION = "m.closed_at IS NULL ";
+
+    // MerchantNearbyView 프로젝션 공통 컬럼 (distance 제외)
+    String VIEW_COLUMNS = "m.id AS id, m.name AS name, m.address AS address, " +
+            "ST_Y(m.location::geometry) AS latitude, ST_X(m.location::geometry) AS longitude, " +
+            "m.phone AS phone, m.business_hours AS \"businessHours\", " +
+            "c.id AS \"categoryId\", c.name AS \"categoryName\", ";
+
+    // MerchantNearbyView 프로젝션 공통 SELECT 절 (:point 기준 거리 포함)
+    String NEARBY_VIEW_SELECT = "SELECT " + VIEW_COLUMNS +
+            "ST_Distance(m.location, :point) AS distance " +
             "FROM merchant m " +
-            "WHERE ST_DWithin(m.location, :point, :radius) " +
+            "LEFT JOIN category c ON c.id = m.category_id ";
+
+    // 지도 화면 영역(bbox) 조건 - geography GiST 인덱스 사용
+    String VIEWPORT_CONDITION = "m.location && ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326)::geography " +
+            "AND " + OPEN_CONDITION;
+
+    // 1. 위치 기반 검색 (반경 내 가맹점, 프로젝션 - 엔티티/카테고리 지연 로딩 없이 1회 조회)
+    @Query(value = NEARBY_VIEW_SELECT +
+            "WHERE ST_DWithin(m.location, :point, :radius) AND " + OPEN_CONDITION +
             "ORDER BY distance",
             nativeQuery = true)
-    List<Merchant> findNearbyMerchants(@Param("point") Point point,
-                                       @Param("radius") double radius);
+    List<MerchantNearbyView> findNearbyMerchantViews(@Param("point") Point point,
+                                                     @Param("radius") double radius);
 
-    // 2. 카드 타입별 + 위치 기반 검색
-    @Query(value = "SELECT DISTINCT m.*, ST_Distance(m.location, :point) as distance " +
-            "FROM merchant m " +
-            "JOIN merchant_card mc ON m.id = mc.merchant_id " +
-            "JOIN card c ON mc.card_id = c.id " +
-            "WHERE ST_DWithin(m.location, :point, :radius) " +
-            "AND c.name IN :cardNames " +
+    // 1-1. 위치 기반 검색 (가까운 순 개수 제한 - 반경 검색 캐시 셀 적재용)
+    @Query(value = NEARBY_VIEW_SELECT +
+            "WHERE ST_DWithin(m.location, :point, :radius) AND " + OPEN_CONDITION +
+            "ORDER BY distance " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantNearbyView> findNearbyMerchantViewsLimited(@Param("point") Point point,
+                                                            @Param("radius") double radius,
+                                                            @Param("limit") int limit);
+
+    // 2. 카드 타입별 + 위치 기반 검색 (프로젝션)
+    // - DISTINCT 정렬 대신 EXISTS 세미조인으로 카드 조건 확인
+    @Query(value = NEARBY_VIEW_SELECT +
+            "WHERE ST_DWithin(m.location, :point, :radius) AND " + OPEN_CONDITION +
+            "AND EXISTS (SELECT 1 FROM merchant_card mc " +
+            "JOIN card cd ON mc.card_id = cd.id " +
+            "WHERE mc.merchant_id = m.id AND cd.name IN :cardNames) " +
             "ORDER BY distance",
             nativeQuery = true)
-    List<Merchant> findNearbyMerchantsByCards(@Param("point") Point point,
-                                              @Param("radius") double radius,
-                                              @Param("cardNames") List<String> cardNames);
+    List<MerchantNearbyView> findNearbyMerchantViewsByCards(@Param("point") Point point,
+                                                            @Param("radius") double radius,
+                                                            @Param("cardNames") List<String> cardNames);
+
+    // 2-1. 가까운 순 N개 검색 (KNN <-> 연산자 - GiST 인덱스를 거리순으로 탐색)
+    @Query(value = NEARBY_VIEW_SELECT +
+            "WHERE m.location IS NOT NULL AND " + OPEN_CONDITION +
+            "ORDER BY m.location <-> :point " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantNearbyView> findNearestMerchantViews(@Param("point") Point point,
+                                                      @Param("limit") int limit);
+
+    // 2-2. 카드 타입별 가까운 순 N개 검색 (KNN)
+    @Query(value = NEARBY_VIEW_SELECT +
+            "WHERE m.location IS NOT NULL AND " + OPEN_CONDITION +
+            "AND EXISTS (SELECT 1 FROM merchant_card mc " +
+            "JOIN card cd ON mc.card_id = cd.id " +
+            "WHERE mc.merchant_id = m.id AND cd.name IN :cardNames) " +
+            "ORDER BY m.location <-> :point " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantNearbyView> findNearestMerchantViewsByCards(@Param("point") Point point,
+                                                             @Param("limit") int limit,
+                                                             @Param("cardNames") List<String> cardNames);
+
+    // 2-3. 지도 화면 영역 내 가맹점 (거리 없음, 최대 :limit 건)
+    @Query(value = "SELECT " + VIEW_COLUMNS +
+            "CAST(NULL AS double precision) AS distance " +
+            "FROM merchant m " +
+            "LEFT JOIN category c ON c.id = m.category_id " +
+            "WHERE " + VIEWPORT_CONDITION +
+            "ORDER BY m.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantNearbyView> findMerchantViewsInViewport(@Param("minLat") double minLat,
+                                                         @Param("minLng") double minLng,
+                                                         @Param("maxLat") double maxLat,
+                                                         @Param("maxLng") double maxLng,
+                                                         @Param("limit") int limit);
+
+    // 2-4. 지도 화면 영역 격자 클러스터 (ST_SnapToGrid 셀별 개수 + 평균 좌표)
+    @Query(value = "SELECT COUNT(*) AS count, " +
+            "AVG(ST_Y(m.location::geometry)) AS latitude, AVG(ST_X(m.location::geometry)) AS longitude " +
+            "FROM merchant m " +
+            "WHERE " + VIEWPORT_CONDITION +
+            "GROUP BY ST_SnapToGrid(m.location::geometry, :cellSize)",
+            nativeQuery = true)
+    List<MerchantClusterView> findClustersInViewport(@Param("minLat") double minLat,
+                                                     @Param("minLng") double minLng,
+                                                     @Param("maxLat") double maxLat,
+                                                     @Param("maxLng") double maxLng,
+                                                     @Param("cellSize") double cellSize);
+
+    // 2-5. 가맹점 벡터 타일 (Mapbox Vector Tile, 레이어명 merchants)
+    // - 피처 속성: id, name, category, cards(카드명 JSON 배열 문자열 - 이름에 쉼표가 있어도 구분 가능)
+    // - 타일 영역은 geometry 로 비교 (geography 로 변환하면 z=0/1 처럼 넓은 영역이 잘못 해석됨, 표현식 GiST 인덱스 사용)
+    // - :cardNames 가 빈 배열이면 전체, 아니면 카드명 중 하나라도 사용 가능한 가맹점만
+    @Query(value = "WITH bounds AS (SELECT ST_TileEnvelope(:z, :x, :y) AS geom), " +
+            "features AS (" +
+            "SELECT ST_AsMVTGeom(ST_Transform(m.location::geometry, 3857), bounds.geom) AS geom, " +
+            "m.id AS id, m.name AS name, c.name AS category, " +
+            "(SELECT json_agg(cd.name ORDER BY cd.name)::text FROM merchant_card mc JOIN card cd ON cd.id = mc.card_id " +
+            "WHERE mc.merchant_id = m.id) AS cards " +
+            "FROM merchant m " +
+            "LEFT JOIN category c ON c.id = m.category_id " +
+            "CROSS JOIN bounds " +
+            "WHERE m.location::geometry && ST_Transform(bounds.geom, 4326) AND " + OPEN_CONDITION +
+            "AND (cardinality(CAST(:cardNames AS text[])) = 0 OR EXISTS (SELECT 1 FROM merchant_card mc " +
+            "JOIN card cd ON cd.id = mc.card_id " +
+            "WHERE mc.merchant_id = m.id AND cd.name = ANY(CAST(:cardNames AS text[]))))" +
+            ") " +
+            "SELECT ST_AsMVT(features.*, 'merchants') FROM features",
+            nativeQuery = true)
+    byte[] findMerchantTile(@Param("z") int z,
+                            @Param("x") int x,
+                            @Param("y") int y,
+                            @Param("cardNames") String[] cardNames);
 
     // 3. 카테고리별 + 위치 기반 검색
     @Query("SELECT m FROM Merchant m " +
@@ -45,11 +154,26 @@ public interface MerchantRepository extends JpaRepository<Merchant, Long> {
                                                  @Param("radius") double radius,
                                                  @Param("categoryId") Long categoryId);
 
-    // 4. 텍스트 검색 (Full-text search 준비)
-    @Query("SELECT m FROM Merchant m WHERE " +
-            "LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(m.address) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Merchant> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    // 4. 텍스트 검색 (공백 제거 + 소문자 이름/주소 pg_trgm GIN 인덱스 사용, 관련도순)
+    // - 인메모리 n-gram 검색과 같은 정규화: :keyword 는 NgramSearchIndex.normalize 로 정규화해서 전달
+    // - 이름 일치 > 이름 접두 > 트라이그램 유사도 순
+    String COMPACT_NAME = "regexp_replace(LOWER(m.name), '\\s+', '', 'g')";
+    String COMPACT_ADDRESS = "regexp_replace(LOWER(m.address), '\\s+', '', 'g')";
+    String KEYWORD_CONDITION = "(" + COMPACT_NAME + " LIKE CONCAT('%', :keyword, '%') " +
+            "OR " + COMPACT_ADDRESS + " LIKE CONCAT('%', :keyword, '%')) " +
+            "AND " + OPEN_CONDITION;
+
+    @Query(value = "SELECT " + VIEW_COLUMNS +
+            "CAST(NULL AS double precision) AS distance " +
+            "FROM merchant m " +
+            "LEFT JOIN category c ON c.id = m.category_id " +
+            "WHERE " + KEYWORD_CONDITION +
+            "ORDER BY (" + COMPACT_NAME + " = :keyword) DESC, " +
+            "(" + COMPACT_NAME + " LIKE CONCAT(:keyword, '%')) DESC, " +
+            "similarity(" + COMPACT_NAME + ", :keyword) DESC, m.id",
+            countQuery = "SELECT COUNT(*) FROM merchant m WHERE " + KEYWORD_CONDITION,
+            nativeQuery = true)
+    Page<MerchantNearbyView> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // 5. 카드별 가맹점 조회 (페이징)
     @Query("SELECT m FROM Merchant m " +
@@ -76,4 +200,153 @@ public interface MerchantRepository extends JpaRepository<Merchant, Long> {
 
     // 8. 좌표가 있는 가맹점 개수
     long countByLocationIsNotNull();
-}
\ No newline at end of file
+
+    // 8-1. 좌표가 없는 가맹점 개수 (일괄 지오코딩 대상)
+    long countByLocationIsNull();
+
+    // 9. 인메모리 공간 인덱스 적재용 좌표 조회
+    @Query(value = "SELECT m.id AS id, ST_Y(m.location::geometry) AS latitude, ST_X(m.location::geometry) AS longitude " +
+            "FROM merchant m " +
+            "WHERE m.location IS NOT NULL AND " + OPEN_CONDITION,
+            nativeQuery = true)
+    List<MerchantPointView> findAllPoints();
+
+    // 10. 변경된 가맹점 좌표 조회 (인덱스 증분 갱신용)
+    @Query(value = "SELECT m.id AS id, ST_Y(m.location::geometry) AS latitude, ST_X(m.location::geometry) AS longitude " +
+            "FROM merchant m " +
+            "WHERE m.id IN (:ids) AND m.location IS NOT NULL AND " + OPEN_CONDITION,
+            nativeQuery = true)
+    List<MerchantPointView> findPointsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 11. ID 목록으로 프로젝션 조회 (인메모리 인덱스 검색 결과 로딩용, 정렬은 호출 측에서)
+    @Query(value = NEARBY_VIEW_SELECT +
+            "WHERE m.id IN (:ids) AND " + OPEN_CONDITION,
+            nativeQuery = true)
+    List<MerchantNearbyView> findMerchantViewsByIdIn(@Param("point") Point point,
+                                                     @Param("ids") Collection<Long> ids);
+
+    // 12. 커서 페이지네이션 - 전체 목록 (id 기준 seek, OFFSET/COUNT 없음)
+    @Query(value = "SELECT " + VIEW_COLUMNS +
+            "CAST(NULL AS double precision) AS distance " +
+            "FROM merchant m " +
+            "LEFT JOIN category c ON c.id = m.category_id " +
+            "WHERE m.id > :afterId AND " + OPEN_CONDITION +
+            "ORDER BY m.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantNearbyView> findMerchantViewsAfter(@Param("afterId") long afterId,
+                                                    @Param("limit") int limit);
+
+    // 13. 커서 페이지네이션 - 복합 검색 (카드 + 카테고리 + 키워드, id 기준 seek)
+    // - 카드 조건은 findByMultipleFilters 와 같이 카드가 하나 이상 연결된 가맹점만 대상
+    String FILTER_CONDITION = "EXISTS (SELECT 1 FROM merchant_card mc WHERE mc.merchant_id = m.id " +
+            "AND (CAST(:cardId AS bigint) IS NULL OR mc.card_id = CAST(:cardId AS bigint))) " +
+            "AND (CAST(:categoryId AS bigint) IS NULL OR m.category_id = CAST(:categoryId AS bigint)) " +
+            "AND (CAST(:keyword AS text) IS NULL OR LOWER(m.name) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%'))) " +
+            "AND " + OPEN_CONDITION;
+
+    @Query(value = "SELECT " + VIEW_COLUMNS +
+            "CAST(NULL AS double precision) AS distance " +
+            "FROM merchant m " +
+            "LEFT JOIN category c ON c.id = m.category_id " +
+            "WHERE m.id > :afterId " +
+            "AND " + FILTER_CONDITION +
+            "ORDER BY m.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantNearbyView> findMerchantViewsByFiltersAfter(@Param("cardId") Long cardId,
+                                                             @Param("categoryId") Long categoryId,
+                                                             @Param("keyword") String keyword,
+                                                             @Param("afterId") long afterId,
+                                                             @Param("limit") int limit);
+
+    // 14. 복합 검색 건수 (요청 시에만 사용)
+    @Query(value = "SELECT COUNT(*) FROM merchant m WHERE " + FILTER_CONDITION,
+            nativeQuery = true)
+    long countByFilters(@Param("cardId") Long cardId,
+                        @Param("categoryId") Long categoryId,
+                        @Param("keyword") String keyword);
+
+    // 15. 커서 페이지네이션 - 위치 기반 ((distance, id) 기준 seek)
+    // - :cardNames 가 빈 배열이면 전체, 아니면 카드명 중 하나라도 사용 가능한 가맹점만 (text[] 바인딩 - 이름에 쉼표가 있어도 안전)
+    @Query(value = "SELECT * FROM (" + NEARBY_VIEW_SELECT +
+            "WHERE ST_DWithin(m.location, :point, :radius) AND " + OPEN_CONDITION +
+            "AND (cardinality(CAST(:cardNames AS text[])) = 0 OR EXISTS (SELECT 1 FROM merchant_card mc " +
+            "JOIN card cd ON cd.id = mc.card_id " +
+            "WHERE mc.merchant_id = m.id AND cd.name = ANY(CAST(:cardNames AS text[])))) " +
+            ") v " +
+            "WHERE (v.distance, v.id) > (:afterDistance, :afterId) " +
+            "ORDER BY v.distance, v.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantNearbyView> findNearbyMerchantViewsAfter(@Param("point") Point point,
+                                                          @Param("radius") double radius,
+                                                          @Param("cardNames") String[] cardNames,
+                                                          @Param("afterDistance") double afterDistance,
+                                                          @Param("afterId") long afterId,
+                                                          @Param("limit") int limit);
+
+    // 16. 가맹점 수 추정치 (pg_class 통계, COUNT(*) 없이)
+    @Query(value = "SELECT CAST(GREATEST(reltuples, 0) AS bigint) FROM pg_class WHERE relname = 'merchant'",
+            nativeQuery = true)
+    Long estimateMerchantCount();
+
+    // 17. ID 목록으로 프로젝션 조회 (거리 없음, 정렬은 호출 측에서)
+    @Query(value = "SELECT " + VIEW_COLUMNS +
+            "CAST(NULL AS double precision) AS distance " +
+            "FROM merchant m " +
+            "LEFT JOIN category c ON c.id = m.category_id " +
+            "WHERE m.id IN (:ids) AND " + OPEN_CONDITION,
+            nativeQuery = true)
+    List<MerchantNearbyView> findMerchantViewsByIds(@Param("ids") Collection<Long> ids);
+
+    // 18. 인메모리 텍스트 인덱스 적재용 이름/주소 조회
+    @Query("SELECT m.id AS id, m.name AS name, m.address AS address FROM Merchant m")
+    List<MerchantTextView> findAllTexts();
+
+    // 19. 변경된 가맹점 이름/주소 조회 (텍스트 인덱스 증분 갱신용)
+    @Query("SELECT m.id AS id, m.name AS name, m.address AS address FROM Merchant m WHERE m.id IN :ids")
+    List<MerchantTextView> findTextsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 20. 임포트 작업에서 보지 못한 영업 중 가맹점 (폐업 처리 대상, 좌표가 없으면 null)
+    @Query(value = "SELECT m.id AS id, ST_Y(m.location::geometry) AS latitude, ST_X(m.location::geometry) AS longitude " +
+            "FROM merchant m " +
+            "WHERE m.natural_key IS NOT NULL AND " + OPEN_CONDITION +
+            "AND NOT EXISTS (SELECT 1 FROM import_seen_key s WHERE s.job_id = :jobId AND s.natural_key = m.natural_key)",
+            nativeQuery = true)
+    List<MerchantPointView> findOpenMerchantsNotSeenInImport(@Param("jobId") long jobId);
+
+    // 21. 임포트로 등록된(식별 키가 있는) 영업 중 가맹점 수
+    @Query(value = "SELECT COUNT(*) FROM merchant m WHERE m.natural_key IS NOT NULL AND " + OPEN_CONDITION,
+            nativeQuery = true)
+    long countOpenImportedMerchants();
+
+    // 22. 폐업 처리
+    @Modifying
+    @Query("UPDATE Merchant m SET m.closedAt = :closedAt WHERE m.id IN :ids")
+    int closeByIdIn(@Param("ids") Collection<Long> ids, @Param("closedAt") LocalDateTime closedAt);
+
+    // 23. 좌표가 없는 가맹점 주소 (일괄 지오코딩 대상, id 기준 seek)
+    @Query(value = "SELECT m.id AS id, m.name AS name, m.address AS address " +
+            "FROM merchant m " +
+            "WHERE m.location IS NULL AND m.address IS NOT NULL AND m.id > :afterId AND " + OPEN_CONDITION +
+            "ORDER BY m.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<MerchantTextView> findTextsWithoutLocationAfter(@Param("afterId") long afterId,
+                                                         @Param("limit") int limit);
+
+    // 24. 좌표 일괄 갱신 (쉼표 구분 id/경도/위도 목록을 같은 순서로 묶어 UPDATE 한 번으로 반영)
+    // - 그 사이 다른 경로로 좌표가 입력된 가맹점은 덮어쓰지 않음
+    @Modifying
+    @Query(value = "UPDATE merchant m " +
+            "SET location = ST_SetSRID(ST_MakePoint(v.lng, v.lat), 4326)::geography " +
+            "FROM (SELECT unnest(string_to_array(CAST(:ids AS text), ','))::bigint AS id, " +
+            "unnest(string_to_array(CAST(:lngs AS text), ','))::double precision AS lng, " +
+            "unnest(string_to_array(CAST(:lats AS text), ','))::double precision AS lat) v " +
+            "WHERE m.id = v.id AND m.location IS NULL",
+            nativeQuery = true)
+    int updateLocations(@Param("ids") String ids,
+                        @Param("lngs") String lngs,
+                        @Param("lats") String lats);
+}
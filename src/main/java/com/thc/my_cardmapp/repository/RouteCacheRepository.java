@@ -1,7 +1,7 @@
 package com.thc.my_cardmapp.repository;
 
 import com.thc.my_cardmapp.domain.RouteCache;
-import org.locationtech.jts.geom.Point;
+import com.thc.my_cardmapp.repository.projection.RouteCacheView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,24 +10,56 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface RouteCacheRepository extends JpaRepository<RouteCache, Long> {
 
-    // 경로 캐시 조회 (출발지, 도착지로)
-    @Query("SELECT rc FROM RouteCache rc " +
-            "WHERE FUNCTION('ST_Equals', rc.origin, :origin) = true " +
-            "AND FUNCTION('ST_Equals', rc.dest, :dest) = true " +
-            "AND rc.expiresAt > :now")
-    Optional<RouteCache> findValidCache(@Param("origin") Point origin,
-                                        @Param("dest") Point dest,
-                                        @Param("now") LocalDateTime now);
+    // 경로 캐시 조회 (가맹점 목록 x 출발지 셀 목록, 쉼표 구분, (merchant_id, origin_cell) 인덱스 사용)
+    @Query(value = "SELECT rc.merchant_id AS merchantId, rc.origin_cell AS originCell, " +
+            "ST_Y(rc.origin::geometry) AS originLat, ST_X(rc.origin::geometry) AS originLng, " +
+            "rc.distance_m AS distanceM, rc.travel_time_s AS travelTimeS, " +
+            "ST_AsText(rc.path) AS path, rc.expires_at AS expiresAt " +
+            "FROM route_cache rc " +
+            "WHERE rc.merchant_id = ANY(string_to_array(CAST(:merchantIds AS text), ',')::bigint[]) " +
+            "AND rc.origin_cell = ANY(string_to_array(CAST(:originCells AS text), ',')) " +
+            "AND rc.expires_at > :now",
+            nativeQuery = true)
+    List<RouteCacheView> findValidByMerchantsAndOriginCells(@Param("merchantIds") String merchantIds,
+                                                            @Param("originCells") String originCells,
+                                                            @Param("now") LocalDateTime now);
+
+    // 경로 저장 (같은 가맹점 + 셀은 최신 경로로 덮어씀, 경로는 WKT LINESTRING)
+    @Modifying
+    @Query(value = "INSERT INTO route_cache (merchant_id, origin_cell, origin, dest, distance_m, travel_time_s, path, expires_at) " +
+            "VALUES (:merchantId, :originCell, " +
+            "ST_SetSRID(ST_MakePoint(:originLng, :originLat), 4326)::geography, " +
+            "ST_SetSRID(ST_MakePoint(:destLng, :destLat), 4326)::geography, " +
+            ":distanceM, :travelTimeS, ST_GeomFromText(CAST(:path AS text), 4326), :expiresAt) " +
+            "ON CONFLICT (merchant_id, origin_cell) DO UPDATE SET " +
+            "origin = EXCLUDED.origin, dest = EXCLUDED.dest, distance_m = EXCLUDED.distance_m, " +
+            "travel_time_s = EXCLUDED.travel_time_s, path = EXCLUDED.path, expires_at = EXCLUDED.expires_at",
+            nativeQuery = true)
+    int upsert(@Param("merchantId") Long merchantId,
+               @Param("originCell") String originCell,
+               @Param("originLat") double originLat,
+               @Param("originLng") double originLng,
+               @Param("destLat") double destLat,
+               @Param("destLng") double destLng,
+               @Param("distanceM") Integer distanceM,
+               @Param("travelTimeS") Integer travelTimeS,
+               @Param("path") String path,
+               @Param("expiresAt") LocalDateTime expiresAt);
 
     // 만료된 캐시 삭제
     @Modifying
     @Query("DELETE FROM RouteCache rc WHERE rc.expiresAt < :now")
-    void deleteExpiredCaches(@Param("now") LocalDateTime now);
+    int deleteExpiredCaches(@Param("now") LocalDateTime now);
+
+    // 가맹점 위치 변경 시 해당 가맹점 경로 삭제 (쉼표 구분 id 목록)
+    @Modifying
+    @Query(value = "DELETE FROM route_cache WHERE merchant_id = ANY(string_to_array(CAST(:merchantIds AS text), ',')::bigint[])",
+            nativeQuery = true)
+    int deleteByMerchantIds(@Param("merchantIds") String merchantIds);
 
     // 특정 가맹점 관련 캐시 조회
     @Query("SELECT rc FROM RouteCache rc " +
@@ -35,4 +67,4 @@ public interface RouteCacheRepository extends JpaRepository<RouteCache, Long> {
             "AND rc.expiresAt > :now")
     List<RouteCache> findByMerchantId(@Param("merchantId") Long merchantId,
                                       @Param("now") LocalDateTime now);
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.thc.my_cardmapp.repository.projection;
+
+/**
+ * 가맹점-카드 연결 프로젝션 (카드 비트맵 적재용)
+ */
+public interface MerchantCardView {
+
+    Long getMerchantId();
+
+    String getCardName();
+}
@@ -0,0 +1,13 @@
+package com.thc.my_cardmapp.repository.projection;
+
+/**
+ * 격자 클러스터 프로젝션 (셀별 가맹점 수와 중심 좌표)
+ */
+public interface MerchantClusterView {
+
+    Long getCount();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
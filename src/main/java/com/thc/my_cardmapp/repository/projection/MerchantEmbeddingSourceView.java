@@ -0,0 +1,16 @@
+package com.thc.my_cardmapp.repository.projection;
+
+/**
+ * 임베딩 입력 프로젝션 (가맹점 이름 + 카테고리명, 저장된 임베딩의 입력 해시)
+ */
+public interface MerchantEmbeddingSourceView {
+
+    Long getId();
+
+    String getName();
+
+    String getCategoryName();
+
+    // 저장된 임베딩이 없으면 null
+    String getSourceHash();
+}
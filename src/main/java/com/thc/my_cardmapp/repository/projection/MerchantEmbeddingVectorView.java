@@ -0,0 +1,12 @@
+package com.thc.my_cardmapp.repository.projection;
+
+/**
+ * 저장된 임베딩 벡터 프로젝션 (인메모리 유사도 인덱스 적재용)
+ */
+public interface MerchantEmbeddingVectorView {
+
+    Long getMerchantId();
+
+    // float32 little-endian 연속 배열 (VectorCodec)
+    byte[] getVector();
+}
@@ -0,0 +1,28 @@
+package com.thc.my_cardmapp.repository.projection;
+
+/**
+ * 위치 기반 검색 결과 프로젝션
+ * 엔티티 로딩 없이 카테고리와 SQL에서 계산한 거리(m)까지 한 번에 조회
+ */
+public interface MerchantNearbyView {
+
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    String getPhone();
+
+    String getBusinessHours();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    Double getDistance();
+}
@@ -0,0 +1,13 @@
+package com.thc.my_cardmapp.repository.projection;
+
+/**
+ * 가맹점 좌표 전용 프로젝션 (인메모리 공간 인덱스 적재용)
+ */
+public interface MerchantPointView {
+
+    Long getId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
@@ -0,0 +1,13 @@
+package com.thc.my_cardmapp.repository.projection;
+
+/**
+ * 가맹점 이름/주소 프로젝션 (인메모리 텍스트 인덱스 적재용)
+ */
+public interface MerchantTextView {
+
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+}
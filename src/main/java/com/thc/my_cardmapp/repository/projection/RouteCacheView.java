@@ -0,0 +1,25 @@
+package com.thc.my_cardmapp.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경로 캐시 프로젝션 (출발지 좌표 분리, 경로는 WKT)
+ */
+public interface RouteCacheView {
+
+    Long getMerchantId();
+
+    String getOriginCell();
+
+    Double getOriginLat();
+
+    Double getOriginLng();
+
+    Integer getDistanceM();
+
+    Integer getTravelTimeS();
+
+    String getPath();
+
+    LocalDateTime getExpiresAt();
+}
@@ -0,0 +1,51 @@
+package com.thc.my_cardmapp.routing;
+
+import com.thc.my_cardmapp.index.SpatialGridIndex;
+
+import java.util.List;
+
+/**
+ * 오프라인 도보 경로 추정 (외부 API 없이 항상 결과를 반환)
+ * - 거리: 직선 거리 x 우회 계수 (도로망을 따라 걷는 거리 근사)
+ * - 경로선: 출발지 → 도착지 직선
+ * - 개발/테스트용 엔진, 실제 엔진 실패 시 대체 추정값으로도 사용
+ */
+public class LocalRoutingEngine implements RoutingEngine {
+
+    public static final String NAME = "LOCAL";
+
+    private final double detourFactor;
+    private final double walkingSpeedMps;
+
+    /**
+     * @param detourFactor 직선 거리 대비 실제 보행 거리 비율 (예: 1.3)
+     * @param walkingSpeedMps 보행 속도 (m/s, 예: 1.2 ≒ 4.3km/h)
+     */
+    public LocalRoutingEngine(double detourFactor, double walkingSpeedMps) {
+        if (detourFactor < 1.0 || walkingSpeedMps <= 0) {
+            throw new IllegalArgumentException("우회 계수는 1 이상, 보행 속도는 0보다 커야 합니다");
+        }
+        this.detourFactor = detourFactor;
+        this.walkingSpeedMps = walkingSpeedMps;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public RouteResult route(double originLat, double originLng, double destLat, double destLng) {
+        double distance = SpatialGridIndex.haversine(originLat, originLng, destLat, destLng) * detourFactor;
+        String path = RouteResult.lineString(List.of(
+                new double[]{originLng, originLat},
+                new double[]{destLng, destLat}));
+        return new RouteResult(NAME, (int) Math.round(distance),
+                (int) Math.round(distance / walkingSpeedMps), path);
+    }
+}
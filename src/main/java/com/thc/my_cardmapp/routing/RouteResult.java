@@ -0,0 +1,31 @@
+package com.thc.my_cardmapp.routing;
+
+import java.util.List;
+
+/**
+ * 경로 계산 결과
+ * @param engine 계산한 엔진 이름
+ * @param distanceM 도보 거리 (m)
+ * @param travelTimeS 도보 소요 시간 (초)
+ * @param path 경로선 WKT (LINESTRING, 경도 위도 순), 없으면 null
+ */
+public record RouteResult(String engine, int distanceM, int travelTimeS, String path) {
+
+    /**
+     * [경도, 위도] 점 목록 → WKT LINESTRING (점이 2개 미만이면 null)
+     */
+    public static String lineString(List<double[]> lngLatPoints) {
+        if (lngLatPoints.size() < 2) {
+            return null;
+        }
+        StringBuilder wkt = new StringBuilder(16 + lngLatPoints.size() * 24).append("LINESTRING(");
+        for (int i = 0; i < lngLatPoints.size(); i++) {
+            if (i > 0) {
+                wkt.append(", ");
+            }
+            double[] point = lngLatPoints.get(i);
+            wkt.append(point[0]).append(' ').append(point[1]);
+        }
+        return wkt.append(')').toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.thc.my_cardmapp.routing;
+
+/**
+ * 도보 경로 계산 엔진 (T map 보행자 경로, 오프라인 직선 추정)
+ * - 캐시와 중복 요청 합치기는 호출 측(RouteService) 책임
+ * - 호출 실패는 예외, 경로를 찾지 못하면 null
+ */
+public interface RoutingEngine {
+
+    /**
+     * 엔진 이름 (route.engine 설정과 같은 값)
+     */
+    String getName();
+
+    /**
+     * API 키 등 호출에 필요한 설정이 있는지
+     */
+    boolean isEnabled();
+
+    RouteResult route(double originLat, double originLng, double destLat, double destLng);
+}
@@ -0,0 +1,62 @@
+package com.thc.my_cardmapp.routing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 요청 합치기
+ * - 키의 계산이 진행 중이면 새로 계산하지 않고 그 결과를 함께 기다림
+ * - 계산이 끝나면 키를 비움 (결과 보관은 호출 측 캐시 책임)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * 진행 중인 계산이 있으면 그 결과, 없으면 executor 에서 loader 실행
+     * - 호출자마다 별도 future 를 반환 (한 호출자의 취소/타임아웃이 다른 호출자에 영향 없음)
+     */
+    public CompletableFuture<V> execute(K key, Supplier<V> loader, Executor executor) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            shared.increment();
+            return existing.copy();
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(loader.get());
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created.copy();
+    }
+
+    /**
+     * 진행 중인 키 수
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    /**
+     * 진행 중인 계산을 함께 기다린 요청 수
+     */
+    public long getShared() {
+        return shared.sum();
+    }
+}
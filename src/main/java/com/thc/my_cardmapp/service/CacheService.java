@@ -1,11 +1,14 @@
 package com.thc.my_cardmapp.service;
 
+import com.thc.my_cardmapp.cache.TwoLevelCacheManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -14,9 +17,10 @@ import java.util.Objects;
 public class CacheService {
 
     private final CacheManager cacheManager;
+    private final NearbyResultCache nearbyResultCache;
 
     /**
-     * 특정 캐시 삭제
+     * 특정 캐시 삭제 (L1/L2 삭제 후 다른 노드에도 무효화 전파)
      */
     public void evictCache(String cacheName) {
         Objects.requireNonNull(cacheManager.getCache(cacheName)).clear();
@@ -41,13 +45,26 @@ public class CacheService {
         log.info("모든 캐시 삭제 완료");
     }
 
+    /**
+     * 캐시별 적중률/크기 통계
+     */
+    public Map<String, Map<String, Object>> getCacheStatistics() {
+        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            statistics.putAll(twoLevelCacheManager.getStatistics());
+        }
+        // 반경 검색은 셀 단위 적중률을 별도 집계
+        statistics.put("nearbyQueries", nearbyResultCache.getStatistics());
+        return statistics;
+    }
+
     /**
      * 주기적 캐시 정리 (매일 새벽 3시)
      */
     @Scheduled(cron = "0 0 3 * * *")
     public void scheduledCacheEvict() {
         log.info("스케줄된 캐시 정리 시작");
-        evictCache("nearbyMerchants");
+        evictCache(NearbyResultCache.CACHE_NAME);
         evictCache("activeCards");
         evictCache("activeCategories");
     }
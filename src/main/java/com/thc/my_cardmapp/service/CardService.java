@@ -9,6 +9,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -55,11 +56,12 @@ public class CardService {
         Card card = getCardById(cardId);
         Long merchantCount = merchantCardRepository.countByCardId(cardId);
 
-        return Map.of(
-                "card", card,
-                "merchantCount", merchantCount,
-                "isActive", merchantCount > 0
-        );
+        // Redis 캐시에서 역직렬화할 수 있도록 불변 Map 대신 LinkedHashMap 사용
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("card", card);
+        statistics.put("merchantCount", merchantCount);
+        statistics.put("isActive", merchantCount > 0);
+        return statistics;
     }
 
     /**
@@ -8,6 +8,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,10 +38,12 @@ public class CategoryService {
         List<Object[]> results = categoryRepository.findPopularCategoriesByCardId(cardId);
 
         return results.stream()
-                .map(row -> Map.of(
-                        "category", row[0],
-                        "merchantCount", row[1]
-                ))
+                .map(row -> {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("category", row[0]);
+                    item.put("merchantCount", row[1]);
+                    return item;
+                })
                 .collect(Collectors.toList());
     }
 
@@ -1,41 +1,100 @@
 package com.thc.my_cardmapp.service;
 
+import com.thc.my_cardmapp.csv.CsvCharsetDetector;
+import com.thc.my_cardmapp.csv.CsvReader;
 import com.thc.my_cardmapp.domain.Card;
 import com.thc.my_cardmapp.domain.Category;
-import com.thc.my_cardmapp.domain.Merchant;
-import com.thc.my_cardmapp.domain.MerchantCard;
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
 import com.thc.my_cardmapp.repository.CardRepository;
 import com.thc.my_cardmapp.repository.CategoryRepository;
-import com.thc.my_cardmapp.repository.MerchantCardRepository;
+import com.thc.my_cardmapp.repository.ImportJobRepository;
 import com.thc.my_cardmapp.repository.MerchantRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantPointView;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CsvImportService {
 
-    private final MerchantRepository merchantRepository;
-    private final MerchantCardRepository merchantCardRepository;
     private final CategoryRepository categoryRepository;
     private final CardRepository cardRepository;
+    private final MerchantRepository merchantRepository;
+    private final ImportJobRepository importJobRepository;
+    private final MerchantCopyWriter merchantCopyWriter;
+    private final TransactionTemplate transactionTemplate;
     private final ResourceLoader resourceLoader;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final int BATCH_SIZE = 1000;
     private static final String CARD_NAME = "지역사랑상품권";
+    private static final int MAX_ERROR_SAMPLES_PER_CHUNK = 5;
+    // 가맹점명, 업종명, 우편번호, 자치구명, 기본주소, 상세주소
+    private static final int COLUMN_COUNT = 6;
+    private static final int CLOSE_BATCH_SIZE = 1000;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int ERROR_SAMPLE_LENGTH = 200;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    // 청크(트랜잭션) 당 행 수
+    @Value("${merchant.import.chunk-size:5000}")
+    private int chunkSize;
+
+    // 변환 작업자 수 (0이면 CPU 코어 수)
+    @Value("${merchant.import.workers:0}")
+    private int workers;
+
+    // CSV 문자셋 (auto 면 UTF-8 여부를 추정하고 아니면 default-charset)
+    @Value("${merchant.import.charset:auto}")
+    private String charsetName;
+
+    @Value("${merchant.import.default-charset:EUC-KR}")
+    private String defaultCharsetName;
+
+    // 로컬 파일은 메모리 매핑으로 읽기
+    @Value("${merchant.import.memory-mapped:true}")
+    private boolean memoryMapped;
+
+    // 한 번에 폐업 처리할 수 있는 최대 비율 (넘으면 잘못된 파일로 보고 건너뜀)
+    @Value("${merchant.import.max-close-ratio:0.3}")
+    private double maxCloseRatio;
 
     /**
      * 서울페이 업종명을 카테고리 ID로 매핑
@@ -85,146 +144,370 @@ public class CsvImportService {
 
     /**
      * CSV 파일에서 가맹점 데이터를 읽어서 DB에 저장
+     * - 읽기(현재 스레드) → 파싱/변환(작업자 풀) → COPY 적재(적재 스레드, 청크별 트랜잭션) 파이프라인
+     * - 적재는 읽은 순서대로 진행되며, 실패 시 그 이전 청크까지는 커밋된 상태로 남음
+     * - 청크마다 같은 트랜잭션 안에서 listener 를 호출하므로 체크포인트 저장과 적재가 함께 커밋됨
+     * - 정규화한 (이름, 주소) 키로 upsert 하므로 같은 파일을 다시 적재해도 중복되지 않음
      * @param csvFilePath CSV 파일 경로
-     * @param limit 삽입할 최대 레코드 수 (0이면 전체)
+     * @param limit 처리할 최대 데이터 레코드 수 (0이면 전체, 재개 시 이전 실행분 포함)
+     * @param jobId 본 키를 기록할 임포트 작업 ID (closeMissingMerchants 용, null 이면 기록 안 함)
+     * @param from 이어서 읽을 위치 (처음부터면 ImportCheckpoint.START)
+     * @param listener 청크 커밋 직전 호출 (적재 스레드, 트랜잭션 내부)
      */
-    @Transactional
-    public void importMerchantsFromCsv(String csvFilePath, int limit) {
-        log.info("CSV 임포트 시작: {}", csvFilePath);
+    public ImportResult importMerchantsFromCsv(String csvFilePath, int limit, Long jobId, ImportCheckpoint from,
+                                               ChunkListener listener) {
+        log.info("CSV 임포트 시작: {} (offset: {}, record: {})", csvFilePath, from.byteOffset(), from.linesRead());
+        long start = System.currentTimeMillis();
 
         Map<String, Long> categoryMapping = createCategoryMapping();
         Card targetCard = cardRepository.findByName(CARD_NAME)
                 .orElseThrow(() -> new RuntimeException("카드를 찾을 수 없습니다: " + CARD_NAME));
 
-        List<Merchant> merchantBatch = new ArrayList<>();
-        int totalCount = 0;
-        int successCount = 0;
-        int skipCount = 0;
-
         // Resource 로드 (classpath: 또는 file: 지원)
         Resource resource = resourceLoader.getResource(csvFilePath);
 
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(resource.getInputStream(), Charset.forName("EUC-KR")))) {
+        int workerCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        ExecutorService workerPool = Executors.newFixedThreadPool(workerCount, namedThreads("csv-import-worker"));
+        ExecutorService writerThread = Executors.newSingleThreadExecutor(namedThreads("csv-import-writer"));
 
-            String line;
-            boolean isHeader = true;
+        // 변환 결과를 읽은 순서대로 적재 (큐 크기로 읽기 속도 제한)
+        BlockingQueue<Future<ConvertedChunk>> pending = new ArrayBlockingQueue<>(workerCount * 2);
+        ImportResult result = new ImportResult();
+        Future<?> writing = writerThread.submit(() -> {
+            writeChunks(pending, targetCard.getId(), jobId, listener, result);
+            return null;
+        });
 
-            while ((line = br.readLine()) != null) {
-                // 헤더 스킵
-                if (isHeader) {
-                    isHeader = false;
-                    continue;
+        try {
+            try (CsvReader reader = openReader(resource, from.byteOffset())) {
+
+                if (from.byteOffset() == 0) {
+                    reader.next(); // 헤더 스킵
                 }
 
-                // limit 체크
-                if (limit > 0 && totalCount >= limit) {
-                    break;
+                List<String[]> records = new ArrayList<>(chunkSize);
+                long readCount = from.linesRead();
+                long chunkFirstRecord = readCount + 1;
+                while ((limit <= 0 || readCount < limit) && reader.next()) {
+                    records.add(copyFields(reader));
+                    readCount++;
+                    if (records.size() == chunkSize) {
+                        ImportCheckpoint checkpoint = new ImportCheckpoint(reader.getOffset(), readCount);
+                        if (!enqueue(pending, convertAsync(workerPool, records, chunkFirstRecord, checkpoint, categoryMapping), writing)) {
+                            break; // 적재 실패 시 읽기 중단
+                        }
+                        records = new ArrayList<>(chunkSize);
+                        chunkFirstRecord = readCount + 1;
+                    }
                 }
+                if (!records.isEmpty()) {
+                    ImportCheckpoint checkpoint = new ImportCheckpoint(reader.getOffset(), readCount);
+                    enqueue(pending, convertAsync(workerPool, records, chunkFirstRecord, checkpoint, categoryMapping), writing);
+                }
+            } finally {
+                // 종료 표시
+                enqueue(pending, CompletableFuture.completedFuture(null), writing);
+            }
 
-                try {
-                    String[] fields = parseCsvLine(line);
+            writing.get();
 
-                    if (fields.length < 6) {
-                        log.warn("컬럼 수 부족, 스킵: {}", line);
-                        skipCount++;
-                        continue;
-                    }
+        } catch (ExecutionException e) {
+            log.error("CSV 적재 실패 - 커밋된 레코드: {}", result.getImportedRows(), e.getCause());
+            throw new RuntimeException("CSV 임포트 실패", e.getCause());
+        } catch (Exception e) {
+            log.error("CSV 파일 읽기 실패", e);
+            throw new RuntimeException("CSV 임포트 실패", e);
+        } finally {
+            workerPool.shutdownNow();
+            writerThread.shutdownNow();
+        }
 
-                    String name = fields[0].trim();
-                    String businessType = fields[1].trim();
-                    String district = fields[3].trim();
-                    String baseAddress = fields[4].trim();
-                    String detailAddress = fields.length > 5 ? fields[5].trim() : "";
+        result.setElapsedMs(System.currentTimeMillis() - start);
+        log.info("CSV 임포트 완료 - 총: {}, 추가: {}, 갱신: {}, 변경 없음: {}, 스킵: {}, {}ms ({}건/초)",
+                result.getTotalRows(), result.getInsertedRows(), result.getUpdatedRows(), result.getUnchangedRows(),
+                result.getSkippedRows(), result.getElapsedMs(), result.getRowsPerSecond());
+        return result;
+    }
 
-                    // 주소 결합
-                    String fullAddress = baseAddress;
-                    if (!detailAddress.isEmpty()) {
-                        fullAddress += " " + detailAddress;
-                    }
+    /**
+     * 파일 전체를 적재한 작업에서 보지 못한 가맹점을 폐업 처리하고 본 키 기록 삭제
+     * - 폐업 비율이 설정값을 넘으면 잘못된 파일로 보고 폐업 처리를 건너뜀
+     * @return 폐업 처리한 가맹점 수
+     */
+    public int closeMissingMerchants(long jobId) {
+        Integer closed = transactionTemplate.execute(status -> {
+            List<MerchantPointView> missing = merchantRepository.findOpenMerchantsNotSeenInImport(jobId);
+            long open = merchantRepository.countOpenImportedMerchants();
+            importJobRepository.deleteSeenKeys(jobId);
+
+            if (missing.isEmpty()) {
+                return 0;
+            }
+            if (missing.size() > open * maxCloseRatio) {
+                log.warn("폐업 처리 건너뜀 - 작업: {}, 대상: {}/{} (최대 비율 {})", jobId, missing.size(), open, maxCloseRatio);
+                return 0;
+            }
 
-                    // 카테고리 매핑
-                    Long categoryId = categoryMapping.getOrDefault(businessType, categoryMapping.get("DEFAULT"));
-
-                    // Merchant 엔티티 생성
-                    Merchant merchant = Merchant.builder()
-                            .name(name)
-                            .address(fullAddress)
-                            .geography(district)
-                            .category(categoryRepository.findById(categoryId).orElseThrow())
-                            .build();
-
-                    merchantBatch.add(merchant);
-                    totalCount++;
-
-                    // 배치 처리
-                    if (merchantBatch.size() >= BATCH_SIZE) {
-                        successCount += saveMerchantBatch(merchantBatch, targetCard);
-                        merchantBatch.clear();
-                        log.info("진행률: {}/{} 저장 완료", successCount, totalCount);
+            // 배치마다 폐업 처리하고 이벤트도 나눠 발행 (리스너의 IN 절 조회가 바인드 파라미터 한도를 넘지 않도록)
+            // 폐업 가맹점은 조회에서 빠지므로 이전 좌표로 캐시 무효화
+            LocalDateTime now = LocalDateTime.now();
+            for (int from = 0; from < missing.size(); from += CLOSE_BATCH_SIZE) {
+                List<MerchantPointView> batch = missing.subList(from, Math.min(missing.size(), from + CLOSE_BATCH_SIZE));
+                List<Long> ids = new ArrayList<>(batch.size());
+                List<Point> locations = new ArrayList<>();
+                for (MerchantPointView point : batch) {
+                    ids.add(point.getId());
+                    if (point.getLatitude() != null && point.getLongitude() != null) {
+                        locations.add(geometryFactory.createPoint(new Coordinate(point.getLongitude(), point.getLatitude())));
                     }
-
-                } catch (Exception e) {
-                    log.error("레코드 처리 실패: {}", line, e);
-                    skipCount++;
                 }
+                merchantRepository.closeByIdIn(ids, now);
+                eventPublisher.publishEvent(new MerchantChangedEvent(ids, locations));
             }
+            return missing.size();
+        });
+        log.info("폐업 처리 - 작업: {}, {}건", jobId, closed);
+        return closed == null ? 0 : closed;
+    }
+
+    /**
+     * 일부만 적재한 작업의 본 키 기록 삭제 (폐업 판정 없이)
+     */
+    public void discardSeenKeys(long jobId) {
+        transactionTemplate.executeWithoutResult(status -> importJobRepository.deleteSeenKeys(jobId));
+    }
 
-            // 남은 배치 처리
-            if (!merchantBatch.isEmpty()) {
-                successCount += saveMerchantBatch(merchantBatch, targetCard);
-                log.info("최종: {}/{} 저장 완료", successCount, totalCount);
+    /**
+     * 적재 스레드: 변환된 청크를 순서대로 꺼내 청크마다 별도 트랜잭션으로 upsert
+     */
+    private void writeChunks(BlockingQueue<Future<ConvertedChunk>> pending, long cardId, Long jobId,
+                             ChunkListener listener, ImportResult result) throws Exception {
+        while (true) {
+            ConvertedChunk chunk = pending.take().get();
+            if (chunk == null) {
+                return;
             }
 
-            log.info("CSV 임포트 완료 - 총: {}, 성공: {}, 스킵: {}", totalCount, successCount, skipCount);
+            // 모두 스킵된 청크도 체크포인트는 전진
+            MerchantCopyWriter.UpsertResult upserted = transactionTemplate.execute(status -> {
+                MerchantCopyWriter.UpsertResult written = merchantCopyWriter.upsert(chunk.rows(), cardId, jobId);
+                listener.onChunk(new ChunkResult(chunk.checkpoint(), written.insertedIds().size(),
+                        written.updatedIds().size(), written.unchanged(), chunk.skipped(), chunk.errorSamples()));
+
+                // 바뀐 가맹점만 커밋 이후 위치/카드 인덱스, 캐시 반영
+                List<Long> changedIds = new ArrayList<>(written.insertedIds());
+                changedIds.addAll(written.updatedIds());
+                if (!changedIds.isEmpty()) {
+                    eventPublisher.publishEvent(new MerchantChangedEvent(changedIds));
+                }
+                return written;
+            });
+
+            result.setTotalRows(result.getTotalRows() + chunk.rows().size() + chunk.skipped());
+            result.setInsertedRows(result.getInsertedRows() + upserted.insertedIds().size());
+            result.setUpdatedRows(result.getUpdatedRows() + upserted.updatedIds().size());
+            result.setUnchangedRows(result.getUnchangedRows() + upserted.unchanged());
+            result.setSkippedRows(result.getSkippedRows() + chunk.skipped());
+            log.info("진행률: {}건 처리 - 추가 {}, 갱신 {}, 변경 없음 {} (record: {})",
+                    result.getTotalRows(), result.getInsertedRows(), result.getUpdatedRows(),
+                    result.getUnchangedRows(), chunk.checkpoint().linesRead());
+        }
+    }
+
+    /**
+     * 파일 경로면 (설정 시) 메모리 매핑, classpath 등은 스트림으로 읽기
+     */
+    private CsvReader openReader(Resource resource, long startOffset) throws IOException {
+        Charset charset = resolveCharset(resource);
+        if (memoryMapped && resource.isFile()) {
+            return CsvReader.open(resource.getFile().toPath(), charset, startOffset, true);
+        }
+        return CsvReader.open(resource.getInputStream(), charset, startOffset);
+    }
 
-        } catch (Exception e) {
-            log.error("CSV 파일 읽기 실패", e);
-            throw new RuntimeException("CSV 임포트 실패", e);
+    private Charset resolveCharset(Resource resource) throws IOException {
+        if (!"auto".equalsIgnoreCase(charsetName)) {
+            return Charset.forName(charsetName);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            Charset detected = CsvCharsetDetector.detect(in, Charset.forName(defaultCharsetName));
+            log.info("CSV 문자셋: {}", detected);
+            return detected;
+        }
+    }
+
+    /**
+     * 사용하는 앞쪽 컬럼만 복사 (리더의 레코드 버퍼는 다음 레코드에서 재사용)
+     */
+    private static String[] copyFields(CsvReader reader) {
+        String[] fields = new String[Math.min(reader.getFieldCount(), COLUMN_COUNT)];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = reader.getString(i);
         }
+        return fields;
+    }
+
+    private Future<ConvertedChunk> convertAsync(ExecutorService workerPool, List<String[]> records, long firstRecord,
+                                                ImportCheckpoint checkpoint, Map<String, Long> categoryMapping) {
+        return workerPool.submit(() -> convertChunk(records, firstRecord, checkpoint, categoryMapping));
     }
 
     /**
-     * Merchant 배치 저장 및 MerchantCard 연결
+     * 작업자 풀: CSV 레코드 → 적재 행 변환 (카테고리는 미리 만든 매핑으로 조회, DB 접근 없음)
+     * @param firstRecord 첫 레코드의 데이터 레코드 번호 (1부터, 오류 샘플 표시용)
      */
-    private int saveMerchantBatch(List<Merchant> merchants, Card card) {
-        List<Merchant> savedMerchants = merchantRepository.saveAll(merchants);
+    private ConvertedChunk convertChunk(List<String[]> records, long firstRecord, ImportCheckpoint checkpoint,
+                                        Map<String, Long> categoryMapping) {
+        List<MerchantCopyWriter.MerchantRow> rows = new ArrayList<>(records.size());
+        List<String> errorSamples = new ArrayList<>();
+        int skipped = 0;
+
+        for (int i = 0; i < records.size(); i++) {
+            String[] fields = records.get(i);
+            try {
+                if (fields.length < COLUMN_COUNT) {
+                    String record = String.join(",", fields);
+                    log.warn("컬럼 수 부족, 스킵: {}", record);
+                    skipped++;
+                    addErrorSample(errorSamples, firstRecord + i, "컬럼 수 부족 (" + fields.length + ")", record);
+                    continue;
+                }
+
+                String name = fields[0].trim();
+                String businessType = fields[1].trim();
+                String district = fields[3].trim();
+                String baseAddress = fields[4].trim();
+                String detailAddress = fields.length > 5 ? fields[5].trim() : "";
 
-        List<MerchantCard> merchantCards = new ArrayList<>();
-        for (Merchant merchant : savedMerchants) {
-            MerchantCard merchantCard = MerchantCard.builder()
-                    .merchant(merchant)
-                    .card(card)
-                    .build();
-            merchantCards.add(merchantCard);
+                // 주소 결합
+                String fullAddress = baseAddress;
+                if (!detailAddress.isEmpty()) {
+                    fullAddress += " " + detailAddress;
+                }
+
+                // 카테고리 매핑
+                Long categoryId = categoryMapping.getOrDefault(businessType, categoryMapping.get("DEFAULT"));
+
+                rows.add(new MerchantCopyWriter.MerchantRow(name, fullAddress, district, categoryId,
+                        naturalKey(name, fullAddress), contentHash(name, fullAddress, district, categoryId)));
+
+            } catch (Exception e) {
+                String record = String.join(",", fields);
+                log.error("레코드 처리 실패: {}", record, e);
+                skipped++;
+                addErrorSample(errorSamples, firstRecord + i, e.getMessage(), record);
+            }
         }
+        return new ConvertedChunk(rows, skipped, errorSamples, checkpoint);
+    }
 
-        merchantCardRepository.saveAll(merchantCards);
-        return savedMerchants.size();
+    /**
+     * 가맹점 식별 키: 공백/대소문자를 정규화한 (이름, 주소) 해시
+     * - data.sql 의 이전 임포트 가맹점 키 채우기도 같은 규칙 (바꾸면 함께 수정)
+     */
+    static String naturalKey(String name, String address) {
+        return sha256Hex(normalizeKeyPart(name) + '\n' + normalizeKeyPart(address));
     }
 
     /**
-     * CSV 라인 파싱 (쌍따옴표 내 쉼표 처리)
+     * 변경 감지용 내용 해시 (적재하는 컬럼 원문 기준)
      */
-    private String[] parseCsvLine(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder currentField = new StringBuilder();
-        boolean inQuotes = false;
+    static String contentHash(String name, String address, String geography, Long categoryId) {
+        return sha256Hex(name + '\n' + address + '\n' + geography + '\n' + categoryId);
+    }
+
+    private static String normalizeKeyPart(String value) {
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
+    private static void addErrorSample(List<String> samples, long recordNumber, String reason, String record) {
+        if (samples.size() < MAX_ERROR_SAMPLES_PER_CHUNK) {
+            // 따옴표 안 줄바꿈은 공백으로 (샘플은 줄 단위로 저장)
+            String flat = record.replace('\r', ' ').replace('\n', ' ');
+            String excerpt = flat.length() > ERROR_SAMPLE_LENGTH ? flat.substring(0, ERROR_SAMPLE_LENGTH) + "..." : flat;
+            samples.add("record " + recordNumber + ": " + reason + " - " + excerpt);
+        }
+    }
 
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                fields.add(currentField.toString());
-                currentField = new StringBuilder();
-            } else {
-                currentField.append(c);
+    /**
+     * 적재 스레드가 멈춘 경우 무한 대기하지 않도록 시간 제한을 두고 큐에 추가
+     * @return 적재 스레드가 이미 끝나 추가하지 못하면 false
+     */
+    private static boolean enqueue(BlockingQueue<Future<ConvertedChunk>> pending, Future<ConvertedChunk> chunk,
+                                   Future<?> writing) throws InterruptedException {
+        while (!pending.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            if (writing.isDone()) {
+                return false;
             }
         }
-        fields.add(currentField.toString());
+        return true;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 변환된 청크 (적재할 행, 건너뛴 라인 수, 오류 샘플, 청크 끝 체크포인트)
+     */
+    private record ConvertedChunk(List<MerchantCopyWriter.MerchantRow> rows, int skipped,
+                                  List<String> errorSamples, ImportCheckpoint checkpoint) {
+    }
+
+    /**
+     * 임포트 재개 위치 (다음에 읽을 바이트 위치, 그때까지 읽은 데이터 라인 수)
+     */
+    public record ImportCheckpoint(long byteOffset, long linesRead) {
+        public static final ImportCheckpoint START = new ImportCheckpoint(0, 0);
+    }
+
+    /**
+     * 청크 적재 결과 (unchangedRows 는 내용 해시가 같아 갱신을 생략한 행)
+     */
+    public record ChunkResult(ImportCheckpoint checkpoint, int insertedRows, int updatedRows, int unchangedRows,
+                              int skippedRows, List<String> errorSamples) {
+    }
+
+    /**
+     * 청크 커밋 콜백 (적재 트랜잭션 안에서 호출, 예외를 던지면 청크가 롤백됨)
+     */
+    @FunctionalInterface
+    public interface ChunkListener {
+        void onChunk(ChunkResult result);
+    }
+
+    /**
+     * 임포트 결과
+     */
+    @Data
+    public static class ImportResult {
+        private int totalRows;
+        private int insertedRows;
+        private int updatedRows;
+        private int unchangedRows;
+        private int skippedRows;
+        private long elapsedMs;
+
+        public int getImportedRows() {
+            return insertedRows + updatedRows + unchangedRows;
+        }
 
-        return fields.toArray(new String[0]);
+        public long getRowsPerSecond() {
+            return elapsedMs > 0 ? totalRows * 1000L / elapsedMs : totalRows;
+        }
     }
 }
@@ -0,0 +1,105 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.index.DistrictIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 좌표 → 행정구역(구/동) 조회 (외부 API 호출 없음)
+ * - 기동 시 district.gu / district.dong 경계 GeoJSON 을 DistrictIndex 로 적재 (경로가 비어 있으면 해당 단계 사용 안 함)
+ * - 적재 전이거나 경계 밖이면 null
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DistrictService {
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${district.gu.path:}")
+    private String guPath;
+
+    @Value("${district.gu.name-property:SIG_KOR_NM}")
+    private String guNameProperty;
+
+    @Value("${district.dong.path:}")
+    private String dongPath;
+
+    @Value("${district.dong.name-property:adm_nm}")
+    private String dongNameProperty;
+
+    // 적재 완료 전에는 null
+    private volatile DistrictIndex guIndex;
+    private volatile DistrictIndex dongIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        guIndex = load(guPath, guNameProperty, "시군구");
+        dongIndex = load(dongPath, dongNameProperty, "행정동");
+    }
+
+    /**
+     * 좌표가 속한 구/동 (경계 데이터가 없거나 경계 밖이면 각각 null)
+     */
+    public DistrictMatch lookup(double lat, double lng) {
+        DistrictIndex gu = guIndex;
+        DistrictIndex dong = dongIndex;
+        return new DistrictMatch(
+                gu != null ? gu.find(lat, lng) : null,
+                dong != null ? dong.find(lat, lng) : null);
+    }
+
+    /**
+     * 경계 데이터가 하나라도 적재되었는지
+     */
+    public boolean isAvailable() {
+        return guIndex != null || dongIndex != null;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("guDistricts", guIndex != null ? guIndex.size() : 0);
+        status.put("dongDistricts", dongIndex != null ? dongIndex.size() : 0);
+        return status;
+    }
+
+    // Helper Methods
+
+    private DistrictIndex load(String path, String nameProperty, String level) {
+        if (!StringUtils.hasText(path)) {
+            log.info("{} 경계 데이터 경로가 없어 조회를 사용하지 않습니다", level);
+            return null;
+        }
+
+        long start = System.currentTimeMillis();
+        Resource resource = resourceLoader.getResource(path);
+        try (InputStream in = resource.getInputStream()) {
+            DistrictIndex index = DistrictIndex.fromGeoJson(in, nameProperty);
+            log.info("{} 경계 적재 완료 - {}개 구역, 소요 시간: {}ms",
+                    level, index.size(), System.currentTimeMillis() - start);
+            return index;
+        } catch (IOException | RuntimeException e) {
+            // 경계 데이터 오류로 기동을 막지 않음 (조회 결과만 null)
+            log.error("{} 경계 적재 실패: {} - {}", level, path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 조회 결과 (구: 시군구 이름, 동: 행정동 이름)
+     */
+    public record DistrictMatch(String gu, String dong) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.domain.GeocodeCache;
+import com.thc.my_cardmapp.repository.GeocodeCacheRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지오코딩 결과 캐시 (AddressNormalizer.cacheKey 주소 키 기준)
+ * - 같은 건물의 가맹점, 재임포트로 반복되는 주소는 외부 API 를 다시 호출하지 않음
+ * - 메모리 LRU → geocode_cache 테이블 순으로 조회
+ * - 결과 없음도 캐시하되 (negative-ttl) 기간이 지나면 다시 조회, 한도 초과/서버 오류는 캐시하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeocodeCacheService {
+
+    private final GeocodeCacheRepository geocodeCacheRepository;
+
+    @Value("${geocoding.cache.max-entries:50000}")
+    private int maxEntries;
+
+    // 좌표 결과 유지 기간 (도로명 주소 좌표는 거의 바뀌지 않음)
+    @Value("${geocoding.cache.ttl-days:365}")
+    private long ttlDays;
+
+    // 결과 없음 유지 기간
+    @Value("${geocoding.cache.negative-ttl-days:7}")
+    private long negativeTtlDays;
+
+    private Map<String, CachedGeocode> localCache;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder dbHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @PostConstruct
+    void initCache() {
+        // 접근 순서 LinkedHashMap 으로 LRU 구현
+        localCache = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedGeocode> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 캐시된 결과 조회 (만료되었으면 없음)
+     * @param addressKey 주소 키 (AddressNormalizer.cacheKey)
+     */
+    public Optional<CachedGeocode> lookup(String addressKey) {
+        if (addressKey == null || addressKey.isBlank()) {
+            return Optional.empty();
+        }
+
+        CachedGeocode cached = localCache.get(addressKey);
+        if (cached != null && !isExpired(cached)) {
+            localHits.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<CachedGeocode> stored = geocodeCacheRepository.findByAddressKey(addressKey)
+                .map(GeocodeCacheService::toCached)
+                .filter(entry -> !isExpired(entry));
+        if (stored.isPresent()) {
+            localCache.put(addressKey, stored.get());
+            dbHits.increment();
+        } else {
+            localCache.remove(addressKey);
+            misses.increment();
+        }
+        return stored;
+    }
+
+    /**
+     * 좌표 결과 저장
+     */
+    @Transactional
+    public void storeFound(String addressKey, double latitude, double longitude, String provider, double confidence) {
+        store(new CachedGeocode(true, latitude, longitude, provider, confidence, LocalDateTime.now()), addressKey);
+    }
+
+    /**
+     * 결과 없음 저장 (정상 응답인데 결과가 0건일 때만)
+     */
+    @Transactional
+    public void storeNotFound(String addressKey, String provider) {
+        store(new CachedGeocode(false, null, null, provider, null, LocalDateTime.now()), addressKey);
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "localSize", localCache.size(),
+                "localHits", localHits.sum(),
+                "dbHits", dbHits.sum(),
+                "misses", misses.sum());
+    }
+
+    // Helper Methods
+
+    private void store(CachedGeocode entry, String addressKey) {
+        if (addressKey == null || addressKey.isBlank()) {
+            return;
+        }
+        geocodeCacheRepository.upsert(addressKey, entry.found(), entry.latitude(), entry.longitude(),
+                entry.provider(), entry.confidence(), entry.cachedAt());
+        localCache.put(addressKey, entry);
+    }
+
+    private boolean isExpired(CachedGeocode entry) {
+        long days = entry.found() ? ttlDays : negativeTtlDays;
+        return entry.cachedAt().isBefore(LocalDateTime.now().minus(Duration.ofDays(days)));
+    }
+
+    private static CachedGeocode toCached(GeocodeCache entity) {
+        return new CachedGeocode(entity.isFound(), entity.getLatitude(), entity.getLongitude(),
+                entity.getProvider(), entity.getConfidence(), entity.getCachedAt());
+    }
+
+    /**
+     * 캐시된 지오코딩 결과 (found 가 false 면 좌표/신뢰도 null)
+     */
+    public record CachedGeocode(boolean found, Double latitude, Double longitude, String provider,
+                                Double confidence, LocalDateTime cachedAt) {
+    }
+}
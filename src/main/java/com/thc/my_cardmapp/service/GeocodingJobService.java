@@ -0,0 +1,304 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.domain.Merchant;
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.geocoding.GeocodingResult;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantTextView;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 가맹점 일괄 지오코딩 작업
+ * - 좌표 없는 가맹점을 id 순 청크로 읽어 (전체 로딩 없음) 여러 요청을 동시에 보내고 청크마다 UPDATE 한 번으로 반영
+ * - 요청 속도는 토큰 버킷으로 제한, 모든 서비스가 429/5xx 로 실패하면 속도를 낮추고 다시 시도
+ * - 지오코딩 캐시에 있는 주소는 요청하지 않음 (같은 건물 가맹점, 재임포트)
+ * - 작업 상태는 메모리에만 보관 (남은 작업은 location IS NULL 로 알 수 있어 다시 실행하면 이어서 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeocodingJobService {
+
+    private static final int MAX_KEPT_JOBS = 20;
+    private static final int MAX_ERROR_SAMPLES = 20;
+
+    private final MerchantRepository merchantRepository;
+    private final GeocodingService geocodingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 번에 읽고 반영하는 가맹점 수
+    @Value("${geocoding.batch.chunk-size:200}")
+    private int chunkSize;
+
+    // 동시 요청 수
+    @Value("${geocoding.batch.concurrency:8}")
+    private int concurrency;
+
+    // 초당 최대 요청 수 (제한 초과 응답 시 최소값까지 낮춤)
+    @Value("${geocoding.batch.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${geocoding.batch.min-rate-per-second:1}")
+    private double minRatePerSecond;
+
+    // 429/5xx 응답 시 재시도 횟수
+    @Value("${geocoding.batch.max-retries:3}")
+    private int maxRetries;
+
+    // 외부 API 한도를 나눠 쓰지 않도록 작업은 하나씩 실행
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(namedThreads("geocoding-job"));
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, GeocodingJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<GeocodingJob> current = new AtomicReference<>();
+
+    private volatile boolean shuttingDown;
+
+    /**
+     * 일괄 지오코딩 시작 (이미 실행 중이면 그 작업 반환)
+     */
+    public GeocodingJob start() {
+        GeocodingJob running = current.get();
+        if (running != null && running.getStatus() == GeocodingJob.Status.RUNNING) {
+            return running;
+        }
+        if (shuttingDown) {
+            throw new IllegalArgumentException("서버 종료 중에는 작업을 시작할 수 없습니다");
+        }
+
+        GeocodingJob job = new GeocodingJob(sequence.incrementAndGet(), merchantRepository.countByLocationIsNull());
+        if (!current.compareAndSet(running, job)) {
+            return current.get(); // 동시에 다른 요청이 시작함
+        }
+        jobs.put(job.getId(), job);
+        jobs.keySet().removeIf(id -> id <= job.getId() - MAX_KEPT_JOBS);
+
+        log.info("일괄 지오코딩 시작 - 작업: {}, 대상: {}건", job.getId(), job.getTotalTargets());
+        runner.submit(() -> run(job));
+        return job;
+    }
+
+    public GeocodingJob getJob(Long jobId) {
+        GeocodingJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("지오코딩 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 가맹점 하나 지오코딩 후 좌표 저장 (성공 시 변경 이벤트 발행)
+     */
+    public GeocodingResult geocodeMerchant(Merchant merchant) {
+        GeocodingResult result = geocodingService.geocode(merchant.getAddress());
+        if (result.isSuccess()) {
+            Point previous = merchant.getLocation();
+            transactionTemplate.executeWithoutResult(tx -> {
+                merchant.setLocation(result.getPoint());
+                merchantRepository.save(merchant);
+                eventPublisher.publishEvent(previous == null
+                        ? new MerchantChangedEvent(List.of(merchant.getId()))
+                        : new MerchantChangedEvent(List.of(merchant.getId()), List.of(previous)));
+            });
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        runner.shutdownNow();
+    }
+
+    // Helper Methods
+
+    private void run(GeocodingJob job) {
+        ExecutorService workerPool = Executors.newFixedThreadPool(concurrency, namedThreads("geocoding-worker"));
+        TokenBucket bucket = new TokenBucket(ratePerSecond, minRatePerSecond);
+        job.currentRate = bucket.getRate();
+        try {
+            long afterId = 0;
+            while (true) {
+                // 실패한 가맹점은 좌표가 없는 채로 남으므로 id 로 건너뛰어 같은 작업에서 반복하지 않음
+                List<MerchantTextView> page = merchantRepository.findTextsWithoutLocationAfter(afterId, chunkSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+
+                List<Future<GeocodingResult>> futures = new ArrayList<>(page.size());
+                for (MerchantTextView merchant : page) {
+                    futures.add(workerPool.submit(() -> geocodeWithRetry(merchant.getAddress(), bucket, job)));
+                }
+
+                List<Long> ids = new ArrayList<>(page.size());
+                StringBuilder lngs = new StringBuilder();
+                StringBuilder lats = new StringBuilder();
+                for (int i = 0; i < page.size(); i++) {
+                    MerchantTextView merchant = page.get(i);
+                    GeocodingResult result = resultOf(futures.get(i));
+                    if (result.isSuccess()) {
+                        if (!ids.isEmpty()) {
+                            lngs.append(',');
+                            lats.append(',');
+                        }
+                        ids.add(merchant.getId());
+                        lngs.append(result.getLongitude());
+                        lats.append(result.getLatitude());
+                    } else {
+                        job.failed.incrementAndGet();
+                        job.addErrorSample("ID " + merchant.getId() + " (" + merchant.getAddress() + "): "
+                                + result.getErrorMessage());
+                    }
+                }
+
+                if (!ids.isEmpty()) {
+                    Integer updated = transactionTemplate.execute(status -> {
+                        int count = merchantRepository.updateLocations(joinIds(ids), lngs.toString(), lats.toString());
+                        eventPublisher.publishEvent(new MerchantChangedEvent(ids));
+                        return count;
+                    });
+                    job.succeeded.addAndGet(updated != null ? updated : 0);
+                }
+                job.processed.addAndGet(page.size());
+                job.currentRate = bucket.getRate();
+
+                log.info("지오코딩 진행률: {}/{} - 성공: {}, 실패: {}, 캐시: {}, 재시도: {}, 속도 제한: {}/s",
+                        job.processed.get(), job.getTotalTargets(), job.succeeded.get(), job.failed.get(),
+                        job.cacheHits.get(), job.retried.get(), String.format("%.1f", bucket.getRate()));
+            }
+            job.finish(GeocodingJob.Status.COMPLETED, null);
+            log.info("일괄 지오코딩 완료 - 작업: {}, 성공: {}, 실패: {}",
+                    job.getId(), job.succeeded.get(), job.failed.get());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(GeocodingJob.Status.CANCELLED, "서버 종료로 중단");
+            log.info("일괄 지오코딩 중단 - 작업: {}", job.getId());
+        } catch (Exception e) {
+            job.finish(GeocodingJob.Status.FAILED, e.getMessage());
+            log.error("일괄 지오코딩 실패 - 작업: {}", job.getId(), e);
+        } finally {
+            workerPool.shutdownNow();
+        }
+    }
+
+    /**
+     * 캐시 확인 후 속도 제한을 지키며 지오코딩 (429/5xx 는 속도를 낮춘 뒤 재시도)
+     */
+    private GeocodingResult geocodeWithRetry(String address, TokenBucket bucket,
+                                                                   GeocodingJob job) throws InterruptedException {
+        // 캐시 적중은 요청 한도를 쓰지 않음
+        GeocodingResult result = geocodingService.findCached(address);
+        if (result != null) {
+            job.cacheHits.incrementAndGet();
+            return result;
+        }
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (attempt > 0) {
+                job.retried.incrementAndGet();
+            }
+            bucket.acquire();
+            result = geocodingService.fetch(address);
+            if (!result.isRetryable()) {
+                bucket.recover(); // 결과 없음도 정상 응답
+                return result;
+            }
+            bucket.backOff();
+        }
+        return result;
+    }
+
+    private static GeocodingResult resultOf(Future<GeocodingResult> future)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return GeocodingResult.error(null, e.getCause().getMessage(), false);
+        }
+    }
+
+    private static String joinIds(List<Long> ids) {
+        StringBuilder sb = new StringBuilder(ids.size() * 8);
+        for (Long id : ids) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(id);
+        }
+        return sb.toString();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 일괄 지오코딩 작업 진행 상황 (작업 스레드가 갱신, 조회는 어디서나)
+     */
+    @Getter
+    public static class GeocodingJob {
+
+        public enum Status { RUNNING, COMPLETED, FAILED, CANCELLED }
+
+        private final Long id;
+        private final long totalTargets;    // 시작 시점의 좌표 없는 가맹점 수
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong retried = new AtomicLong();
+        private final AtomicLong cacheHits = new AtomicLong();
+        private final List<String> errorSamples = new CopyOnWriteArrayList<>();
+        private volatile Status status = Status.RUNNING;
+        private volatile double currentRate;
+        private volatile String errorMessage;
+        private volatile LocalDateTime finishedAt;
+
+        GeocodingJob(Long id, long totalTargets) {
+            this.id = id;
+            this.totalTargets = totalTargets;
+        }
+
+        private void addErrorSample(String sample) {
+            if (errorSamples.size() < MAX_ERROR_SAMPLES) {
+                errorSamples.add(sample);
+            }
+        }
+
+        private void finish(Status status, String errorMessage) {
+            this.errorMessage = errorMessage;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.geocoding.AddressNormalizer;
+import com.thc.my_cardmapp.geocoding.GeocodingProvider;
+import com.thc.my_cardmapp.geocoding.GeocodingResult;
+import com.thc.my_cardmapp.geocoding.GeocodingRouter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지오코딩 진입점 (주소 정제 → 캐시 → 서비스 라우터)
+ * - 표준 형태 주소 키로 조회/캐시 (같은 건물의 다른 표기와 상세 주소는 같은 키), 분리할 수 없으면 정제한 주소
+ * - geocoding.providers 순서 중 설정(API 키)이 있는 서비스만 사용
+ * - 모든 서비스가 결과 없음일 때만 결과 없음으로 캐시, 오류는 캐시하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeocodingService {
+
+    private final List<GeocodingProvider> providers;
+    private final GeocodeCacheService geocodeCache;
+    private final AddressNormalizer addressNormalizer;
+
+    // 시도 순서 (서비스 이름, 쉼표 구분)
+    @Value("${geocoding.providers:NAVER,GOOGLE,STUB}")
+    private List<String> providerOrder;
+
+    @Value("${geocoding.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    // 첫 서비스가 이 백분위 지연시간 안에 응답하지 않으면 다음 서비스에도 요청
+    @Value("${geocoding.hedge.percentile:95}")
+    private double hedgePercentile;
+
+    @Value("${geocoding.hedge.initial-delay-ms:1000}")
+    private long initialHedgeDelayMs;
+
+    @Value("${geocoding.hedge.min-delay-ms:100}")
+    private long minHedgeDelayMs;
+
+    // 순서 조정/백분위 계산에 필요한 서비스별 최소 호출 수
+    @Value("${geocoding.routing.min-samples:20}")
+    private int minSamples;
+
+    private GeocodingRouter router;
+
+    @PostConstruct
+    void initRouter() {
+        List<GeocodingProvider> ordered = new ArrayList<>();
+        for (String name : providerOrder) {
+            for (GeocodingProvider provider : providers) {
+                if (provider.getName().equalsIgnoreCase(name.trim()) && provider.isEnabled()) {
+                    ordered.add(provider);
+                }
+            }
+        }
+        if (ordered.isEmpty()) {
+            log.warn("사용 가능한 지오코딩 서비스가 없습니다 (API 키 또는 geocoding.stub.enabled 확인)");
+        } else {
+            log.info("지오코딩 서비스 순서: {}", ordered.stream().map(GeocodingProvider::getName).toList());
+        }
+        router = new GeocodingRouter(ordered, new GeocodingRouter.Settings(
+                hedgeEnabled, hedgePercentile, initialHedgeDelayMs, minHedgeDelayMs, minSamples));
+    }
+
+    @PreDestroy
+    void closeRouter() {
+        router.close();
+    }
+
+    /**
+     * 주소를 위도/경도로 변환 (캐시 우선)
+     */
+    public GeocodingResult geocode(String address) {
+        GeocodingResult cached = findCached(address);
+        return cached != null ? cached : fetch(address);
+    }
+
+    /**
+     * 캐시된 결과 조회 (없으면 null)
+     */
+    public GeocodingResult findCached(String address) {
+        return geocodeCache.lookup(addressKey(address))
+                .map(GeocodingService::fromCache)
+                .orElse(null);
+    }
+
+    /**
+     * 캐시 확인 없이 서비스 호출 후 결과 저장
+     */
+    public GeocodingResult fetch(String address) {
+        String addressKey = addressKey(address);
+        log.info("주소 정제: [{}] -> [{}]", address, addressKey);
+
+        GeocodingResult result;
+        try {
+            result = router.geocode(addressKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return GeocodingResult.error(null, "interrupted", true);
+        }
+
+        try {
+            if (result.isSuccess()) {
+                geocodeCache.storeFound(addressKey, result.getLatitude(), result.getLongitude(),
+                        result.getProvider(), result.getConfidence());
+            } else if (result.getStatus() == GeocodingResult.Status.NOT_FOUND) {
+                geocodeCache.storeNotFound(addressKey, result.getProvider());
+            }
+        } catch (RuntimeException e) {
+            // 캐시 저장 실패는 지오코딩 결과에 영향 없음
+            log.warn("지오코딩 캐시 저장 실패: {} - {}", addressKey, e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 서비스별 성공률/지연시간과 헤징 통계
+     */
+    public Map<String, Object> getRoutingStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("providers", router.getProviderStats());
+        stats.put("hedges", router.getHedges());
+        stats.put("hedgeWins", router.getHedgeWins());
+        return stats;
+    }
+
+    // Helper Methods
+
+    private String addressKey(String address) {
+        return addressNormalizer.cacheKey(addressNormalizer.clean(address));
+    }
+
+    private static GeocodingResult fromCache(GeocodeCacheService.CachedGeocode cached) {
+        if (!cached.found()) {
+            return GeocodingResult.notFound(cached.provider(), "No results found (cached)");
+        }
+        double confidence = cached.confidence() != null ? cached.confidence() : 1.0;
+        return GeocodingResult.found(cached.provider(), cached.latitude(), cached.longitude(), confidence);
+    }
+}
@@ -1,89 +1,63 @@
 package com.thc.my_cardmapp.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thc.my_cardmapp.geocoding.GeocodingProvider;
+import com.thc.my_cardmapp.geocoding.GeocodingResult;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.GeometryFactory;
-import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 
+/**
+ * Google 지오코딩 (주소 정제와 캐시는 GeocodingService 에서)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class GoogleGeocodingService {
+public class GoogleGeocodingService implements GeocodingProvider {
 
     @Value("${google.api.key}")
     private String apiKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 연결/읽기 타임아웃이 설정된 지오코딩 공용 RestTemplate
+    private final RestTemplate geocodingRestTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private static final String GEOCODING_URL = "https://maps.googleapis.com/maps/api/geocode/json";
-    private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private static final String PROVIDER = "GOOGLE";
 
-    /**
-     * 주소 정제 메서드
-     * 상세 주소 정보(동/호수, 층수, 괄호 내용)를 제거하여 Google Geocoding이 인식 가능한 형태로 변환
-     */
-    private String cleanAddress(String address) {
-        if (address == null || address.trim().isEmpty()) {
-            return address;
-        }
-
-        String cleaned = address;
-
-        // 1. 동호수 제거 (예: ", 102동 204호" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+동\\s*\\d+호", "");
-
-        // 2. 층수 제거 (예: ", 2층 202호" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+층\\s*\\d+호", "");
-
-        // 3. 단독 동 제거 (예: ", 102동" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+동", "");
-
-        // 4. 단독 호수 제거 (예: ", 202호" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+호", "");
-
-        // 5. 층수만 제거 (예: ", 2층" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+층", "");
-
-        // 6. 괄호 안 내용 제거 (예: " (구산동,갈현현대아파트)" -> "")
-        cleaned = cleaned.replaceAll("\\s*\\([^)]*\\)", "");
-
-        // 7. 다중 공백을 단일 공백으로
-        cleaned = cleaned.replaceAll("\\s+", " ");
-
-        // 8. 앞뒤 공백 및 쉼표 제거
-        cleaned = cleaned.trim().replaceAll(",$", "");
+    @Override
+    public String getName() {
+        return PROVIDER;
+    }
 
-        return cleaned;
+    @Override
+    public boolean isEnabled() {
+        return StringUtils.hasText(apiKey) && !apiKey.startsWith("your-");
     }
 
     /**
-     * 주소를 위도/경도로 변환
+     * 정제한 주소를 위도/경도로 변환
      */
+    @Override
     public GeocodingResult geocode(String address) {
         try {
-            // 주소 정제
-            String cleanedAddress = cleanAddress(address);
-            log.info("주소 정제: [{}] -> [{}]", address, cleanedAddress);
-
             // URL 생성
             String url = UriComponentsBuilder.fromUriString(GEOCODING_URL)
-                    .queryParam("address", cleanedAddress)
+                    .queryParam("address", address)
                     .queryParam("key", apiKey)
                     .toUriString();
 
             // API 호출
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = geocodingRestTemplate.getForEntity(url, String.class);
 
             GoogleGeocodingResponse googleResponse = objectMapper.readValue(
                     response.getBody(),
@@ -98,29 +72,46 @@ public class GoogleGeocodingService {
                 double lat = result.getGeometry().getLocation().getLat();
                 double lng = result.getGeometry().getLocation().getLng();
 
-                // PostGIS Point 생성 (경도, 위도 순서 주의!)
-                Point point = geometryFactory.createPoint(new Coordinate(lng, lat));
-
                 log.debug("Geocoding 성공: {} -> ({}, {})", address, lat, lng);
-                return new GeocodingResult(true, lat, lng, point, null);
+                return GeocodingResult.found(PROVIDER, lat, lng, confidenceOf(result.getGeometry().getLocation_type()));
             } else {
                 log.warn("Geocoding 결과 없음: {} - Status: {}", address, googleResponse.getStatus());
-                return new GeocodingResult(false, 0, 0, null, "No results found: " + googleResponse.getStatus());
+                String message = "No results found: " + googleResponse.getStatus();
+                // 한도 초과(OVER_QUERY_LIMIT)는 재시도, 그 외 오류 상태(REQUEST_DENIED 등)는 결과 없음과 구분
+                if ("ZERO_RESULTS".equals(googleResponse.getStatus())) {
+                    return GeocodingResult.notFound(PROVIDER, message);
+                }
+                return GeocodingResult.error(PROVIDER, message, "OVER_QUERY_LIMIT".equals(googleResponse.getStatus()));
             }
 
+        } catch (HttpStatusCodeException e) {
+            boolean retryable = e.getStatusCode().value() == 429 || e.getStatusCode().is5xxServerError();
+            log.warn("Geocoding 실패: {} - HTTP {}", address, e.getStatusCode().value());
+            return GeocodingResult.error(PROVIDER, e.getMessage(), retryable);
+        } catch (ResourceAccessException e) {
+            // 연결 실패, 타임아웃
+            log.warn("Geocoding 연결 실패: {} - {}", address, e.getMessage());
+            return GeocodingResult.error(PROVIDER, e.getMessage(), true);
         } catch (Exception e) {
             log.error("Geocoding 실패: {}", address, e);
-            return new GeocodingResult(false, 0, 0, null, e.getMessage());
+            return GeocodingResult.error(PROVIDER, e.getMessage(), false);
         }
     }
 
-    @Data
-    public static class GeocodingResult {
-        private final boolean success;
-        private final double latitude;
-        private final double longitude;
-        private final Point point;
-        private final String errorMessage;
+    /**
+     * location_type 을 신뢰도로 환산 (정확한 지점일수록 높음)
+     */
+    private static double confidenceOf(String locationType) {
+        if (locationType == null) {
+            return 0.5;
+        }
+        return switch (locationType) {
+            case "ROOFTOP" -> 1.0;
+            case "RANGE_INTERPOLATED" -> 0.8;
+            case "GEOMETRIC_CENTER" -> 0.6;
+            case "APPROXIMATE" -> 0.4;
+            default -> 0.5;
+        };
     }
 
     @Data
@@ -142,6 +133,7 @@ public class GoogleGeocodingService {
     @com.fasterxml.jackson.annotation.JsonIgnoreProperties(ignoreUnknown = true)
     private static class Geometry {
         private Location location;
+        private String location_type;  // ROOFTOP, RANGE_INTERPOLATED, GEOMETRIC_CENTER, APPROXIMATE
     }
 
     @Data
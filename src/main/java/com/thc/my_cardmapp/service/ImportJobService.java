@@ -0,0 +1,222 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.domain.ImportJob;
+import com.thc.my_cardmapp.domain.ImportJobStatus;
+import com.thc.my_cardmapp.repository.ImportJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 임포트 백그라운드 작업 관리
+ * - 요청 즉시 작업을 등록하고 전용 스레드에서 한 번에 하나씩 실행 (HTTP 스레드 점유 없음)
+ * - 청크 커밋마다 체크포인트 저장, 중단된 작업은 주기 점검에서 체크포인트부터 재개
+ * - 여러 노드가 같은 작업을 잡지 않도록 조건부 UPDATE 로 실행권 획득
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportJobService {
+
+    private static final int MAX_ERROR_SAMPLES = 20;
+    private static final List<ImportJobStatus> RESUMABLE = List.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING);
+    private static final List<ImportJobStatus> CLAIMABLE = List.of(ImportJobStatus.QUEUED, ImportJobStatus.FAILED);
+
+    private final ImportJobRepository importJobRepository;
+    private final CsvImportService csvImportService;
+    private final ResourceLoader resourceLoader;
+    private final TransactionTemplate transactionTemplate;
+
+    // 생존 신호가 이 시간 이상 끊긴 진행 중 작업은 중단된 것으로 보고 재개
+    @Value("${merchant.import.stale-after-ms:600000}")
+    private long staleAfterMs;
+
+    // 임포트는 DB 부하가 커서 노드당 하나씩 순서대로 실행
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csv-import-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이 노드에 제출되었지만 끝나지 않은 작업 ID
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean shuttingDown;
+
+    /**
+     * 임포트 작업 등록 후 백그라운드 실행
+     */
+    public ImportJob submit(String csvFilePath, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit 은 0 이상이어야 합니다: " + limit);
+        }
+        Resource resource = resourceLoader.getResource(csvFilePath);
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("CSV 파일을 찾을 수 없습니다: " + csvFilePath);
+        }
+
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .filePath(csvFilePath)
+                .lineLimit(limit)
+                .status(ImportJobStatus.QUEUED)
+                .totalBytes(contentLength(resource))
+                .build());
+
+        log.info("CSV 임포트 작업 등록 - ID: {}, 파일: {}, 제한: {}", job.getId(), csvFilePath, limit);
+        schedule(job.getId());
+        return job;
+    }
+
+    /**
+     * 실패한 작업을 마지막 체크포인트부터 다시 실행
+     */
+    public ImportJob resume(Long jobId) {
+        ImportJob job = getJob(jobId);
+        if (job.getStatus() != ImportJobStatus.FAILED) {
+            throw new IllegalArgumentException("실패한 작업만 재개할 수 있습니다: " + job.getStatus());
+        }
+        schedule(jobId);
+        return job;
+    }
+
+    public ImportJob getJob(Long jobId) {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("임포트 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /**
+     * 대기 중이거나 중단된 작업 재개 (기동 직후 및 주기 점검)
+     */
+    @Scheduled(initialDelayString = "${merchant.import.resume-check-ms:60000}",
+            fixedDelayString = "${merchant.import.resume-check-ms:60000}")
+    public void resumePendingJobs() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+        for (ImportJob job : importJobRepository.findByStatusInOrderByIdAsc(RESUMABLE)) {
+            boolean stale = job.getHeartbeatAt() == null || job.getHeartbeatAt().isBefore(staleBefore);
+            if (job.getStatus() == ImportJobStatus.QUEUED || stale) {
+                schedule(job.getId());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        runner.shutdownNow();
+        try {
+            // 실행 중 작업이 상태를 기록할 시간 확보
+            runner.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Helper Methods
+
+    private void schedule(Long jobId) {
+        if (shuttingDown || !activeJobs.add(jobId)) {
+            return; // 이미 이 노드에서 대기/실행 중
+        }
+        runner.submit(() -> {
+            try {
+                run(jobId);
+            } finally {
+                activeJobs.remove(jobId);
+            }
+        });
+    }
+
+    private void run(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> importJobRepository.claim(
+                jobId, ImportJobStatus.RUNNING, CLAIMABLE, now, now.minus(Duration.ofMillis(staleAfterMs))));
+        if (claimed == null || claimed == 0) {
+            log.info("CSV 임포트 작업 건너뜀 - ID: {} (다른 노드에서 실행 중이거나 종료됨)", jobId);
+            return;
+        }
+
+        ImportJob job = getJob(jobId);
+        CsvImportService.ImportCheckpoint from =
+                new CsvImportService.ImportCheckpoint(job.getByteOffset(), job.getLinesRead());
+        List<String> errorSamples = parseErrorSamples(job.getErrorSamples());
+
+        log.info("CSV 임포트 작업 실행 - ID: {}, 재개 위치: {} bytes / {} lines",
+                jobId, from.byteOffset(), from.linesRead());
+
+        try {
+            csvImportService.importMerchantsFromCsv(job.getFilePath(), job.getLineLimit(), jobId, from,
+                    chunk -> {
+                        for (String sample : chunk.errorSamples()) {
+                            if (errorSamples.size() >= MAX_ERROR_SAMPLES) {
+                                break;
+                            }
+                            errorSamples.add(sample);
+                        }
+                        importJobRepository.updateCheckpoint(jobId, chunk.checkpoint().byteOffset(),
+                                chunk.checkpoint().linesRead(), chunk.insertedRows(), chunk.updatedRows(),
+                                chunk.unchangedRows(), chunk.skippedRows(), String.join("\n", errorSamples),
+                                LocalDateTime.now());
+                    });
+
+            // 파일 전체를 본 경우에만 파일에 없는 가맹점 폐업 처리
+            if (job.getLineLimit() == 0) {
+                int closed = csvImportService.closeMissingMerchants(jobId);
+                transactionTemplate.executeWithoutResult(tx -> importJobRepository.updateClosedRows(jobId, closed));
+            } else {
+                csvImportService.discardSeenKeys(jobId);
+            }
+
+            finish(jobId, ImportJobStatus.COMPLETED, null);
+            log.info("CSV 임포트 작업 완료 - ID: {}", jobId);
+
+        } catch (Exception e) {
+            if (shuttingDown) {
+                // 종료로 중단된 작업은 다음 기동 시 바로 재개
+                finish(jobId, ImportJobStatus.QUEUED, null);
+                log.info("CSV 임포트 작업 중단 (종료) - ID: {}", jobId);
+                return;
+            }
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            finish(jobId, ImportJobStatus.FAILED, cause.getMessage());
+            log.error("CSV 임포트 작업 실패 - ID: {}", jobId, e);
+        }
+    }
+
+    private void finish(Long jobId, ImportJobStatus status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx ->
+                importJobRepository.finish(jobId, status, errorMessage, LocalDateTime.now()));
+    }
+
+    private static List<String> parseErrorSamples(String errorSamples) {
+        if (errorSamples == null || errorSamples.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(errorSamples.split("\n")));
+    }
+
+    private static long contentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.thc.my_cardmapp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 위치 (마지막 행의 정렬 키)
+ * - id 정렬: "id"
+ * - 거리 정렬: "distance:id"
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ */
+public record KeysetCursor(Double distance, long id) {
+
+    // 첫 페이지 (모든 키보다 앞)
+    public static final KeysetCursor FIRST = new KeysetCursor(null, 0L);
+
+    public static KeysetCursor ofId(long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor ofDistance(double distance, long id) {
+        return new KeysetCursor(distance, id);
+    }
+
+    public String encode() {
+        String raw = distance != null ? distance + ":" + id : String.valueOf(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 값이면 첫 페이지)
+     * @throws IllegalArgumentException 형식이 다르거나 음수 id, 음수/NaN/무한대 거리일 때
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            KeysetCursor decoded = separator < 0
+                    ? ofId(Long.parseLong(raw))
+                    : ofDistance(Double.parseDouble(raw.substring(0, separator)),
+                            Long.parseLong(raw.substring(separator + 1)));
+            if (decoded.id() < 0
+                    || decoded.distance() != null && !(Double.isFinite(decoded.distance()) && decoded.distance() >= 0)) {
+                throw new IllegalArgumentException();
+            }
+            return decoded;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    public double distanceOrMin() {
+        return distance != null ? distance : -1d;
+    }
+}
@@ -0,0 +1,176 @@
+package com.thc.my_cardmapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL COPY 기반 가맹점 대량 upsert
+ * - 청크를 임시 스테이징 테이블에 COPY 한 뒤 INSERT ... ON CONFLICT (natural_key) 한 번으로 반영
+ * - 내용 해시가 같은 행은 갱신하지 않아 튜플/인덱스 쓰기와 변경 이벤트가 생기지 않음
+ * - 호출 측 트랜잭션의 커넥션을 사용하므로 청크 단위 트랜잭션 안에서 호출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MerchantCopyWriter {
+
+    // 커밋마다 비워지는 세션 임시 테이블 (커넥션 풀의 커넥션별로 한 번 생성)
+    private static final String CREATE_STAGE_SQL =
+            "CREATE TEMP TABLE IF NOT EXISTS merchant_import_stage (" +
+                    "ord integer, name text, address text, geography text, category_id bigint, " +
+                    "natural_key varchar(64), content_hash varchar(64)) ON COMMIT DELETE ROWS";
+    private static final String COPY_STAGE_SQL =
+            "COPY merchant_import_stage (ord, name, address, geography, category_id, natural_key, content_hash) " +
+                    "FROM STDIN WITH (FORMAT csv)";
+
+    // 같은 청크 안의 중복 키는 뒤쪽 행 기준, 바뀐 행과 폐업 후 재등장한 행만 갱신
+    // xmax = 0 이면 새로 삽입된 행
+    private static final String UPSERT_SQL =
+            "WITH source AS (" +
+                    "SELECT DISTINCT ON (natural_key) name, address, geography, category_id, natural_key, content_hash " +
+                    "FROM merchant_import_stage ORDER BY natural_key, ord DESC" +
+                    "), upserted AS (" +
+                    "INSERT INTO merchant (name, address, geography, category_id, natural_key, content_hash) " +
+                    "SELECT name, address, geography, category_id, natural_key, content_hash FROM source " +
+                    "ON CONFLICT (natural_key) DO UPDATE SET " +
+                    "name = EXCLUDED.name, address = EXCLUDED.address, geography = EXCLUDED.geography, " +
+                    "category_id = EXCLUDED.category_id, content_hash = EXCLUDED.content_hash, closed_at = NULL " +
+                    "WHERE merchant.content_hash IS DISTINCT FROM EXCLUDED.content_hash OR merchant.closed_at IS NOT NULL " +
+                    "RETURNING id, (xmax = 0) AS inserted" +
+                    "), linked AS (" +
+                    "INSERT INTO merchant_card (merchant_id, card_id) " +
+                    "SELECT u.id, ? FROM upserted u " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM merchant_card mc WHERE mc.merchant_id = u.id AND mc.card_id = ?)" +
+                    ") " +
+                    "SELECT id, inserted FROM upserted";
+
+    // 이번 작업에서 본 키 기록 (파일에 없는 가맹점 폐업 처리용)
+    private static final String RECORD_SEEN_SQL =
+            "INSERT INTO import_seen_key (job_id, natural_key) " +
+                    "SELECT ?, natural_key FROM merchant_import_stage ON CONFLICT DO NOTHING";
+
+    private final DataSource dataSource;
+
+    /**
+     * 가맹점 행 upsert 및 카드 연결, 새로 삽입/갱신된 ID 반환
+     * @param jobId 본 키를 기록할 임포트 작업 ID (null 이면 기록 안 함)
+     */
+    public UpsertResult upsert(List<MerchantRow> rows, long cardId, Long jobId) {
+        if (rows.isEmpty()) {
+            return new UpsertResult(List.of(), List.of(), 0);
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGE_SQL);
+            }
+
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copyManager.copyIn(COPY_STAGE_SQL, new StringReader(toStageCsv(rows)));
+
+            UpsertResult result;
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+                statement.setLong(1, cardId);
+                statement.setLong(2, cardId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    result = classify(resultSet, rows.size());
+                }
+            }
+
+            if (jobId != null) {
+                try (PreparedStatement statement = connection.prepareStatement(RECORD_SEEN_SQL)) {
+                    statement.setLong(1, jobId);
+                    statement.executeUpdate();
+                }
+            }
+
+            return result;
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("가맹점 COPY 적재 실패", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // Helper Methods
+
+    /**
+     * 스테이징 테이블 COPY 입력 (ord 는 청크 안 순서, 같은 키는 뒤쪽 행이 남음)
+     */
+    static String toStageCsv(List<MerchantRow> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 256);
+        for (int i = 0; i < rows.size(); i++) {
+            MerchantRow row = rows.get(i);
+            csv.append(i).append(',');
+            appendText(csv, row.name()).append(',');
+            appendText(csv, row.address()).append(',');
+            appendText(csv, row.geography()).append(',');
+            if (row.categoryId() != null) {
+                csv.append(row.categoryId());
+            }
+            csv.append(',').append(row.naturalKey()).append(',').append(row.contentHash()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * upsert 결과 행 (id, inserted) 분류
+     * - inserted 면 추가, 아니면 갱신, 결과에 없는 행(내용 해시가 같거나 청크 안 중복 키)은 변경 없음
+     * @param rowCount 적재한 행 수
+     */
+    static UpsertResult classify(ResultSet resultSet, int rowCount) throws SQLException {
+        List<Long> insertedIds = new ArrayList<>();
+        List<Long> updatedIds = new ArrayList<>();
+        while (resultSet.next()) {
+            (resultSet.getBoolean(2) ? insertedIds : updatedIds).add(resultSet.getLong(1));
+        }
+        return new UpsertResult(insertedIds, updatedIds, rowCount - insertedIds.size() - updatedIds.size());
+    }
+
+    /**
+     * CSV 형식 텍스트 필드 (항상 따옴표로 감싸 빈 문자열과 NULL 을 구분, null 은 빈 값 = NULL)
+     */
+    private static StringBuilder appendText(StringBuilder sb, String value) {
+        if (value == null) {
+            return sb;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        return sb.append('"');
+    }
+
+    /**
+     * 적재할 가맹점 한 행 (naturalKey, contentHash 는 16진 SHA-256)
+     */
+    public record MerchantRow(String name, String address, String geography, Long categoryId,
+                              String naturalKey, String contentHash) {
+    }
+
+    /**
+     * upsert 결과 (unchanged 는 같은 청크 안의 중복 키 포함)
+     */
+    public record UpsertResult(List<Long> insertedIds, List<Long> updatedIds, int unchanged) {
+    }
+}
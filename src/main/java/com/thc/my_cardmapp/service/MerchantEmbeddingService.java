@@ -0,0 +1,548 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.embedding.TextEmbedder;
+import com.thc.my_cardmapp.embedding.VectorCodec;
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.index.HnswIndex;
+import com.thc.my_cardmapp.repository.MerchantEmbeddingRepository;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantEmbeddingSourceView;
+import com.thc.my_cardmapp.repository.projection.MerchantEmbeddingVectorView;
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 가맹점 임베딩 + 유사도 검색
+ * - 가맹점 이름/카테고리명을 TextEmbedder 로 벡터화해 merchant_embedding 에 저장하고 HNSW 인덱스에 적재
+ * - 기동 시 저장된 벡터로 인덱스를 만들고, 이후 갱신 대상(findOutdatedEmbeddings)만 주기적으로 처리
+ *   (id 순 페이지 → 배치별 병렬 계산 → 페이지당 INSERT 한 번 → 인덱스 증분 반영)
+ * - 가맹점이 바뀌면 갱신 대상으로 표시 후 바로 갱신, 폐업/삭제 가맹점은 테이블과 인덱스에서 제거
+ * - 인덱스 작업(적재/갱신)은 스레드 하나에서 순서대로 실행, 재적재는 새 인덱스를 다 만든 뒤 교체
+ * - 위치 조건이 있으면 반경 안 가맹점만 후보로 (적으면 정확 계산, 많으면 HNSW + 필터)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MerchantEmbeddingService {
+
+    private static final int MAX_LIMIT = 50;
+    private static final long INDEX_SEED = 42L;
+    private static final float[] FIELD_WEIGHTS = {1.0f, 0.5f}; // 이름, 카테고리명
+
+    private final MerchantRepository merchantRepository;
+    private final MerchantEmbeddingRepository merchantEmbeddingRepository;
+    private final MerchantService merchantService;
+    private final TextEmbedder textEmbedder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${embedding.enabled:true}")
+    private boolean enabled;
+
+    // 인덱스 적재/갱신 시 한 번에 읽는 가맹점 수
+    @Value("${embedding.page-size:1000}")
+    private int pageSize;
+
+    @Value("${embedding.index.m:16}")
+    private int maxNeighbors;
+
+    @Value("${embedding.index.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${embedding.index.ef-search:64}")
+    private int efSearch;
+
+    // 삭제 표시 노드가 등록 수의 이 비율을 넘으면 저장된 벡터로 인덱스 재적재
+    @Value("${embedding.index.compact-ratio:0.2}")
+    private double compactRatio;
+
+    // 반경 안 후보가 이 수 이하면 HNSW 대신 후보 전체와 정확히 비교
+    @Value("${embedding.exact-search-limit:2000}")
+    private int exactSearchLimit;
+
+    // 작업자 하나가 한 번에 계산하는 가맹점 수
+    @Value("${embedding.refresh.batch-size:100}")
+    private int batchSize;
+
+    // 계산 작업자 수 (0이면 CPU 코어 수)
+    @Value("${embedding.refresh.workers:0}")
+    private int workers;
+
+    // 이보다 오래된 임베딩은 입력이 그대로여도 다시 확인
+    @Value("${embedding.refresh.max-age-days:30}")
+    private long maxAgeDays;
+
+    // 인덱스 적재/갱신 (순서대로 하나씩)
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(namedThreads("embedding-index"));
+    private ExecutorService workerPool;
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+    // 변경 이벤트로 받은 가맹점 id 목록 (쉼표 구분, 다음 갱신 시작 시 갱신 대상으로 표시)
+    private final Queue<String> pendingChanges = new ConcurrentLinkedQueue<>();
+
+    // 적재 완료 전에는 null
+    private volatile HnswIndex index;
+    private volatile ReloadResult lastReload;
+    private volatile SweepResult lastSweep;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final LongAdder sweeps = new LongAdder();
+    private final LongAdder refreshed = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder removed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder exactSearches = new LongAdder();
+    private final LongAdder approximateSearches = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        int workerCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        workerPool = Executors.newFixedThreadPool(workerCount, namedThreads("embedding-worker"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            startReload();
+            requestRefresh();
+        }
+    }
+
+    /**
+     * 저장된 벡터로 인덱스 재적재 (백그라운드, 삭제 표시 노드 정리)
+     * @return 이미 대기 중이면 false
+     */
+    public boolean startReload() {
+        return enqueue(reloadQueued, this::reloadIndex, "임베딩 인덱스 적재");
+    }
+
+    /**
+     * 갱신 대상 임베딩 처리 (백그라운드)
+     * @return 이미 대기 중이면 false
+     */
+    public boolean requestRefresh() {
+        return enqueue(refreshQueued, this::refresh, "임베딩 갱신");
+    }
+
+    @Scheduled(initialDelayString = "${embedding.refresh.interval-ms:60000}",
+               fixedDelayString = "${embedding.refresh.interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            requestRefresh();
+        }
+    }
+
+    /**
+     * 가맹점 변경 시 갱신 요청 (갱신 대상 표시는 갱신 시작 시 인덱스 작업 스레드에서)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMerchantChanged(MerchantChangedEvent event) {
+        if (!enabled || event.getMerchantIds().isEmpty()) {
+            return;
+        }
+        pendingChanges.add(event.getMerchantIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+        requestRefresh();
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * 가맹점과 비슷한 가맹점 (자신 제외, 유사도 내림차순)
+     * @param lat 위치 조건 (lat/lng 가 모두 있을 때만 반경 radius 안에서 검색)
+     */
+    public List<SimilarMerchant> findSimilar(long merchantId, int limit, Double lat, Double lng, double radius) {
+        HnswIndex current = index;
+        float[] vector = current != null ? current.vector(merchantId) : null;
+        if (vector == null) {
+            throw new IllegalArgumentException("임베딩이 없는 가맹점입니다: " + merchantId);
+        }
+        return findByVector(current, vector, limit, merchantId, lat, lng, radius);
+    }
+
+    /**
+     * 검색어와 비슷한 가맹점 (유사도 내림차순)
+     */
+    public List<SimilarMerchant> search(String query, int limit, Double lat, Double lng, double radius) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        HnswIndex current = index;
+        if (current == null) {
+            return List.of();
+        }
+        return findByVector(current, textEmbedder.embed(query.trim()), limit, null, lat, lng, radius);
+    }
+
+    public Map<String, Object> getStatus() {
+        HnswIndex current = index;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("model", textEmbedder.getName());
+        status.put("ready", current != null);
+        status.put("size", current != null ? current.size() : 0);
+        status.put("deleted", current != null ? current.deletedCount() : 0);
+        status.put("exactSearches", exactSearches.sum());
+        status.put("approximateSearches", approximateSearches.sum());
+
+        Map<String, Object> refresh = new LinkedHashMap<>();
+        refresh.put("backlog", backlog.get());
+        refresh.put("queued", refreshQueued.get());
+        refresh.put("sweeps", sweeps.sum());
+        refresh.put("refreshed", refreshed.sum());
+        refresh.put("unchanged", unchanged.sum());
+        refresh.put("removed", removed.sum());
+        refresh.put("failed", failed.sum());
+        SweepResult sweep = lastSweep;
+        if (sweep != null) {
+            Map<String, Object> last = new LinkedHashMap<>();
+            last.put("merchants", sweep.merchants());
+            last.put("refreshed", sweep.refreshed());
+            last.put("removed", sweep.removed());
+            last.put("failed", sweep.failed());
+            last.put("elapsedMs", sweep.elapsedMs());
+            last.put("merchantsPerSecond", sweep.elapsedMs() > 0 ? sweep.merchants() * 1000.0 / sweep.elapsedMs() : 0.0);
+            last.put("finishedAt", sweep.finishedAt().toString());
+            refresh.put("lastSweep", last);
+        }
+        status.put("refresh", refresh);
+
+        ReloadResult reload = lastReload;
+        if (reload != null) {
+            status.put("lastReload", Map.of(
+                    "merchants", reload.merchants(),
+                    "elapsedMs", reload.elapsedMs(),
+                    "finishedAt", reload.finishedAt().toString()));
+        }
+        return status;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+        workerPool.shutdownNow();
+    }
+
+    // Helper Methods
+
+    /**
+     * 인덱스 작업 스레드에 등록 (같은 작업이 이미 대기 중이면 합침)
+     */
+    private boolean enqueue(AtomicBoolean queued, Runnable task, String description) {
+        if (!queued.compareAndSet(false, true)) {
+            return false;
+        }
+        runner.submit(() -> {
+            // 실행 중에 들어온 요청은 다음 실행으로
+            queued.set(false);
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("{} 실패", description, e);
+            }
+        });
+        return true;
+    }
+
+    private void reloadIndex() {
+        long start = System.currentTimeMillis();
+        int dimension = textEmbedder.getDimension();
+        HnswIndex loaded = new HnswIndex(dimension, maxNeighbors, efConstruction, INDEX_SEED);
+
+        long afterId = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<MerchantEmbeddingVectorView> page = merchantEmbeddingRepository.findVectorsAfter(
+                    textEmbedder.getName(), dimension, afterId, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            for (MerchantEmbeddingVectorView stored : page) {
+                loaded.upsert(stored.getMerchantId(), VectorCodec.decode(stored.getVector(), dimension));
+            }
+            afterId = page.get(page.size() - 1).getMerchantId();
+        }
+
+        this.index = loaded;
+        this.lastReload = new ReloadResult(loaded.size(), System.currentTimeMillis() - start, LocalDateTime.now());
+        log.info("임베딩 인덱스 적재 완료 - {}건, {}ms", loaded.size(), lastReload.elapsedMs());
+    }
+
+    /**
+     * 갱신 대상을 id 순 페이지로 처리하고 폐업/삭제 가맹점 제거
+     */
+    private void refresh() {
+        String merchantIds;
+        while ((merchantIds = pendingChanges.poll()) != null) {
+            String changed = merchantIds;
+            transactionTemplate.executeWithoutResult(tx -> merchantEmbeddingRepository.markOutdated(changed));
+        }
+
+        HnswIndex current = index;
+        if (current == null) {
+            return; // 적재 실패 - 다음 적재 후 처리
+        }
+        long start = System.currentTimeMillis();
+        String model = textEmbedder.getName();
+        LocalDateTime threshold = LocalDateTime.now().minus(Duration.ofDays(maxAgeDays));
+        backlog.set(merchantEmbeddingRepository.countOutdatedEmbeddings(model, threshold));
+
+        int merchants = 0;
+        int refreshedCount = 0;
+        int failedCount = 0;
+        long afterId = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<MerchantEmbeddingSourceView> page = merchantEmbeddingRepository.findOutdatedEmbeddings(
+                    model, threshold, afterId, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            PageResult result = refreshPage(page, current);
+            merchants += page.size();
+            refreshedCount += result.refreshed();
+            failedCount += result.failed();
+            backlog.updateAndGet(value -> Math.max(0, value - page.size()));
+            afterId = page.get(page.size() - 1).getId();
+        }
+        int removedCount = removeOrphans(current);
+
+        sweeps.increment();
+        SweepResult sweep = new SweepResult(merchants, refreshedCount, removedCount, failedCount,
+                System.currentTimeMillis() - start, LocalDateTime.now());
+        this.lastSweep = sweep;
+        if (sweep.merchants() > 0 || sweep.removed() > 0) {
+            log.info("임베딩 갱신 완료 - 대상 {}건, 새로 계산 {}건, 제거 {}건, 실패 {}건, {}ms",
+                    sweep.merchants(), sweep.refreshed(), sweep.removed(), sweep.failed(), sweep.elapsedMs());
+        }
+
+        // 교체로 쌓인 삭제 표시 노드가 많으면 재적재 (같은 스레드에서 이어서 실행)
+        if (current.deletedCount() > compactRatio * Math.max(current.size(), 1)) {
+            startReload();
+        }
+    }
+
+    /**
+     * 한 페이지를 배치로 나눠 병렬 계산 → 바뀐 벡터는 INSERT 한 번, 그대로인 것은 갱신 시각만 → 인덱스 반영
+     */
+    private PageResult refreshPage(List<MerchantEmbeddingSourceView> page, HnswIndex target) {
+        List<List<MerchantEmbeddingSourceView>> batches = new ArrayList<>();
+        for (int from = 0; from < page.size(); from += batchSize) {
+            batches.add(page.subList(from, Math.min(from + batchSize, page.size())));
+        }
+        List<CompletableFuture<List<Embedded>>> futures = batches.stream()
+                .map(batch -> CompletableFuture.supplyAsync(() -> embedBatch(batch), workerPool))
+                .toList();
+
+        List<Embedded> changed = new ArrayList<>();
+        List<Long> sameIds = new ArrayList<>();
+        int failedCount = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                for (Embedded embedded : futures.get(i).join()) {
+                    if (embedded.vector() != null) {
+                        changed.add(embedded);
+                    } else {
+                        sameIds.add(embedded.merchantId());
+                    }
+                }
+            } catch (CompletionException e) {
+                // 실패한 배치는 갱신 대상으로 남아 다음 주기에 다시 처리
+                failedCount += batches.get(i).size();
+                log.warn("임베딩 계산 실패 - {}건", batches.get(i).size(), e.getCause());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (!changed.isEmpty()) {
+                merchantEmbeddingRepository.upsertAll(
+                        changed.stream().map(embedded -> String.valueOf(embedded.merchantId())).collect(Collectors.joining(",")),
+                        changed.stream().map(embedded -> Base64.getEncoder().encodeToString(VectorCodec.encode(embedded.vector())))
+                                .collect(Collectors.joining(",")),
+                        changed.stream().map(Embedded::sourceHash).collect(Collectors.joining(",")),
+                        textEmbedder.getName(), textEmbedder.getDimension(), now);
+            }
+            if (!sameIds.isEmpty()) {
+                merchantEmbeddingRepository.markRefreshed(
+                        sameIds.stream().map(String::valueOf).collect(Collectors.joining(",")), now);
+            }
+        });
+
+        for (Embedded embedded : changed) {
+            target.upsert(embedded.merchantId(), embedded.vector());
+        }
+        refreshed.add(changed.size());
+        unchanged.add(sameIds.size());
+        failed.add(failedCount);
+        return new PageResult(changed.size(), failedCount);
+    }
+
+    /**
+     * 배치 임베딩 (입력 해시가 저장된 것과 같으면 계산하지 않음 - vector null)
+     */
+    private List<Embedded> embedBatch(List<MerchantEmbeddingSourceView> batch) {
+        List<Embedded> result = new ArrayList<>(batch.size());
+        for (MerchantEmbeddingSourceView source : batch) {
+            String[] fields = {source.getName(), source.getCategoryName()};
+            String sourceHash = sourceHash(fields);
+            float[] vector = sourceHash.equals(source.getSourceHash()) ? null : textEmbedder.embed(fields, FIELD_WEIGHTS);
+            result.add(new Embedded(source.getId(), vector, sourceHash));
+        }
+        return result;
+    }
+
+    /**
+     * 폐업/삭제 가맹점 임베딩 삭제 + 인덱스에서 제거
+     * @return 제거한 수
+     */
+    private int removeOrphans(HnswIndex target) {
+        int count = 0;
+        long afterId = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> orphans = merchantEmbeddingRepository.findOrphanedMerchantIds(afterId, pageSize);
+            if (orphans.isEmpty()) {
+                break;
+            }
+            String merchantIds = orphans.stream().map(String::valueOf).collect(Collectors.joining(","));
+            transactionTemplate.executeWithoutResult(tx -> merchantEmbeddingRepository.deleteByMerchantIds(merchantIds));
+            orphans.forEach(target::remove);
+            removed.add(orphans.size());
+            count += orphans.size();
+            afterId = orphans.get(orphans.size() - 1);
+        }
+        return count;
+    }
+
+    private List<SimilarMerchant> findByVector(HnswIndex current, float[] vector, int limit, Long excludeId,
+                                               Double lat, Double lng, double radius) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        if (lat != null && lng != null) {
+            Map<Long, MerchantNearbyView> nearby = new HashMap<>();
+            for (MerchantNearbyView view : merchantService.findNearbyMerchants(lat, lng, radius)) {
+                if (!view.getId().equals(excludeId)) {
+                    nearby.put(view.getId(), view);
+                }
+            }
+            HnswIndex.Hits hits;
+            if (nearby.size() <= exactSearchLimit) {
+                exactSearches.increment();
+                hits = current.searchAmong(vector,
+                        nearby.keySet().stream().mapToLong(Long::longValue).toArray(), boundedLimit);
+            } else {
+                approximateSearches.increment();
+                hits = current.search(vector, boundedLimit, efSearch, nearby::containsKey);
+            }
+            return toSimilar(hits, nearby, boundedLimit);
+        }
+
+        // 폐업 가맹점은 조회에서 빠지므로 여유 있게 가져옴
+        approximateSearches.increment();
+        HnswIndex.Hits hits = current.search(vector, boundedLimit * 2 + 1, efSearch,
+                excludeId == null ? null : id -> id != excludeId);
+        List<Long> hitIds = new ArrayList<>(hits.size());
+        for (long id : hits.ids()) {
+            hitIds.add(id);
+        }
+        Map<Long, MerchantNearbyView> views = new HashMap<>();
+        for (MerchantNearbyView view : merchantRepository.findMerchantViewsByIds(hitIds)) {
+            views.put(view.getId(), view);
+        }
+        return toSimilar(hits, views, boundedLimit);
+    }
+
+    private static List<SimilarMerchant> toSimilar(HnswIndex.Hits hits, Map<Long, MerchantNearbyView> views, int limit) {
+        List<SimilarMerchant> result = new ArrayList<>(Math.min(limit, hits.size()));
+        for (int i = 0; i < hits.size() && result.size() < limit; i++) {
+            MerchantNearbyView view = views.get(hits.ids()[i]);
+            if (view != null) {
+                result.add(new SimilarMerchant(view, hits.scores()[i]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 임베딩 방식 + 입력 필드의 SHA-256 (방식이나 이름/카테고리가 바뀌면 달라짐)
+     */
+    private String sourceHash(String[] fields) {
+        StringBuilder source = new StringBuilder(textEmbedder.getName());
+        for (String field : fields) {
+            source.append('\n').append(field != null ? field : "");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 유사 가맹점 (score: 코사인 유사도, 위치 조건 검색이면 merchant 에 거리 포함)
+     */
+    public record SimilarMerchant(MerchantNearbyView merchant, double score) {
+    }
+
+    /**
+     * 계산 결과 (입력이 그대로면 vector null)
+     */
+    private record Embedded(long merchantId, float[] vector, String sourceHash) {
+    }
+
+    private record ReloadResult(int merchants, long elapsedMs, LocalDateTime finishedAt) {
+    }
+
+    private record PageResult(int refreshed, int failed) {
+    }
+
+    private record SweepResult(int merchants, int refreshed, int removed, int failed,
+                               long elapsedMs, LocalDateTime finishedAt) {
+    }
+}
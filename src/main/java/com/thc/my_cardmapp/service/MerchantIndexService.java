@@ -0,0 +1,157 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.index.CardMembershipIndex;
+import com.thc.my_cardmapp.index.NgramSearchIndex;
+import com.thc.my_cardmapp.index.SpatialGridIndex;
+import com.thc.my_cardmapp.repository.MerchantCardRepository;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantCardView;
+import com.thc.my_cardmapp.repository.projection.MerchantPointView;
+import com.thc.my_cardmapp.repository.projection.MerchantTextView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가맹점 인메모리 인덱스 관리
+ * - 기동 시 merchant 테이블에서 좌표/이름·주소 n-gram, merchant_card 에서 카드 비트맵을 적재 (merchant.index.enabled=true 인 경우만)
+ * - 가맹점 변경 이벤트를 받아 커밋 이후 증분 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MerchantIndexService {
+
+    private final MerchantRepository merchantRepository;
+    private final MerchantCardRepository merchantCardRepository;
+
+    @Value("${merchant.index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${merchant.index.cell-size-deg:0.005}")
+    private double cellSizeDeg;
+
+    // 적재 완료 전에는 null (DB 조회로 대체)
+    private volatile SpatialGridIndex spatialIndex;
+    private volatile CardMembershipIndex cardIndex;
+    private volatile NgramSearchIndex textIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 재적재 (새 인덱스를 만든 뒤 교체)
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        SpatialGridIndex index = new SpatialGridIndex(cellSizeDeg);
+        List<MerchantPointView> points = merchantRepository.findAllPoints();
+        for (MerchantPointView point : points) {
+            index.upsert(point.getId(), point.getLatitude(), point.getLongitude());
+        }
+
+        CardMembershipIndex cards = new CardMembershipIndex();
+        List<MerchantCardView> memberships = merchantCardRepository.findAllMemberships();
+        for (MerchantCardView membership : memberships) {
+            cards.add(membership.getCardName(), membership.getMerchantId());
+        }
+        cards.optimize();
+
+        NgramSearchIndex texts = new NgramSearchIndex();
+        for (MerchantTextView text : merchantRepository.findAllTexts()) {
+            texts.upsert(text.getId(), text.getName(), text.getAddress());
+        }
+
+        // 나머지 인덱스를 먼저 교체해야 isReady() 시점에 모두 사용 가능
+        this.cardIndex = cards;
+        this.textIndex = texts;
+        this.spatialIndex = index;
+
+        log.info("가맹점 인덱스 적재 완료 - 좌표 {}건, 카드 연결 {}건, 텍스트 {}건, {}ms",
+                index.size(), memberships.size(), texts.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return spatialIndex != null;
+    }
+
+    /**
+     * 반경 검색 (거리 오름차순)
+     */
+    public SpatialGridIndex.Neighbors findNearby(double lat, double lng, double radius) {
+        return spatialIndex.query(lat, lng, radius, null);
+    }
+
+    /**
+     * 카드 필터 + 반경 검색 (카드 비트맵 OR 결과와 공간 후보의 교집합)
+     */
+    public SpatialGridIndex.Neighbors findNearbyByCards(double lat, double lng, double radius, List<String> cardNames) {
+        RoaringBitmap accepted = cardIndex.union(cardNames);
+        if (accepted.isEmpty()) {
+            return new SpatialGridIndex.Neighbors(new long[0], new double[0]);
+        }
+        return spatialIndex.query(lat, lng, radius, id -> accepted.contains(CardMembershipIndex.toIndex(id)));
+    }
+
+    /**
+     * 키워드 검색 (이름/주소 부분 일치, 관련도순)
+     */
+    public NgramSearchIndex.Hits searchByKeyword(String keyword, int offset, int limit) {
+        return textIndex.search(keyword, offset, limit);
+    }
+
+    /**
+     * 가맹점 변경 반영 (커밋 이후 증분 갱신)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMerchantChanged(MerchantChangedEvent event) {
+        SpatialGridIndex index = spatialIndex;
+        if (index == null || event.getMerchantIds().isEmpty()) {
+            return;
+        }
+
+        Set<Long> remaining = new HashSet<>(event.getMerchantIds());
+        for (MerchantPointView point : merchantRepository.findPointsByIdIn(event.getMerchantIds())) {
+            index.upsert(point.getId(), point.getLatitude(), point.getLongitude());
+            remaining.remove(point.getId());
+        }
+        // 좌표가 사라진 가맹점은 인덱스에서 제거
+        remaining.forEach(index::remove);
+
+        Map<Long, List<String>> cardsByMerchant = new HashMap<>();
+        event.getMerchantIds().forEach(id -> cardsByMerchant.put(id, new ArrayList<>()));
+        for (MerchantCardView membership : merchantCardRepository.findMembershipsByMerchantIdIn(event.getMerchantIds())) {
+            cardsByMerchant.get(membership.getMerchantId()).add(membership.getCardName());
+        }
+        cardsByMerchant.forEach(cardIndex::replaceMerchant);
+
+        Set<Long> missingTexts = new HashSet<>(event.getMerchantIds());
+        for (MerchantTextView text : merchantRepository.findTextsByIdIn(event.getMerchantIds())) {
+            textIndex.upsert(text.getId(), text.getName(), text.getAddress());
+            missingTexts.remove(text.getId());
+        }
+        // 삭제된 가맹점은 텍스트 인덱스에서도 제거
+        missingTexts.forEach(textIndex::remove);
+
+        log.debug("가맹점 인덱스 갱신 - {}건", event.getMerchantIds().size());
+    }
+}
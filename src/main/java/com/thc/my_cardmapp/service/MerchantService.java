@@ -3,9 +3,16 @@ package com.thc.my_cardmapp.service;
 import com.thc.my_cardmapp.domain.Card;
 import com.thc.my_cardmapp.domain.Merchant;
 import com.thc.my_cardmapp.domain.MerchantCard;
+import com.thc.my_cardmapp.dto.CursorPageDto;
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.index.NgramSearchIndex;
+import com.thc.my_cardmapp.index.SpatialGridIndex;
 import com.thc.my_cardmapp.repository.MerchantRepository;
 import com.thc.my_cardmapp.repository.MerchantCardRepository;
 import com.thc.my_cardmapp.repository.SearchHistoryRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantClusterView;
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
@@ -13,14 +20,19 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,6 +44,9 @@ public class MerchantService {
     private final MerchantRepository merchantRepository;
     private final MerchantCardRepository merchantCardRepository;
     private final SearchHistoryRepository searchHistoryRepository;
+    private final MerchantIndexService merchantIndexService;
+    private final NearbyResultCache nearbyResultCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * SRID(Spatial Reference System Identifier: 공간 참조 시스템) 4326을 사용하는 GeometryFactory
@@ -41,6 +56,20 @@ public class MerchantService {
      *   - SRID 5186: Korean 1985 (구 한국 좌표계)
      */
 
+    // 최근접 검색 최대 개수
+    private static final int MAX_NEAREST_LIMIT = 100;
+
+    // 커서 페이지 최대 크기
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // 지도 영역 조회: 이 줌 레벨부터 개별 가맹점 반환
+    private static final int VIEWPORT_INDIVIDUAL_MIN_ZOOM = 16;
+    // 지도 영역 조회: 개별 가맹점 최대 개수 (초과 시 클러스터로 대체)
+    private static final int VIEWPORT_MAX_MERCHANTS = 500;
+    // 지도 영역 조회: 타일 한 변당 클러스터 셀 수 / 화면 한 변당 최대 셀 수
+    private static final int VIEWPORT_CELLS_PER_TILE = 8;
+    private static final int VIEWPORT_MAX_CELLS_PER_AXIS = 32;
+
     private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
 
     /**
@@ -52,23 +81,147 @@ public class MerchantService {
     }
 
     /**
-     * 위치 기반 가맹점 검색
+     * 모든 가맹점 조회 (커서 페이지네이션 - id 순)
+     * @param withTotal true 면 pg_class 통계 기반 추정 건수 포함
      */
-    public List<Merchant> findNearbyMerchants(double lat, double lng, double radius) {
+    public CursorPageDto<MerchantNearbyView> getAllMerchants(String cursor, int size, boolean withTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int limit = boundedPageSize(size);
+        log.debug("모든 가맹점 조회(커서) - 이후 ID: {}, 크기: {}", after.id(), limit);
+
+        List<MerchantNearbyView> rows = merchantRepository.findMerchantViewsAfter(after.id(), limit + 1);
+        CursorPageDto<MerchantNearbyView> page = toIdCursorPage(rows, limit);
+        if (withTotal) {
+            page.setTotalCount(merchantRepository.estimateMerchantCount());
+            page.setTotalApproximate(true);
+        }
+        return page;
+    }
+
+    /**
+     * 복합 필터 검색 (커서 페이지네이션 - id 순)
+     * @param withTotal true 면 정확한 건수 포함 (COUNT 쿼리 추가 실행)
+     */
+    public CursorPageDto<MerchantNearbyView> searchMerchants(Long cardId, Long categoryId, String keyword,
+                                                             String cursor, int size, boolean withTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int limit = boundedPageSize(size);
+        String normalizedKeyword = keyword == null || keyword.isBlank() ? null : keyword;
+        log.debug("복합 검색(커서) - 카드ID: {}, 카테고리ID: {}, 키워드: {}, 이후 ID: {}", cardId, categoryId, keyword, after.id());
+
+        List<MerchantNearbyView> rows = merchantRepository.findMerchantViewsByFiltersAfter(
+                cardId, categoryId, normalizedKeyword, after.id(), limit + 1);
+        CursorPageDto<MerchantNearbyView> page = toIdCursorPage(rows, limit);
+        if (withTotal) {
+            page.setTotalCount(merchantRepository.countByFilters(cardId, categoryId, normalizedKeyword));
+            page.setTotalApproximate(false);
+        }
+        return page;
+    }
+
+    /**
+     * 위치 기반 가맹점 검색 (커서 페이지네이션 - (거리, id) 순)
+     */
+    public CursorPageDto<MerchantNearbyView> findNearbyMerchants(double lat, double lng, double radius,
+                                                                 List<String> cardNames, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int limit = boundedPageSize(size);
+        String[] cardFilter = cardNames == null ? new String[0] : cardNames.toArray(String[]::new);
+
+        List<MerchantNearbyView> rows = merchantRepository.findNearbyMerchantViewsAfter(
+                createPoint(lng, lat), radius, cardFilter, after.distanceOrMin(), after.id(), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<MerchantNearbyView> content = hasNext ? rows.subList(0, limit) : rows;
+        MerchantNearbyView last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return CursorPageDto.<MerchantNearbyView>builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? KeysetCursor.ofDistance(last.getDistance(), last.getId()).encode() : null)
+                .build();
+    }
+
+    /**
+     * 위치 기반 가맹점 검색 (프로젝션 - 거리 포함)
+     * - 캐시 가능한 반경이면 geohash 셀 단위 결과 캐시 사용
+     */
+    public List<MerchantNearbyView> findNearbyMerchants(double lat, double lng, double radius) {
         log.debug("위치 기반 가맹점 검색 - 위도: {}, 경도: {}, 반경: {}m", lat, lng, radius);
 
-        Point location = createPoint(lng, lat);
-        return merchantRepository.findNearbyMerchants(location, radius);
+        if (nearbyResultCache.isCacheable(radius)) {
+            List<MerchantNearbyView> cached = nearbyResultCache.find(lat, lng, radius, null, this::findNearbyForCell);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return findNearbyUncached(lat, lng, radius);
     }
 
     /**
-     * 카드 타입별 + 위치 기반 검색
+     * 카드 타입별 + 위치 기반 검색 (프로젝션 - 거리 포함)
      */
-    public List<Merchant> findNearbyMerchantsByCards(double lat, double lng, double radius, List<String> cardNames) {
+    public List<MerchantNearbyView> findNearbyMerchantsByCards(double lat, double lng, double radius, List<String> cardNames) {
         log.debug("카드별 위치 기반 검색 - 카드: {}", cardNames);
 
+        // 셀 캐시는 카드 목록을 함께 보관하므로 카드 조합과 무관하게 공유
+        if (nearbyResultCache.isCacheable(radius)) {
+            List<MerchantNearbyView> cached = nearbyResultCache.find(lat, lng, radius, cardNames, this::findNearbyForCell);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Point location = createPoint(lng, lat);
+
+        if (merchantIndexService.isReady()) {
+            return loadInOrder(location, merchantIndexService.findNearbyByCards(lat, lng, radius, cardNames));
+        }
+
+        return merchantRepository.findNearbyMerchantViewsByCards(location, radius, cardNames);
+    }
+
+    /**
+     * 가까운 순 N개 가맹점 검색 (반경 제한 없음, KNN)
+     */
+    public List<MerchantNearbyView> findNearestMerchants(double lat, double lng, int limit, List<String> cardNames) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_NEAREST_LIMIT));
+        log.debug("최근접 가맹점 검색 - 위도: {}, 경도: {}, 개수: {}, 카드: {}", lat, lng, boundedLimit, cardNames);
+
         Point location = createPoint(lng, lat);
-        return merchantRepository.findNearbyMerchantsByCards(location, radius, cardNames);
+        if (cardNames != null && !cardNames.isEmpty()) {
+            return merchantRepository.findNearestMerchantViewsByCards(location, boundedLimit, cardNames);
+        }
+        return merchantRepository.findNearestMerchantViews(location, boundedLimit);
+    }
+
+    /**
+     * 지도 화면 영역(bbox) 조회
+     * - 줌이 낮으면 격자 클러스터(셀별 개수 + 중심), 높으면 개별 가맹점
+     * - 셀 크기는 줌과 화면 크기 중 큰 쪽을 따르므로 응답 크기는 화면 넓이와 무관하게 제한됨
+     */
+    public ViewportResult findMerchantsInViewport(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        if (minLat >= maxLat || minLng >= maxLng) {
+            throw new IllegalArgumentException("잘못된 지도 영역입니다: min 값은 max 값보다 작아야 합니다.");
+        }
+        log.debug("지도 영역 조회 - ({}, {}) ~ ({}, {}), 줌: {}", minLat, minLng, maxLat, maxLng, zoom);
+
+        if (zoom >= VIEWPORT_INDIVIDUAL_MIN_ZOOM) {
+            List<MerchantNearbyView> merchants = merchantRepository.findMerchantViewsInViewport(
+                    minLat, minLng, maxLat, maxLng, VIEWPORT_MAX_MERCHANTS + 1);
+            if (merchants.size() <= VIEWPORT_MAX_MERCHANTS) {
+                return new ViewportResult(false, List.of(), merchants);
+            }
+        }
+
+        // 웹 메르카토르 타일 한 변(360 / 2^zoom 도)을 기준으로 셀 크기 결정
+        double tileSizeDeg = 360.0 / Math.pow(2, Math.max(0, Math.min(zoom, 22)));
+        double viewportSpanDeg = Math.max(maxLat - minLat, maxLng - minLng);
+        double cellSize = Math.max(tileSizeDeg / VIEWPORT_CELLS_PER_TILE, viewportSpanDeg / VIEWPORT_MAX_CELLS_PER_AXIS);
+
+        List<MerchantClusterView> clusters = merchantRepository.findClustersInViewport(
+                minLat, minLng, maxLat, maxLng, cellSize);
+        return new ViewportResult(true, clusters, List.of());
     }
 
     /**
@@ -77,9 +230,7 @@ public class MerchantService {
     public List<Merchant> findMerchantsByCardId(Long cardId) {
         log.debug("카드별 가맹점 조회 - 카드ID: {}", cardId);
 
-        return merchantCardRepository.findByCard_Id(cardId).stream()
-                .map(MerchantCard::getMerchant)
-                .collect(Collectors.toList());
+        return merchantCardRepository.findOpenMerchantsByCardId(cardId);
     }
 
     /**
@@ -92,13 +243,26 @@ public class MerchantService {
     }
 
     /**
-     * 키워드 검색
+     * 키워드 검색 (이름/주소 부분 일치, 관련도순)
+     * - 인메모리 n-gram 인덱스가 적재되어 있으면 메모리에서 검색 후 해당 ID만 조회
+     * - 아니면 pg_trgm 인덱스를 사용하는 DB 검색 (인메모리 검색과 같이 공백 제거 + 소문자로 비교)
      */
     @Transactional
-    public Page<Merchant> searchByKeyword(String keyword, Long userId, Pageable pageable) {
+    public Page<MerchantNearbyView> searchByKeyword(String keyword, Long userId, Pageable pageable) {
         log.debug("키워드 검색: {}", keyword);
 
-        Page<Merchant> results = merchantRepository.searchByKeyword(keyword, pageable);
+        Page<MerchantNearbyView> results;
+        if (merchantIndexService.isReady()) {
+            NgramSearchIndex.Hits hits = merchantIndexService.searchByKeyword(
+                    keyword, (int) pageable.getOffset(), pageable.getPageSize());
+            List<Long> ids = Arrays.stream(hits.ids()).boxed().collect(Collectors.toList());
+            List<MerchantNearbyView> content = ids.isEmpty()
+                    ? List.of()
+                    : orderByIds(ids, merchantRepository.findMerchantViewsByIds(ids));
+            results = new PageImpl<>(content, pageable, hits.total());
+        } else {
+            results = merchantRepository.searchByKeyword(NgramSearchIndex.normalize(keyword), pageable);
+        }
 
         // 검색 기록 저장 (비동기 처리 권장)
         if (userId != null && !results.isEmpty()) {
@@ -163,6 +327,9 @@ public class MerchantService {
             }
         }
 
+        // 위치/카드 인덱스 갱신
+        eventPublisher.publishEvent(new MerchantChangedEvent(List.of(savedMerchant.getId())));
+
         return savedMerchant;
     }
 
@@ -184,16 +351,95 @@ public class MerchantService {
         if (updateData.getCategory() != null) {
             merchant.setCategory(updateData.getCategory());
         }
+        Point previousLocation = null;
         if (updateData.getLocation() != null) {
             updateData.getLocation().setSRID(4326);
+            if (merchant.getLocation() != null && !updateData.getLocation().equalsExact(merchant.getLocation())) {
+                previousLocation = merchant.getLocation();
+            }
             merchant.setLocation(updateData.getLocation());
         }
 
-        return merchantRepository.save(merchant);
+        Merchant saved = merchantRepository.save(merchant);
+
+        // 이름/주소가 바뀌어도 검색 인덱스와 결과 캐시를 갱신해야 하므로 항상 발행
+        eventPublisher.publishEvent(new MerchantChangedEvent(List.of(merchantId),
+                previousLocation != null ? List.of(previousLocation) : List.of()));
+
+        return saved;
     }
 
     // Helper Methods
 
+    /**
+     * 반경 검색 원본 조회 (인메모리 인덱스가 적재되어 있으면 PostGIS 반경 검색 생략)
+     */
+    private List<MerchantNearbyView> findNearbyUncached(double lat, double lng, double radius) {
+        Point location = createPoint(lng, lat);
+        if (merchantIndexService.isReady()) {
+            return loadInOrder(location, merchantIndexService.findNearby(lat, lng, radius));
+        }
+        return merchantRepository.findNearbyMerchantViews(location, radius);
+    }
+
+    /**
+     * 반경 검색 캐시 셀 후보 (가까운 순 limit 개까지만 조회, 넘치는 셀은 캐시가 직접 조회로 돌림)
+     */
+    private List<MerchantNearbyView> findNearbyForCell(double lat, double lng, double radius, int limit) {
+        Point location = createPoint(lng, lat);
+        if (merchantIndexService.isReady()) {
+            return loadInOrder(location, merchantIndexService.findNearby(lat, lng, radius).limit(limit));
+        }
+        return merchantRepository.findNearbyMerchantViewsLimited(location, radius, limit);
+    }
+
+    private int boundedPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    /**
+     * limit + 1 건 조회 결과로 id 커서 페이지 구성
+     */
+    private CursorPageDto<MerchantNearbyView> toIdCursorPage(List<MerchantNearbyView> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<MerchantNearbyView> content = hasNext ? rows.subList(0, limit) : rows;
+
+        return CursorPageDto.<MerchantNearbyView>builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? KeysetCursor.ofId(content.get(content.size() - 1).getId()).encode() : null)
+                .build();
+    }
+
+    /**
+     * 인덱스 검색 결과(ID, 거리순)를 프로젝션으로 1회 조회 후 같은 순서로 정렬
+     */
+    private List<MerchantNearbyView> loadInOrder(Point location, SpatialGridIndex.Neighbors neighbors) {
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = Arrays.stream(neighbors.ids()).boxed().collect(Collectors.toList());
+        return orderByIds(ids, merchantRepository.findMerchantViewsByIdIn(location, ids));
+    }
+
+    /**
+     * 조회 결과를 주어진 ID 순서대로 정렬 (없는 ID는 제외)
+     */
+    private List<MerchantNearbyView> orderByIds(List<Long> ids, List<MerchantNearbyView> views) {
+        Map<Long, MerchantNearbyView> viewsById = views.stream()
+                .collect(Collectors.toMap(MerchantNearbyView::getId, Function.identity()));
+
+        List<MerchantNearbyView> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            MerchantNearbyView view = viewsById.get(id);
+            if (view != null) {
+                ordered.add(view);
+            }
+        }
+        return ordered;
+    }
+
     /**
      * Point 객체 생성 (SRID 4326 설정 포함)
      */
@@ -223,11 +469,21 @@ public class MerchantService {
         return Math.round(distance * 100.0) / 100.0; // round to 2 decimal places
     }
 
+    /**
+     * 지도 화면 영역 조회 결과
+     */
+    @Data
+    public static class ViewportResult {
+        private final boolean clustered;
+        private final List<MerchantClusterView> clusters;
+        private final List<MerchantNearbyView> merchants;
+    }
+
     /**
      * 검색 기록 저장
      */
     @Transactional
-    private void saveSearchHistory(Long userId, String query, List<Merchant> results) {
+    private void saveSearchHistory(Long userId, String query, List<MerchantNearbyView> results) {
         // TODO: SearchHistory 저장 로직 구현
         log.debug("검색 기록 저장 - userId: {}, query: {}", userId, query);
     }
@@ -0,0 +1,193 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가맹점 벡터 타일(MVT) 생성 및 캐시
+ * - PostGIS ST_AsMVT 로 타일 생성
+ * - z/x/y + 카드 필터 키로 LRU 캐시, 가맹점 변경 시 전체 무효화
+ * - 설정 시 기동 직후 낮은 줌 레벨 타일을 미리 생성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MerchantTileService {
+
+    private static final int MAX_ZOOM = 22;
+    // 캐시 키의 카드명 구분자 (카드명에 쉼표가 있어도 키가 겹치지 않도록)
+    private static final String CARD_KEY_SEPARATOR = "\u0000";
+
+    private final MerchantRepository merchantRepository;
+
+    @Value("${merchant.tiles.cache-size:2000}")
+    private int cacheSize;
+
+    // 미리 생성할 최대 줌 레벨 (-1 이면 사용 안 함)
+    @Value("${merchant.tiles.prerender-max-zoom:-1}")
+    private int prerenderMaxZoom;
+
+    // 미리 생성할 영역 (기본: 서울)
+    @Value("${merchant.tiles.prerender-bbox:37.41,126.76,37.72,127.19}")
+    private double[] prerenderBbox;
+
+    private Map<String, Tile> tileCache;
+    // 무효화할 때마다 증가 (타일 생성 시작 시점과 다르면 생성한 타일을 저장하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void initCache() {
+        // 접근 순서 LinkedHashMap 으로 LRU 구현
+        tileCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Tile> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * 타일 조회 (캐시 우선)
+     * @param cardNames 카드 필터 (null 또는 빈 목록이면 전체)
+     */
+    public Tile getTile(int z, int x, int y, List<String> cardNames) {
+        validateTile(z, x, y);
+
+        String[] cardFilter = normalizeCardFilter(cardNames);
+        String key = z + "/" + x + "/" + y + "|" + String.join(CARD_KEY_SEPARATOR, cardFilter);
+
+        Tile cached = tileCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedGeneration = generation.get();
+        byte[] data = merchantRepository.findMerchantTile(z, x, y, cardFilter);
+        if (data == null) {
+            data = new byte[0];
+        }
+        Tile tile = new Tile(data, "\"" + DigestUtils.md5DigestAsHex(data) + "\"");
+        if (generation.get() == loadedGeneration) {
+            tileCache.put(key, tile);
+            // 확인과 저장 사이에 무효화가 끼어들었으면 방금 저장한 타일도 제거
+            if (generation.get() != loadedGeneration) {
+                tileCache.remove(key);
+            }
+        }
+        return tile;
+    }
+
+    /**
+     * 가맹점 변경 시 타일 캐시 무효화 (변경이 드물어 전체 삭제)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMerchantChanged(MerchantChangedEvent event) {
+        generation.incrementAndGet();
+        tileCache.clear();
+        log.debug("타일 캐시 무효화 - 변경 가맹점 {}건", event.getMerchantIds().size());
+    }
+
+    /**
+     * 낮은 줌 레벨 타일 미리 생성 (백그라운드)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void prerenderOnStartup() {
+        if (prerenderMaxZoom < 0) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int count = 0;
+        double minLat = prerenderBbox[0];
+        double minLng = prerenderBbox[1];
+        double maxLat = prerenderBbox[2];
+        double maxLng = prerenderBbox[3];
+
+        for (int z = 0; z <= Math.min(prerenderMaxZoom, MAX_ZOOM); z++) {
+            int minX = lngToTileX(minLng, z);
+            int maxX = lngToTileX(maxLng, z);
+            // 타일 y 는 위도가 높을수록 작아짐
+            int minY = latToTileY(maxLat, z);
+            int maxY = latToTileY(minLat, z);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    try {
+                        getTile(z, x, y, null);
+                        count++;
+                    } catch (Exception e) {
+                        log.warn("타일 미리 생성 실패: {}/{}/{}", z, x, y, e);
+                    }
+                }
+            }
+        }
+
+        log.info("타일 미리 생성 완료 - 줌 0~{}, {}개, {}ms", prerenderMaxZoom, count, System.currentTimeMillis() - start);
+    }
+
+    // Helper Methods
+
+    private void validateTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM) {
+            throw new IllegalArgumentException("잘못된 줌 레벨입니다: " + z);
+        }
+        int max = 1 << z;
+        if (x < 0 || x >= max || y < 0 || y >= max) {
+            throw new IllegalArgumentException("잘못된 타일 좌표입니다: " + z + "/" + x + "/" + y);
+        }
+    }
+
+    /**
+     * 카드 필터를 정렬된 중복 없는 배열로 정규화 (빈 배열이면 전체, 캐시 키 및 쿼리 파라미터 공용)
+     */
+    private String[] normalizeCardFilter(List<String> cardNames) {
+        if (cardNames == null || cardNames.isEmpty()) {
+            return new String[0];
+        }
+        return cardNames.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+    }
+
+    private static int lngToTileX(double lng, int z) {
+        int n = 1 << z;
+        return Math.max(0, Math.min(n - 1, (int) Math.floor((lng + 180) / 360 * n)));
+    }
+
+    private static int latToTileY(double lat, int z) {
+        int n = 1 << z;
+        double latRad = Math.toRadians(lat);
+        double y = (1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n;
+        return Math.max(0, Math.min(n - 1, (int) Math.floor(y)));
+    }
+
+    /**
+     * 생성된 타일 (MVT 바이트 + ETag)
+     */
+    @Data
+    public static class Tile {
+        private final byte[] data;
+        private final String etag;
+    }
+}
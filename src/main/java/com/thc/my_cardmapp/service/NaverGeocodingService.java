@@ -1,28 +1,32 @@
 package com.thc.my_cardmapp.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thc.my_cardmapp.geocoding.GeocodingProvider;
+import com.thc.my_cardmapp.geocoding.GeocodingResult;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.GeometryFactory;
-import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 
+/**
+ * Naver 지오코딩 (주소 정제와 캐시는 GeocodingService 에서)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class NaverGeocodingService {
+public class NaverGeocodingService implements GeocodingProvider {
 
     @Value("${naver.client.id}")
     private String clientId;
@@ -30,61 +34,31 @@ public class NaverGeocodingService {
     @Value("${naver.client.secret}")
     private String clientSecret;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 연결/읽기 타임아웃이 설정된 지오코딩 공용 RestTemplate
+    private final RestTemplate geocodingRestTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private static final String GEOCODING_URL = "https://naveropenapi.apigw.ntruss.com/map-geocode/v2/geocode";
-    private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private static final String PROVIDER = "NAVER";
 
-    /**
-     * 주소 정제 메서드
-     * 상세 주소 정보(동/호수, 층수, 괄호 내용)를 제거하여 Geocoding이 인식 가능한 형태로 변환
-     */
-    private String cleanAddress(String address) {
-        if (address == null || address.trim().isEmpty()) {
-            return address;
-        }
-
-        String cleaned = address;
-
-        // 1. 동호수 제거 (예: ", 102동 204호" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+동\\s*\\d+호", "");
-
-        // 2. 층수 제거 (예: ", 2층 202호" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+층\\s*\\d+호", "");
-
-        // 3. 단독 동 제거 (예: ", 102동" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+동", "");
-
-        // 4. 단독 호수 제거 (예: ", 202호" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+호", "");
-
-        // 5. 층수만 제거 (예: ", 2층" -> "")
-        cleaned = cleaned.replaceAll(",\\s*\\d+층", "");
-
-        // 6. 괄호 안 내용 제거 (예: " (구산동,갈현현대아파트)" -> "")
-        cleaned = cleaned.replaceAll("\\s*\\([^)]*\\)", "");
-
-        // 7. 다중 공백을 단일 공백으로
-        cleaned = cleaned.replaceAll("\\s+", " ");
-
-        // 8. 앞뒤 공백 및 쉼표 제거
-        cleaned = cleaned.trim().replaceAll(",$", "");
+    @Override
+    public String getName() {
+        return PROVIDER;
+    }
 
-        return cleaned;
+    @Override
+    public boolean isEnabled() {
+        return StringUtils.hasText(clientId) && !clientId.startsWith("your-");
     }
 
     /**
-     * 주소를 위도/경도로 변환
+     * 정제한 주소를 위도/경도로 변환
      */
+    @Override
     public GeocodingResult geocode(String address) {
         try {
-            // 주소 정제
-            String cleanedAddress = cleanAddress(address);
-            log.info("주소 정제: [{}] -> [{}]", address, cleanedAddress);
-
             // URL 생성
             String url = UriComponentsBuilder.fromUriString(GEOCODING_URL)
-                    .queryParam("query", cleanedAddress)
+                    .queryParam("query", address)
                     .toUriString();
 
             // 헤더 설정
@@ -95,7 +69,7 @@ public class NaverGeocodingService {
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
             // API 호출
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = geocodingRestTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
@@ -117,34 +91,36 @@ public class NaverGeocodingService {
                 double lat = Double.parseDouble(naverAddress.getY());
                 double lng = Double.parseDouble(naverAddress.getX());
 
-                // PostGIS Point 생성 (경도, 위도 순서 주의!)
-                Point point = geometryFactory.createPoint(new Coordinate(lng, lat));
-
                 log.info("Naver Geocoding 성공: {} -> ({}, {})", address, lat, lng);
-                return new GeocodingResult(true, lat, lng, point, null);
+                // 여러 건이면 첫 결과를 쓰므로 신뢰도를 결과 수만큼 낮춤
+                return GeocodingResult.found(PROVIDER, lat, lng, 1.0 / naverResponse.getMeta().getTotalCount());
             } else {
                 log.warn("Naver Geocoding 결과 없음: {} - Status: {}, Count: {}",
                         address,
                         naverResponse.getStatus(),
                         naverResponse.getMeta() != null ? naverResponse.getMeta().getTotalCount() : 0);
-                return new GeocodingResult(false, 0, 0, null, "No results found: " + naverResponse.getStatus());
+                String message = "No results found: " + naverResponse.getStatus();
+                // 정상 응답의 0건만 결과 없음 (캐시 가능), 그 외 상태는 오류
+                return "OK".equals(naverResponse.getStatus())
+                        ? GeocodingResult.notFound(PROVIDER, message)
+                        : GeocodingResult.error(PROVIDER, message, false);
             }
 
+        } catch (HttpStatusCodeException e) {
+            // 429(요청 한도 초과), 5xx 는 잠시 후 다시 시도
+            boolean retryable = e.getStatusCode().value() == 429 || e.getStatusCode().is5xxServerError();
+            log.warn("Naver Geocoding 실패: {} - HTTP {}", address, e.getStatusCode().value());
+            return GeocodingResult.error(PROVIDER, e.getMessage(), retryable);
+        } catch (ResourceAccessException e) {
+            // 연결 실패, 타임아웃
+            log.warn("Naver Geocoding 연결 실패: {} - {}", address, e.getMessage());
+            return GeocodingResult.error(PROVIDER, e.getMessage(), true);
         } catch (Exception e) {
             log.error("Naver Geocoding 실패: {}", address, e);
-            return new GeocodingResult(false, 0, 0, null, e.getMessage());
+            return GeocodingResult.error(PROVIDER, e.getMessage(), false);
         }
     }
 
-    @Data
-    public static class GeocodingResult {
-        private final boolean success;
-        private final double latitude;
-        private final double longitude;
-        private final Point point;
-        private final String errorMessage;
-    }
-
     @Data
     @com.fasterxml.jackson.annotation.JsonIgnoreProperties(ignoreUnknown = true)
     private static class NaverGeocodingResponse {
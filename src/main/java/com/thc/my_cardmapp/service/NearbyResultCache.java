@@ -0,0 +1,317 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.index.GeoHash;
+import com.thc.my_cardmapp.index.SpatialGridIndex;
+import com.thc.my_cardmapp.repository.MerchantCardRepository;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantCardView;
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
+import com.thc.my_cardmapp.repository.projection.MerchantPointView;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.With;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 반경 검색 결과 캐시 (nearbyMerchants)
+ * - 키: 반경 구간 + 해당 구간 크기의 geohash 셀 (좌표 원본값 대신 양자화된 셀)
+ * - 값: 셀 중심에서 (반경 구간 + 셀 반대각선) 안의 후보 전체와 카드 목록
+ *   → 셀 안 어느 지점에서 구간 이하 반경으로 검색해도 후보가 빠지지 않음
+ * - 적중 시 실제 좌표 기준으로 거리 재계산, 반경/카드 필터, 거리순 재정렬
+ *   → 재계산은 Haversine(구) 거리라 DB 의 ST_Distance(geography, 회전타원체) 와 최대 0.5% 정도 다름
+ *   → 반경 경계의 가맹점은 캐시 적중 여부에 따라 포함/제외와 표시 거리가 조금 다를 수 있음
+ *     (셀마다 DB 를 다시 조회하지 않고 인메모리 격자 인덱스와 같은 거리 함수를 쓰기 위한 의도한 절충)
+ * - 카드 필터는 값에서 거르므로 같은 셀을 카드 조합 간에 공유하고, 무효화 대상 키를 좌표만으로 계산 가능
+ * - 적재 중 무효화가 있었으면 적재 결과를 저장하지 않음 (무효화 이후에 이전 데이터가 저장되지 않도록 세대 번호 비교)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearbyResultCache {
+
+    public static final String CACHE_NAME = "nearbyMerchants";
+
+    // 반경 구간(m)과 구간별 geohash 자릿수 (위도 37도 기준 셀 크기가 구간 이하가 되는 가장 큰 셀)
+    private static final int[] RADIUS_BUCKETS = {100, 300, 500, 1000, 2000, 3000, 5000};
+    private static final int[] BUCKET_PRECISIONS = {7, 7, 7, 6, 6, 6, 5};
+
+    // 한 셀에 보관할 최대 후보 수 (넘으면 표시만 남기고 직접 조회)
+    private static final int MAX_CELL_CANDIDATES = 3000;
+    // 이보다 많은 가맹점이 한 번에 바뀌면 셀 단위 대신 전체 무효화
+    private static final int TARGETED_INVALIDATION_LIMIT = 10;
+
+    private static final double METERS_PER_DEGREE = 111_320d;
+    // DB(회전타원체)와 Haversine(구) 거리 차이를 덮는 무효화 범위 여유
+    private static final double REACH_TOLERANCE = 1.01;
+
+    private final CacheManager cacheManager;
+    private final MerchantRepository merchantRepository;
+    private final MerchantCardRepository merchantCardRepository;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    // 무효화할 때마다 증가 (적재 시작 시점과 다르면 적재 결과를 저장하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 셀 후보 조회 함수 (셀 중심 좌표, 확장 반경으로 카드 필터 없이 가까운 순 limit 개까지 검색)
+     */
+    @FunctionalInterface
+    public interface CellLoader {
+        List<MerchantNearbyView> load(double lat, double lng, double radius, int limit);
+    }
+
+    /**
+     * 캐시 가능한 반경인지 (최대 구간 이하)
+     */
+    public boolean isCacheable(double radius) {
+        return radius > 0 && radius <= RADIUS_BUCKETS[RADIUS_BUCKETS.length - 1];
+    }
+
+    /**
+     * 반경 검색 (캐시 우선)
+     * @param cardNames 카드 필터 (null 또는 빈 목록이면 전체)
+     * @return 결과 목록, 셀 후보가 너무 많아 캐시하지 않는 영역이면 null (호출 측에서 직접 조회)
+     */
+    public List<MerchantNearbyView> find(double lat, double lng, double radius, Collection<String> cardNames,
+                                         CellLoader loader) {
+        int bucket = bucketIndex(radius);
+        int precision = BUCKET_PRECISIONS[bucket];
+        String geohash = GeoHash.encode(lat, lng, precision);
+        String key = cacheKey(bucket, geohash);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        NearbyCell cell = cache != null ? cache.get(key, NearbyCell.class) : null;
+        if (cell == null) {
+            misses.increment();
+            long loadedGeneration = generation.get();
+            cell = loadCell(geohash, precision, RADIUS_BUCKETS[bucket], loader);
+            if (cache != null && generation.get() == loadedGeneration) {
+                cache.put(key, cell);
+                // 확인과 저장 사이에 무효화가 끼어들었으면 방금 저장한 값도 제거
+                if (generation.get() != loadedGeneration) {
+                    cache.evict(key);
+                }
+            }
+        } else if (!cell.isOversized()) {
+            hits.increment();
+        }
+
+        if (cell.isOversized()) {
+            bypasses.increment();
+            return null;
+        }
+        return filter(cell, lat, lng, radius, cardNames);
+    }
+
+    /**
+     * 가맹점 변경 시 이전/현재 위치를 후보 범위에 포함하는 셀만 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMerchantChanged(MerchantChangedEvent event) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null || event.getMerchantIds().isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        if (event.getMerchantIds().size() > TARGETED_INVALIDATION_LIMIT) {
+            cache.clear();
+            invalidations.increment();
+            log.debug("반경 검색 캐시 전체 무효화 - 변경 가맹점 {}건", event.getMerchantIds().size());
+            return;
+        }
+
+        List<double[]> positions = new ArrayList<>();
+        for (MerchantPointView point : merchantRepository.findPointsByIdIn(event.getMerchantIds())) {
+            positions.add(new double[]{point.getLatitude(), point.getLongitude()});
+        }
+        for (Point previous : event.getPreviousLocations()) {
+            positions.add(new double[]{previous.getY(), previous.getX()});
+        }
+
+        Set<String> keys = new HashSet<>();
+        for (double[] position : positions) {
+            for (int bucket = 0; bucket < RADIUS_BUCKETS.length; bucket++) {
+                collectAffectedKeys(position[0], position[1], bucket, keys);
+            }
+        }
+        keys.forEach(cache::evict);
+        invalidations.add(keys.size());
+        log.debug("반경 검색 캐시 셀 무효화 - 가맹점 {}건, 셀 {}개", event.getMerchantIds().size(), keys.size());
+    }
+
+    /**
+     * 조회 단위 통계 (셀 적중률, 캐시 생략 횟수, 무효화한 셀 수)
+     */
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hits", hitCount);
+        result.put("misses", missCount);
+        result.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        result.put("bypasses", bypasses.sum());
+        result.put("invalidatedCells", invalidations.sum());
+        return result;
+    }
+
+    // Helper Methods
+
+    private static int bucketIndex(double radius) {
+        for (int i = 0; i < RADIUS_BUCKETS.length; i++) {
+            if (radius <= RADIUS_BUCKETS[i]) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("캐시할 수 없는 반경입니다: " + radius);
+    }
+
+    private static String cacheKey(int bucket, String geohash) {
+        return RADIUS_BUCKETS[bucket] + ":" + geohash;
+    }
+
+    /**
+     * 셀 중심에서 확장 반경으로 후보 조회 + 카드 목록 부착
+     */
+    private NearbyCell loadCell(String geohash, int precision, int bucketRadius, CellLoader loader) {
+        double[] center = GeoHash.decodeCenter(geohash);
+        double reach = bucketRadius + halfDiagonal(center[0], precision);
+        List<MerchantNearbyView> views = loader.load(center[0], center[1], reach, MAX_CELL_CANDIDATES + 1);
+        if (views.size() > MAX_CELL_CANDIDATES) {
+            return new NearbyCell(new ArrayList<>(), true);
+        }
+
+        Map<Long, List<String>> cardsByMerchant = new HashMap<>();
+        if (!views.isEmpty()) {
+            List<Long> ids = views.stream().map(MerchantNearbyView::getId).toList();
+            for (MerchantCardView membership : merchantCardRepository.findMembershipsByMerchantIdIn(ids)) {
+                cardsByMerchant.computeIfAbsent(membership.getMerchantId(), k -> new ArrayList<>())
+                        .add(membership.getCardName());
+            }
+        }
+
+        List<CachedMerchant> merchants = new ArrayList<>(views.size());
+        for (MerchantNearbyView view : views) {
+            merchants.add(new CachedMerchant(view.getId(), view.getName(), view.getAddress(),
+                    view.getLatitude(), view.getLongitude(), view.getPhone(), view.getBusinessHours(),
+                    view.getCategoryId(), view.getCategoryName(),
+                    cardsByMerchant.getOrDefault(view.getId(), new ArrayList<>()), null));
+        }
+        return new NearbyCell(merchants, false);
+    }
+
+    /**
+     * 실제 좌표 기준 거리 재계산 → 반경/카드 필터 → 거리순 정렬
+     */
+    private static List<MerchantNearbyView> filter(NearbyCell cell, double lat, double lng, double radius,
+                                                   Collection<String> cardNames) {
+        Set<String> cards = cardNames == null || cardNames.isEmpty() ? null : new HashSet<>(cardNames);
+
+        List<MerchantNearbyView> result = new ArrayList<>();
+        for (CachedMerchant merchant : cell.getMerchants()) {
+            if (cards != null && merchant.getCardNames().stream().noneMatch(cards::contains)) {
+                continue;
+            }
+            double distance = SpatialGridIndex.haversine(lat, lng, merchant.getLatitude(), merchant.getLongitude());
+            if (distance <= radius) {
+                result.add(merchant.withDistance(distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(MerchantNearbyView::getDistance)
+                .thenComparing(MerchantNearbyView::getId));
+        return result;
+    }
+
+    /**
+     * 좌표를 확장 반경 안에 두는 해당 구간의 모든 셀 키 수집
+     */
+    private static void collectAffectedKeys(double lat, double lng, int bucket, Set<String> keys) {
+        int precision = BUCKET_PRECISIONS[bucket];
+        double cellHeight = GeoHash.cellHeightDeg(precision);
+        double cellWidth = GeoHash.cellWidthDeg(precision);
+        double maxReach = (RADIUS_BUCKETS[bucket] + halfDiagonal(lat, precision)) * REACH_TOLERANCE * REACH_TOLERANCE;
+
+        double dLat = maxReach / METERS_PER_DEGREE;
+        double dLng = dLat / Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        long minRow = (long) Math.floor((lat - dLat + 90) / cellHeight);
+        long maxRow = (long) Math.floor((lat + dLat + 90) / cellHeight);
+        long minCol = (long) Math.floor((lng - dLng + 180) / cellWidth);
+        long maxCol = (long) Math.floor((lng + dLng + 180) / cellWidth);
+
+        for (long row = minRow; row <= maxRow; row++) {
+            double centerLat = -90 + (row + 0.5) * cellHeight;
+            double reach = (RADIUS_BUCKETS[bucket] + halfDiagonal(centerLat, precision)) * REACH_TOLERANCE;
+            for (long col = minCol; col <= maxCol; col++) {
+                double centerLng = -180 + (col + 0.5) * cellWidth;
+                if (SpatialGridIndex.haversine(centerLat, centerLng, lat, lng) <= reach) {
+                    keys.add(cacheKey(bucket, GeoHash.encode(centerLat, centerLng, precision)));
+                }
+            }
+        }
+    }
+
+    /**
+     * 셀 반대각선 길이 (m)
+     */
+    private static double halfDiagonal(double lat, int precision) {
+        double heightM = GeoHash.cellHeightDeg(precision) * METERS_PER_DEGREE;
+        double widthM = GeoHash.cellWidthDeg(precision) * METERS_PER_DEGREE * Math.cos(Math.toRadians(lat));
+        return Math.sqrt(heightM * heightM + widthM * widthM) / 2;
+    }
+
+    /**
+     * 캐시 값: 셀 후보 목록 (Redis 직렬화를 위해 불변 컬렉션 대신 ArrayList 사용)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NearbyCell {
+        private List<CachedMerchant> merchants;
+        // 후보가 너무 많아 보관하지 않은 셀 표시 (다음 요청부터 바로 DB 조회)
+        private boolean oversized;
+    }
+
+    /**
+     * 캐시된 후보 (조회 시 실제 좌표 기준 거리를 채워 반환)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedMerchant implements MerchantNearbyView {
+        private Long id;
+        private String name;
+        private String address;
+        private Double latitude;
+        private Double longitude;
+        private String phone;
+        private String businessHours;
+        private Long categoryId;
+        private String categoryName;
+        private List<String> cardNames;
+        @With
+        private Double distance;
+    }
+}
@@ -0,0 +1,353 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.index.GeoHash;
+import com.thc.my_cardmapp.index.SpatialGridIndex;
+import com.thc.my_cardmapp.repository.RouteCacheRepository;
+import com.thc.my_cardmapp.repository.projection.RouteCacheView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 경로 캐시 (가맹점 + 출발지 격자 셀 기준)
+ * - 키: 가맹점 ID + 출발지 geohash 셀 → 셀마다 가장 최근 경로 하나
+ * - 조회: 출발지에서 tolerance-m 안의 점이 속할 수 있는 셀(보통 1~4개)만 확인하고,
+ *   그중 저장된 출발지가 tolerance-m 이내인 가장 가까운 경로 재사용
+ * - 메모리 LRU → route_cache 테이블 ((merchant_id, origin_cell) 인덱스) 순으로 조회, 여러 가맹점은 쿼리 한 번
+ * - 저장은 메모리 즉시 + 테이블은 호출 측이 모아서 기록 (remember / persist)
+ * - 만료 경로는 주기적으로 삭제, 가맹점이 바뀌면 해당 가맹점 경로 삭제
+ * - 가맹점 변경 순번으로 계산 도중 가맹점이 바뀐 경로(이전 도착지 기준)는 저장/기록하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteCacheService {
+
+    // 이보다 많은 가맹점이 한 번에 바뀌면 메모리 캐시 전체 무효화
+    private static final int TARGETED_INVALIDATION_LIMIT = 100;
+
+    // 가맹점 변경 순번 구획 수 (가맹점 ID 로 구획을 나눔, 같은 구획의 다른 가맹점 변경도 변경으로 봄)
+    private static final int CHANGE_STRIPES = 1024;
+
+    private final RouteCacheRepository routeCacheRepository;
+
+    // 출발지 셀 geohash 자릿수 (7: 약 150m x 120m)
+    @Value("${route.cache.cell-precision:7}")
+    private int cellPrecision;
+
+    // 저장된 출발지에서 이 거리 안이면 같은 경로 재사용
+    @Value("${route.cache.tolerance-m:100}")
+    private double toleranceM;
+
+    @Value("${route.cache.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${route.cache.max-entries:20000}")
+    private int maxEntries;
+
+    private Map<String, CachedRoute> localCache;
+
+    // 가맹점 변경 순번 (변경마다 증가) + 구획별 마지막 변경 순번
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final AtomicLongArray lastChanged = new AtomicLongArray(CHANGE_STRIPES);
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder dbHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder swept = new LongAdder();
+    private final LongAdder staleSkipped = new LongAdder();
+
+    @PostConstruct
+    void initCache() {
+        // 접근 순서 LinkedHashMap 으로 LRU 구현
+        localCache = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRoute> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 출발지 근처에서 계산한 가맹점까지의 경로 조회
+     */
+    public Optional<CachedRoute> find(long merchantId, double originLat, double originLng) {
+        return Optional.ofNullable(findAll(List.of(merchantId), originLat, originLng).get(merchantId));
+    }
+
+    /**
+     * 여러 가맹점의 경로를 한 번에 조회 (메모리에 없는 가맹점은 쿼리 한 번으로)
+     * @return 가맹점 ID → 경로 (캐시에 없는 가맹점은 제외)
+     */
+    public Map<Long, CachedRoute> findAll(Collection<Long> merchantIds, double originLat, double originLng) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> cells = GeoHash.coveringCells(originLat, originLng, toleranceM, cellPrecision);
+
+        Map<Long, CachedRoute> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        List<CachedRoute> candidates = new ArrayList<>(cells.size());
+        for (Long merchantId : merchantIds) {
+            candidates.clear();
+            for (String cell : cells) {
+                CachedRoute cached = localCache.get(localKey(merchantId, cell));
+                if (cached != null && cached.expiresAt().isAfter(now)) {
+                    candidates.add(cached);
+                }
+            }
+            CachedRoute best = nearest(candidates, originLat, originLng);
+            if (best != null) {
+                localHits.increment();
+                found.put(merchantId, best);
+            } else {
+                missing.add(merchantId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        Map<Long, List<CachedRoute>> loaded = new HashMap<>();
+        for (RouteCacheView view : routeCacheRepository.findValidByMerchantsAndOriginCells(
+                missing.stream().map(String::valueOf).collect(Collectors.joining(",")),
+                String.join(",", cells), now)) {
+            CachedRoute route = toCached(view);
+            localCache.put(localKey(route.merchantId(), route.originCell()), route);
+            loaded.computeIfAbsent(route.merchantId(), id -> new ArrayList<>()).add(route);
+        }
+        for (Long merchantId : missing) {
+            CachedRoute best = nearest(loaded.getOrDefault(merchantId, List.of()), originLat, originLng);
+            if (best != null) {
+                dbHits.increment();
+                found.put(merchantId, best);
+            } else {
+                misses.increment();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 현재 가맹점 변경 순번 (가맹점 좌표를 읽기 전에 받아 두고 remember / RouteWrite 에 넘김)
+     */
+    public long changeStamp() {
+        return changeSequence.get();
+    }
+
+    /**
+     * changeStamp 이후 가맹점이 바뀌었는지
+     */
+    public boolean isChangedSince(long merchantId, long changeStamp) {
+        return lastChanged.get(stripeOf(merchantId)) > changeStamp;
+    }
+
+    /**
+     * 계산한 경로를 메모리 캐시에 저장 (출발지 셀의 기존 경로는 덮어씀)
+     * - 테이블 저장은 persist 로 따로 (RouteService 가 모아서 나중에 기록)
+     * - changeStamp 이후 가맹점이 바뀌었으면 저장하지 않음 (저장 직후 바뀐 경우도 다시 확인해 제거)
+     * @param path 경로 WKT (LINESTRING, 없으면 null)
+     * @param changeStamp 도착지 좌표를 읽기 전의 changeStamp()
+     * @return 저장한 경로 (가맹점이 바뀌어 저장하지 않았으면 null)
+     */
+    public CachedRoute remember(long merchantId, double originLat, double originLng,
+                                Integer distanceM, Integer travelTimeS, String path, long changeStamp) {
+        if (isChangedSince(merchantId, changeStamp)) {
+            staleSkipped.increment();
+            return null;
+        }
+        String cell = cellOf(originLat, originLng);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofHours(ttlHours));
+        CachedRoute route = new CachedRoute(merchantId, cell, originLat, originLng, distanceM, travelTimeS,
+                path, expiresAt);
+        String key = localKey(merchantId, cell);
+        localCache.put(key, route);
+        // 확인과 저장 사이에 변경 처리가 끝났으면 방금 넣은 경로 제거
+        if (isChangedSince(merchantId, changeStamp)) {
+            localCache.remove(key, route);
+            staleSkipped.increment();
+            return null;
+        }
+        return route;
+    }
+
+    /**
+     * 메모리에 저장한 경로들을 route_cache 테이블에 기록 (한 트랜잭션)
+     * - 계산 이후 가맹점이 바뀐 경로는 건너뜀
+     * @return 기록한 경로 수
+     */
+    @Transactional
+    public int persist(List<RouteWrite> writes) {
+        int count = 0;
+        for (RouteWrite write : writes) {
+            if (isStale(write)) {
+                staleSkipped.increment();
+                continue;
+            }
+            CachedRoute route = write.route();
+            routeCacheRepository.upsert(route.merchantId(), route.originCell(), route.originLat(),
+                    route.originLng(), write.destLat(), write.destLng(), route.distanceM(),
+                    route.travelTimeS(), route.path(), route.expiresAt());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 기록한 경로 중 기록 도중 가맹점이 바뀐 가맹점의 경로 삭제
+     * - persist 의 확인 뒤에 변경 처리(삭제)가 먼저 끝나고 이전 도착지 기준 경로가 커밋된 경우
+     */
+    @Transactional
+    public void discardStale(List<RouteWrite> writes) {
+        String merchantIds = writes.stream()
+                .filter(this::isStale)
+                .map(write -> String.valueOf(write.route().merchantId()))
+                .distinct()
+                .collect(Collectors.joining(","));
+        if (!merchantIds.isEmpty()) {
+            routeCacheRepository.deleteByMerchantIds(merchantIds);
+        }
+    }
+
+    /**
+     * 출발지가 속한 캐시 셀 (같은 셀의 요청은 같은 경로를 공유)
+     */
+    public String cellOf(double originLat, double originLng) {
+        return GeoHash.encode(originLat, originLng, cellPrecision);
+    }
+
+    /**
+     * 만료된 경로 정리 (테이블 + 메모리)
+     */
+    @Scheduled(initialDelayString = "${route.cache.sweep-interval-ms:600000}",
+               fixedDelayString = "${route.cache.sweep-interval-ms:600000}")
+    @Transactional
+    public void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = routeCacheRepository.deleteExpiredCaches(now);
+        synchronized (localCache) {
+            localCache.values().removeIf(route -> !route.expiresAt().isAfter(now));
+        }
+        swept.add(deleted);
+        if (deleted > 0) {
+            log.debug("만료 경로 캐시 삭제 - {}건", deleted);
+        }
+    }
+
+    /**
+     * 가맹점 변경(위치 이동, 폐업) 시 해당 가맹점 경로 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMerchantChanged(MerchantChangedEvent event) {
+        if (event.getMerchantIds().isEmpty()) {
+            return;
+        }
+        // 삭제 전에 변경 순번을 올려, 진행 중인 계산이 삭제 뒤에 이전 경로를 다시 넣지 않도록
+        long sequence = changeSequence.incrementAndGet();
+        for (Long merchantId : event.getMerchantIds()) {
+            lastChanged.accumulateAndGet(stripeOf(merchantId), sequence, Math::max);
+        }
+
+        routeCacheRepository.deleteByMerchantIds(event.getMerchantIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+
+        if (event.getMerchantIds().size() > TARGETED_INVALIDATION_LIMIT) {
+            localCache.clear();
+            return;
+        }
+        Set<Long> merchantIds = new HashSet<>(event.getMerchantIds());
+        synchronized (localCache) {
+            localCache.values().removeIf(route -> merchantIds.contains(route.merchantId()));
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        long hitCount = localHits.sum() + dbHits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("localSize", localCache.size());
+        result.put("localHits", localHits.sum());
+        result.put("dbHits", dbHits.sum());
+        result.put("misses", missCount);
+        result.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        result.put("swept", swept.sum());
+        result.put("staleSkipped", staleSkipped.sum());
+        return result;
+    }
+
+    // Helper Methods
+
+    private static String localKey(long merchantId, String cell) {
+        return merchantId + ":" + cell;
+    }
+
+    private static int stripeOf(long merchantId) {
+        return Long.hashCode(merchantId) & (CHANGE_STRIPES - 1);
+    }
+
+    private boolean isStale(RouteWrite write) {
+        return isChangedSince(write.route().merchantId(), write.changeStamp());
+    }
+
+    /**
+     * 출발지가 tolerance-m 이내인 경로 중 가장 가까운 것 (없으면 null)
+     */
+    private CachedRoute nearest(List<CachedRoute> candidates, double originLat, double originLng) {
+        CachedRoute best = null;
+        double bestDistance = toleranceM;
+        for (CachedRoute candidate : candidates) {
+            double distance = SpatialGridIndex.haversine(originLat, originLng,
+                    candidate.originLat(), candidate.originLng());
+            if (distance <= bestDistance) {
+                best = candidate;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    private static CachedRoute toCached(RouteCacheView view) {
+        return new CachedRoute(view.getMerchantId(), view.getOriginCell(), view.getOriginLat(),
+                view.getOriginLng(), view.getDistanceM(), view.getTravelTimeS(), view.getPath(),
+                view.getExpiresAt());
+    }
+
+    /**
+     * 캐시된 경로 (originLat/originLng 는 실제로 경로를 계산한 출발지)
+     */
+    public record CachedRoute(long merchantId, String originCell, double originLat, double originLng,
+                              Integer distanceM, Integer travelTimeS, String path, LocalDateTime expiresAt) {
+    }
+
+    /**
+     * 테이블에 기록할 경로 (도착지는 계산 시점의 가맹점 좌표)
+     * @param changeStamp 도착지 좌표를 읽기 전의 changeStamp() (이후 가맹점이 바뀌면 기록하지 않음)
+     */
+    public record RouteWrite(CachedRoute route, double destLat, double destLng, long changeStamp) {
+    }
+}
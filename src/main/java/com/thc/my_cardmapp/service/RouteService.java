@@ -0,0 +1,409 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
+import com.thc.my_cardmapp.repository.projection.MerchantPointView;
+import com.thc.my_cardmapp.routing.LocalRoutingEngine;
+import com.thc.my_cardmapp.routing.RouteResult;
+import com.thc.my_cardmapp.routing.RoutingEngine;
+import com.thc.my_cardmapp.routing.SingleFlight;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 위치 → 가맹점 도보 경로/소요 시간
+ * - 경로 캐시(RouteCacheService) 우선, 없으면 route.engine 엔진으로 계산
+ * - 같은 가맹점 + 같은 출발지 셀의 동시 요청은 한 번만 계산
+ * - 계산한 경로는 메모리 캐시에 바로 넣고 route_cache 테이블에는 모아서 나중에 기록 (write-behind)
+ * - 가맹점 좌표를 읽기 전의 변경 순번을 함께 넘겨, 계산 도중 가맹점이 바뀌면 이전 도착지 경로는 캐시/기록하지 않음
+ * - 엔진 호출이 실패하면 직선 거리 기반 추정값 반환 (캐시하지 않음)
+ * - 엔진 호출 대기열은 크기 제한 (가득 차면 추정값), 마감 시각이 지난 대기 호출은 엔진을 부르지 않음
+ * - 주변 검색 결과를 시간 제한 안에서 소요 시간 순으로 재정렬 (rankByTravelTime)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteService {
+
+    private final List<RoutingEngine> engines;
+    private final LocalRoutingEngine localRoutingEngine;
+    private final RouteCacheService routeCacheService;
+    private final MerchantService merchantService;
+    private final MerchantRepository merchantRepository;
+
+    // 사용할 엔진 이름 (LOCAL, TMAP), 설정이 없는 엔진이면 LOCAL
+    @Value("${route.engine:LOCAL}")
+    private String engineName;
+
+    // 동시 엔진 호출 수
+    @Value("${route.engine-concurrency:8}")
+    private int engineConcurrency;
+
+    // 엔진 호출 대기 최대 수 (가득 차면 엔진 없이 추정값 반환)
+    @Value("${route.engine-queue-size:32}")
+    private int engineQueueSize;
+
+    // 테이블 기록 대기 최대 경로 수 (넘치면 버림, 메모리 캐시에는 남음)
+    @Value("${route.write-behind.queue-size:10000}")
+    private int writeQueueSize;
+
+    @Value("${route.write-behind.batch-size:200}")
+    private int writeBatchSize;
+
+    // 소요 시간 순 정렬: 거리순 앞쪽 이 수만큼만 경로를 구해 재정렬 (나머지는 뒤에 거리순)
+    @Value("${route.eta-ranking.candidates:30}")
+    private int rankingCandidates;
+
+    // 소요 시간 순 정렬: 경로 계산을 기다리는 최대 시간 (넘기면 거리순 유지)
+    @Value("${route.eta-ranking.budget-ms:300}")
+    private long rankingBudgetMs;
+
+    private RoutingEngine engine;
+    private ExecutorService engineExecutor;
+    private BlockingQueue<RouteCacheService.RouteWrite> pendingWrites;
+    private final SingleFlight<String, RouteInfo> inFlight = new SingleFlight<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder engineCalls = new LongAdder();
+    private final LongAdder engineFailures = new LongAdder();
+    private final LongAdder engineRejected = new LongAdder();
+    private final LongAdder engineSkipped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writesDropped = new LongAdder();
+    private final LongAdder rankings = new LongAdder();
+    private final LongAdder rankingFallbacks = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        engine = engines.stream()
+                .filter(candidate -> candidate.getName().equalsIgnoreCase(engineName.trim()) && candidate.isEnabled())
+                .findFirst()
+                .orElse(null);
+        if (engine == null) {
+            log.warn("경로 엔진 {} 을(를) 사용할 수 없어 {} 추정으로 대체합니다 (API 키 확인)",
+                    engineName, LocalRoutingEngine.NAME);
+            engine = localRoutingEngine;
+        } else {
+            log.info("경로 엔진: {}", engine.getName());
+        }
+        engineExecutor = new ThreadPoolExecutor(engineConcurrency, engineConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(engineQueueSize), namedThreads("route-engine"),
+                new ThreadPoolExecutor.AbortPolicy());
+        pendingWrites = new ArrayBlockingQueue<>(writeQueueSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        engineExecutor.shutdownNow();
+        flushWrites();
+    }
+
+    /**
+     * 가맹점까지의 도보 경로
+     * @throws IllegalArgumentException 가맹점이 없거나 좌표가 없을 때
+     */
+    public RouteInfo route(long merchantId, double originLat, double originLng) {
+        long changeStamp = routeCacheService.changeStamp();
+        List<MerchantPointView> points = merchantRepository.findPointsByIdIn(List.of(merchantId));
+        if (points.isEmpty() || points.get(0).getLatitude() == null || points.get(0).getLongitude() == null) {
+            throw new IllegalArgumentException("좌표가 있는 가맹점을 찾을 수 없습니다: " + merchantId);
+        }
+        MerchantPointView dest = points.get(0);
+
+        requests.increment();
+        RouteCacheService.CachedRoute cached = routeCacheService.find(merchantId, originLat, originLng).orElse(null);
+        if (cached != null) {
+            cacheHits.increment();
+            return RouteInfo.fromCache(cached);
+        }
+        return join(computeAsync(merchantId, originLat, originLng, dest.getLatitude(), dest.getLongitude(),
+                changeStamp, null));
+    }
+
+    /**
+     * 가까운 순 N개 가맹점과 각 가맹점까지의 도보 경로 (순서는 직선 거리 순)
+     * - 캐시는 한 번에 조회하고, 없는 가맹점만 엔진으로 동시에 계산
+     */
+    public List<MerchantRoute> findNearestWithRoutes(double lat, double lng, int limit, List<String> cardNames) {
+        long changeStamp = routeCacheService.changeStamp();
+        List<MerchantNearbyView> merchants = merchantService.findNearestMerchants(lat, lng, limit, cardNames);
+        List<CompletableFuture<RouteInfo>> futures = routesAsync(lat, lng, merchants, changeStamp, null);
+        List<MerchantRoute> result = new ArrayList<>(merchants.size());
+        for (int i = 0; i < merchants.size(); i++) {
+            result.add(new MerchantRoute(merchants.get(i), join(futures.get(i))));
+        }
+        return result;
+    }
+
+    /**
+     * 거리순 가맹점 목록을 도보 소요 시간 순으로 재정렬 (강, 도로 등으로 직선 거리와 실제 거리가 다른 경우)
+     * - 앞쪽 eta-ranking.candidates 개만 경로를 구함 (캐시는 한 번에 조회, 없는 경로는 동시에 계산)
+     * - budget-ms 안에 모든 경로가 나오지 않으면 거리순 유지 (그때까지 나온 경로만 포함, 늦은 계산은 캐시에 저장됨)
+     * - 마감 시각까지 시작하지 못한 계산은 엔진을 부르지 않고 버림, 대기열이 가득 차 추정값이 섞여도 거리순 유지
+     * @param merchants 거리순 가맹점 목록
+     * @param changeStamp 가맹점 목록을 조회하기 전에 받은 changeStamp()
+     * @return 가맹점 + 경로 (경로가 없으면 route 는 null)
+     */
+    public List<MerchantRoute> rankByTravelTime(double lat, double lng, List<MerchantNearbyView> merchants,
+                                                long changeStamp) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(rankingBudgetMs);
+        rankings.increment();
+        List<MerchantNearbyView> candidates = merchants.subList(0, Math.min(rankingCandidates, merchants.size()));
+
+        List<CompletableFuture<RouteInfo>> futures = routesAsync(lat, lng, candidates, changeStamp, deadline);
+
+        boolean complete = awaitAll(futures, deadline);
+        List<MerchantRoute> ranked = new ArrayList<>(merchants.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            CompletableFuture<RouteInfo> future = futures.get(i);
+            RouteInfo route = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+            complete &= route != null && route.travelTimeS() != null && !route.estimated();
+            ranked.add(new MerchantRoute(candidates.get(i), route));
+        }
+
+        if (complete) {
+            // 소요 시간이 같으면 거리순 유지 (안정 정렬)
+            ranked.sort(Comparator.comparingInt(merchantRoute -> merchantRoute.route().travelTimeS()));
+        } else {
+            rankingFallbacks.increment();
+            log.debug("소요 시간 순 정렬 시간 초과 - {}ms 안에 경로를 모두 구하지 못해 거리순 유지", rankingBudgetMs);
+        }
+        for (MerchantNearbyView merchant : merchants.subList(candidates.size(), merchants.size())) {
+            ranked.add(new MerchantRoute(merchant, null));
+        }
+        return ranked;
+    }
+
+    /**
+     * 현재 가맹점 변경 순번 (rankByTravelTime 에 넘길 가맹점 목록을 조회하기 전에 받음)
+     * - 조회와 경로 계산 사이에 가맹점이 바뀌면 이전 도착지 경로는 캐시/기록하지 않음
+     */
+    public long changeStamp() {
+        return routeCacheService.changeStamp();
+    }
+
+    /**
+     * 대기 중인 경로를 route_cache 테이블에 기록 (batch-size 씩 트랜잭션)
+     */
+    @Scheduled(fixedDelayString = "${route.write-behind.flush-interval-ms:1000}")
+    public void flushWrites() {
+        List<RouteCacheService.RouteWrite> batch = new ArrayList<>(writeBatchSize);
+        while (pendingWrites.drainTo(batch, writeBatchSize) > 0) {
+            try {
+                written.add(routeCacheService.persist(batch));
+                routeCacheService.discardStale(batch);
+            } catch (RuntimeException e) {
+                // 기록 실패해도 메모리 캐시에는 남아 있으므로 다시 시도하지 않음
+                writesDropped.add(batch.size());
+                log.warn("경로 캐시 기록 실패 - {}건: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 가맹점 변경 시 아직 기록하지 않은 해당 가맹점 경로 제거 (이전 위치 기준 경로가 테이블에 남지 않도록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMerchantChanged(MerchantChangedEvent event) {
+        if (event.getMerchantIds().isEmpty() || pendingWrites.isEmpty()) {
+            return;
+        }
+        Set<Long> merchantIds = new HashSet<>(event.getMerchantIds());
+        pendingWrites.removeIf(write -> merchantIds.contains(write.route().merchantId()));
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("engine", engine.getName());
+        result.put("requests", requests.sum());
+        result.put("cacheHits", cacheHits.sum());
+        result.put("engineCalls", engineCalls.sum());
+        result.put("engineFailures", engineFailures.sum());
+        result.put("engineRejected", engineRejected.sum());
+        result.put("engineSkipped", engineSkipped.sum());
+        result.put("coalesced", inFlight.getShared());
+        result.put("inFlight", inFlight.size());
+        result.put("pendingWrites", pendingWrites.size());
+        result.put("written", written.sum());
+        result.put("writesDropped", writesDropped.sum());
+        result.put("etaRankings", rankings.sum());
+        result.put("etaRankingFallbacks", rankingFallbacks.sum());
+        result.put("cache", routeCacheService.getStatistics());
+        return result;
+    }
+
+    // Helper Methods
+
+    /**
+     * 가맹점별 경로 (캐시는 한 번에 조회, 없는 가맹점만 엔진으로 동시에 계산)
+     * @param changeStamp 가맹점 목록을 읽기 전의 가맹점 변경 순번
+     * @param deadlineNanos 이 시각(System.nanoTime)까지 시작하지 못한 계산은 버림 (null 이면 제한 없음)
+     */
+    private List<CompletableFuture<RouteInfo>> routesAsync(double lat, double lng, List<MerchantNearbyView> merchants,
+                                                           long changeStamp, Long deadlineNanos) {
+        if (merchants.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, RouteCacheService.CachedRoute> cached = routeCacheService.findAll(
+                merchants.stream().map(MerchantNearbyView::getId).toList(), lat, lng);
+        requests.add(merchants.size());
+        cacheHits.add(cached.size());
+
+        List<CompletableFuture<RouteInfo>> futures = new ArrayList<>(merchants.size());
+        for (MerchantNearbyView merchant : merchants) {
+            RouteCacheService.CachedRoute route = cached.get(merchant.getId());
+            futures.add(route != null
+                    ? CompletableFuture.completedFuture(RouteInfo.fromCache(route))
+                    : computeAsync(merchant.getId(), lat, lng, merchant.getLatitude(), merchant.getLongitude(),
+                            changeStamp, deadlineNanos));
+        }
+        return futures;
+    }
+
+    /**
+     * 엔진으로 경로 계산 (같은 가맹점 + 출발지 셀의 진행 중인 계산이 있으면 그 결과 공유)
+     * - 대기열이 가득 차면 추정값, 마감 시각이 지나서야 차례가 오면 엔진을 부르지 않고 추정값
+     *   (같은 계산을 함께 기다리던 요청도 추정값을 받음)
+     */
+    private CompletableFuture<RouteInfo> computeAsync(long merchantId, double originLat, double originLng,
+                                                      double destLat, double destLng, long changeStamp,
+                                                      Long deadlineNanos) {
+        String key = merchantId + ":" + routeCacheService.cellOf(originLat, originLng);
+        return inFlight.execute(key, () -> {
+                    if (deadlineNanos != null && System.nanoTime() - deadlineNanos > 0) {
+                        engineSkipped.increment();
+                        return estimate(merchantId, originLat, originLng, destLat, destLng);
+                    }
+                    return compute(merchantId, originLat, originLng, destLat, destLng, changeStamp);
+                }, engineExecutor)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (!(cause instanceof RejectedExecutionException)) {
+                        throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+                    }
+                    engineRejected.increment();
+                    return estimate(merchantId, originLat, originLng, destLat, destLng);
+                });
+    }
+
+    /**
+     * 엔진 호출 (계산 도중 가맹점이 바뀌었으면 결과는 반환만 하고 캐시/기록하지 않음)
+     */
+    private RouteInfo compute(long merchantId, double originLat, double originLng, double destLat, double destLng,
+                              long changeStamp) {
+        engineCalls.increment();
+        RouteResult result;
+        try {
+            result = engine.route(originLat, originLng, destLat, destLng);
+        } catch (RuntimeException e) {
+            log.warn("경로 엔진 오류: {} - {}", engine.getName(), e.getMessage());
+            result = null;
+        }
+
+        if (result == null) {
+            engineFailures.increment();
+            return estimate(merchantId, originLat, originLng, destLat, destLng);
+        }
+
+        RouteCacheService.CachedRoute route = routeCacheService.remember(merchantId, originLat, originLng,
+                result.distanceM(), result.travelTimeS(), result.path(), changeStamp);
+        if (route != null
+                && !pendingWrites.offer(new RouteCacheService.RouteWrite(route, destLat, destLng, changeStamp))) {
+            writesDropped.increment();
+        }
+        return new RouteInfo(merchantId, result.distanceM(), result.travelTimeS(), result.path(), false, false);
+    }
+
+    /**
+     * 직선 거리 기반 추정 경로 (캐시하지 않음)
+     */
+    private RouteInfo estimate(long merchantId, double originLat, double originLng, double destLat, double destLng) {
+        RouteResult estimate = localRoutingEngine.route(originLat, originLng, destLat, destLng);
+        return new RouteInfo(merchantId, estimate.distanceM(), estimate.travelTimeS(), estimate.path(),
+                false, true);
+    }
+
+    /**
+     * 마감 시각까지 모두 끝나기를 기다림 (시간 안에 끝나면 true)
+     */
+    private static boolean awaitAll(List<CompletableFuture<RouteInfo>> futures, long deadlineNanos) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static RouteInfo join(CompletableFuture<RouteInfo> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 도보 경로
+     * @param cached 경로 캐시에서 가져왔는지
+     * @param estimated 엔진 실패로 직선 거리 기반 추정값인지
+     */
+    public record RouteInfo(long merchantId, Integer distanceM, Integer travelTimeS, String path,
+                            boolean cached, boolean estimated) {
+
+        static RouteInfo fromCache(RouteCacheService.CachedRoute route) {
+            return new RouteInfo(route.merchantId(), route.distanceM(), route.travelTimeS(), route.path(),
+                    true, false);
+        }
+    }
+
+    /**
+     * 가맹점 + 도보 경로
+     */
+    public record MerchantRoute(MerchantNearbyView merchant, RouteInfo route) {
+    }
+}
@@ -0,0 +1,213 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.domain.Card;
+import com.thc.my_cardmapp.domain.Category;
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.index.NgramSearchIndex;
+import com.thc.my_cardmapp.index.SuggestIndex;
+import com.thc.my_cardmapp.repository.CardRepository;
+import com.thc.my_cardmapp.repository.CategoryRepository;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import com.thc.my_cardmapp.repository.SearchHistoryRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantTextView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가맹점/카드/카테고리 이름 자동완성
+ * - 기동 시 이름을 자모 접두 인덱스에 적재하고 인기 검색어 횟수로 가중치 부여
+ * - 가맹점 변경 이벤트로 증분 갱신, 인기도는 주기적으로 전체 재적재하여 반영
+ * - 재적재 중 들어온 변경은 기록해 두었다가 교체 직전에 새 인덱스에 다시 반영 (이전 스냅샷이 최신 변경을 덮어쓰지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    private static final int MAX_SUGGEST_LIMIT = 20;
+    private static final int POPULAR_QUERY_LIMIT = 1000;
+    // 변경 가맹점 조회 시 IN 절에 넣을 최대 id 수
+    private static final int TEXT_BATCH_SIZE = 1000;
+
+    private final MerchantRepository merchantRepository;
+    private final CardRepository cardRepository;
+    private final CategoryRepository categoryRepository;
+    private final SearchHistoryRepository searchHistoryRepository;
+
+    @Value("${merchant.suggest.enabled:true}")
+    private boolean enabled;
+
+    // 스냅샷 재정렬 전까지 쌓아둘 변경 건수
+    @Value("${merchant.suggest.compact-threshold:5000}")
+    private int compactThreshold;
+
+    // 적재 완료 전에는 null (빈 결과 반환)
+    private volatile SuggestIndex index;
+    private volatile Map<String, Long> popularity = Map.of();
+
+    // 재적재 진행 중 변경된 가맹점 ID (재적재 중이 아니면 null, swapLock 으로 보호)
+    private final Object swapLock = new Object();
+    private Set<Long> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 인기도 반영을 위한 주기적 재적재
+     */
+    @Scheduled(fixedDelayString = "${merchant.suggest.refresh-interval-ms:3600000}",
+            initialDelayString = "${merchant.suggest.refresh-interval-ms:3600000}")
+    public void refresh() {
+        if (enabled && index != null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 재적재 (새 인덱스를 만든 뒤, 그 사이 변경분을 다시 반영하고 교체)
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (swapLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        Map<String, Long> counts = loadPopularity();
+        List<SuggestIndex.Suggestion> suggestions = new ArrayList<>();
+        for (Card card : cardRepository.findAll()) {
+            suggestions.add(toSuggestion(SuggestIndex.Type.CARD, card.getId(), card.getName(), counts));
+        }
+        for (Category category : categoryRepository.findAll()) {
+            suggestions.add(toSuggestion(SuggestIndex.Type.CATEGORY, category.getId(), category.getName(), counts));
+        }
+        for (MerchantTextView text : merchantRepository.findAllTexts()) {
+            suggestions.add(toSuggestion(SuggestIndex.Type.MERCHANT, text.getId(), text.getName(), counts));
+        }
+
+        SuggestIndex rebuilt = new SuggestIndex(compactThreshold);
+        rebuilt.replaceAll(suggestions);
+
+        // 적재 중 커밋된 변경을 새 인덱스에 반영 (반영하는 동안 또 들어온 변경이 없을 때 교체)
+        int replayed = 0;
+        while (true) {
+            List<Long> changed;
+            synchronized (swapLock) {
+                if (changedDuringRebuild.isEmpty()) {
+                    this.popularity = counts;
+                    this.index = rebuilt;
+                    changedDuringRebuild = null;
+                    break;
+                }
+                changed = new ArrayList<>(changedDuringRebuild);
+                changedDuringRebuild = new HashSet<>();
+            }
+            applyChanges(rebuilt, changed, counts);
+            replayed += changed.size();
+        }
+
+        log.info("자동완성 인덱스 적재 완료 - {}건 (인기 검색어 {}개, 적재 중 변경 {}건), {}ms",
+                suggestions.size(), counts.size(), replayed, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 접두 자동완성 (자모 단위 일치, 인기도순)
+     */
+    public List<SuggestIndex.Suggestion> suggest(String query, int limit) {
+        SuggestIndex current = index;
+        if (current == null || query == null) {
+            return List.of();
+        }
+        return current.suggest(query, Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT)));
+    }
+
+    /**
+     * 가맹점 변경 반영 (건수와 무관하게 변경분만 조회해 증분 갱신)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMerchantChanged(MerchantChangedEvent event) {
+        if (event.getMerchantIds().isEmpty()) {
+            return;
+        }
+        // 재적재 중이면 교체 전에 새 인덱스에도 반영되도록 기록 (기록 후 읽은 index 는 교체 이후의 것)
+        synchronized (swapLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(event.getMerchantIds());
+            }
+        }
+        SuggestIndex current = index;
+        if (current == null) {
+            return;
+        }
+
+        applyChanges(current, event.getMerchantIds(), popularity);
+        log.debug("자동완성 인덱스 갱신 - {}건", event.getMerchantIds().size());
+    }
+
+    // Helper Methods
+
+    /**
+     * 변경된 가맹점의 현재 이름으로 교체 (조회되지 않으면 폐업/삭제로 보고 제거)
+     */
+    private void applyChanges(SuggestIndex target, List<Long> merchantIds, Map<String, Long> counts) {
+        for (int from = 0; from < merchantIds.size(); from += TEXT_BATCH_SIZE) {
+            List<Long> batch = merchantIds.subList(from, Math.min(merchantIds.size(), from + TEXT_BATCH_SIZE));
+            Set<Long> missing = new HashSet<>(batch);
+            for (MerchantTextView text : merchantRepository.findTextsByIdIn(batch)) {
+                target.upsert(toSuggestion(SuggestIndex.Type.MERCHANT, text.getId(), text.getName(), counts));
+                missing.remove(text.getId());
+            }
+            missing.forEach(id -> target.remove(SuggestIndex.Type.MERCHANT, id));
+        }
+    }
+
+    /**
+     * 인기 검색어 → 검색 횟수 (정규화된 검색어 기준으로 합산)
+     */
+    private Map<String, Long> loadPopularity() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : searchHistoryRepository.findPopularSearchQueries(PageRequest.of(0, POPULAR_QUERY_LIMIT))) {
+            String query = NgramSearchIndex.normalize((String) row[0]);
+            if (!query.isEmpty()) {
+                counts.merge(query, ((Number) row[1]).longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 인기도 = 이름의 접두 중 가장 많이 검색된 검색어의 횟수 ("스타벅스" 검색이 "스타벅스 역삼점"에도 반영)
+     */
+    private static SuggestIndex.Suggestion toSuggestion(SuggestIndex.Type type, long id, String name,
+                                                        Map<String, Long> counts) {
+        long score = 0;
+        if (!counts.isEmpty()) {
+            String normalized = NgramSearchIndex.normalize(name);
+            for (int end = 1; end <= normalized.length(); end++) {
+                Long count = counts.get(normalized.substring(0, end));
+                if (count != null && count > score) {
+                    score = count;
+                }
+            }
+        }
+        return new SuggestIndex.Suggestion(type, id, name, score);
+    }
+}
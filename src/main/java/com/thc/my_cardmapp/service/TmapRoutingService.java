@@ -0,0 +1,119 @@
+package com.thc.my_cardmapp.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thc.my_cardmapp.routing.RouteResult;
+import com.thc.my_cardmapp.routing.RoutingEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * T map 보행자 경로 (캐시와 중복 요청 합치기는 RouteService 에서)
+ * - 응답: GeoJSON FeatureCollection, 첫 Feature 의 totalDistance/totalTime 과 LineString 구간들을 이어 붙인 경로선
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TmapRoutingService implements RoutingEngine {
+
+    @Value("${tmap.api.key}")
+    private String appKey;
+
+    // 연결/읽기 타임아웃이 설정된 경로 API 전용 RestTemplate
+    private final RestTemplate routingRestTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String PEDESTRIAN_URL = "https://apis.openapi.sk.com/tmap/routes/pedestrian?version=1";
+    private static final String ENGINE = "TMAP";
+
+    @Override
+    public String getName() {
+        return ENGINE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return StringUtils.hasText(appKey) && !appKey.startsWith("your-");
+    }
+
+    /**
+     * 출발지 → 도착지 도보 경로 (HTTP 오류/타임아웃은 예외 그대로 전달)
+     */
+    @Override
+    public RouteResult route(double originLat, double originLng, double destLat, double destLng) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("appKey", appKey);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // 좌표는 WGS84 경도(X)/위도(Y), 출발지/도착지 이름은 필수 항목
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("startX", originLng);
+        body.put("startY", originLat);
+        body.put("endX", destLng);
+        body.put("endY", destLat);
+        body.put("startName", "출발지");
+        body.put("endName", "도착지");
+        body.put("reqCoordType", "WGS84GEO");
+        body.put("resCoordType", "WGS84GEO");
+
+        String response = routingRestTemplate.postForObject(PEDESTRIAN_URL, new HttpEntity<>(body, headers), String.class);
+        try {
+            return parse(response);
+        } catch (IOException e) {
+            throw new IllegalStateException("T map 경로 응답 해석 실패", e);
+        }
+    }
+
+    // Helper Methods
+
+    /**
+     * 경로가 없으면 null
+     */
+    private RouteResult parse(String response) throws IOException {
+        if (response == null) {
+            return null;
+        }
+        JsonNode features = objectMapper.readTree(response).path("features");
+        if (!features.isArray() || features.isEmpty()) {
+            log.warn("T map 경로 결과 없음");
+            return null;
+        }
+
+        JsonNode summary = features.get(0).path("properties");
+        if (!summary.has("totalDistance") || !summary.has("totalTime")) {
+            log.warn("T map 경로 응답에 총 거리/시간이 없습니다");
+            return null;
+        }
+
+        // 구간 LineString 은 앞 구간의 끝점에서 시작하므로 연속된 같은 점은 한 번만
+        List<double[]> points = new ArrayList<>();
+        for (JsonNode feature : features) {
+            JsonNode geometry = feature.path("geometry");
+            if (!"LineString".equals(geometry.path("type").asText())) {
+                continue;
+            }
+            for (JsonNode coordinate : geometry.path("coordinates")) {
+                double[] point = {coordinate.get(0).asDouble(), coordinate.get(1).asDouble()};
+                double[] last = points.isEmpty() ? null : points.get(points.size() - 1);
+                if (last == null || last[0] != point[0] || last[1] != point[1]) {
+                    points.add(point);
+                }
+            }
+        }
+
+        return new RouteResult(ENGINE, summary.get("totalDistance").asInt(), summary.get("totalTime").asInt(),
+                RouteResult.lineString(points));
+    }
+}
@@ -0,0 +1,89 @@
+package com.thc.my_cardmapp.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 요청 수 제한용 토큰 버킷 (여러 스레드 공유)
+ * - 토큰이 없으면 다음 토큰 시각을 예약하고 잠금 밖에서 대기하므로 요청 간격이 고르게 유지됨
+ * - 429/5xx 응답 시 backOff() 로 속도를 절반으로, 성공할 때마다 recover() 로 조금씩 복구 (AIMD)
+ */
+final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double maxRate;
+    private final double minRate;
+    private final LongSupplier clock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double ratePerSecond, double minRatePerSecond) {
+        this(ratePerSecond, minRatePerSecond, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, double minRatePerSecond, LongSupplier clock) {
+        if (ratePerSecond <= 0 || minRatePerSecond <= 0 || minRatePerSecond > ratePerSecond) {
+            throw new IllegalArgumentException("잘못된 요청 속도: " + ratePerSecond + " (최소 " + minRatePerSecond + ")");
+        }
+        this.maxRate = ratePerSecond;
+        this.minRate = minRatePerSecond;
+        this.clock = clock;
+        this.rate = ratePerSecond;
+        this.tokens = 1;
+        this.lastRefill = clock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 대기
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰 하나를 예약하고 사용 가능해질 때까지 남은 시간 반환
+     */
+    synchronized long reserve() {
+        refill();
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+    }
+
+    /**
+     * 제한 초과 응답 시 속도 절반 (쌓인 여유 토큰도 버림)
+     */
+    synchronized void backOff() {
+        refill();
+        rate = Math.max(minRate, rate / 2);
+        tokens = Math.min(tokens, 0);
+    }
+
+    /**
+     * 성공 응답 시 속도 복구 (초당 약 1씩 증가)
+     */
+    synchronized void recover() {
+        if (rate < maxRate) {
+            refill();
+            rate = Math.min(maxRate, rate + 1 / rate);
+        }
+    }
+
+    synchronized double getRate() {
+        return rate;
+    }
+
+    // Helper Methods
+
+    private void refill() {
+        long now = clock.getAsLong();
+        // 버스트는 1초 분량까지
+        tokens = Math.min(Math.max(1, rate), tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+        lastRefill = now;
+    }
+}
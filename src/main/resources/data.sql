@@ -24,3 +24,69 @@ INSERT INTO category (name) VALUES
 ('마트'),
 ('일반상점')
 ON CONFLICT (name) DO NOTHING;
+
+-- ============================================
+-- 3. 공간 인덱스 (ST_DWithin 반경 검색 및 <-> KNN 정렬용)
+-- ============================================
+CREATE INDEX IF NOT EXISTS idx_merchant_location ON merchant USING GIST (location);
+-- 벡터 타일 영역 비교용 (location::geometry && 타일 영역)
+CREATE INDEX IF NOT EXISTS idx_merchant_location_geom ON merchant USING GIST ((location::geometry));
+
+-- ============================================
+-- 4. 텍스트 검색 인덱스 (pg_trgm - LOWER(...) LIKE '%키워드%' 부분 일치 검색용)
+--    키워드 검색은 인메모리 검색과 같이 공백을 제거한 소문자 이름/주소로 비교
+-- ============================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_merchant_name_trgm ON merchant USING GIN (LOWER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_merchant_name_compact_trgm ON merchant USING GIN (regexp_replace(LOWER(name), '\s+', '', 'g') gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_merchant_address_compact_trgm ON merchant USING GIN (regexp_replace(LOWER(address), '\s+', '', 'g') gin_trgm_ops);
+
+-- ============================================
+-- 5. CSV 임포트 upsert (정규화한 이름 + 주소 해시 고유 키, 작업별로 본 키 - 폐업 판정용)
+-- ============================================
+-- 이전 임포터로 적재한 가맹점(지역사랑상품권 연결, 키 없음)에 CsvImportService.naturalKey 와 같은 키를 채움
+-- (앞뒤 공백 제거, 연속 공백은 하나로, 소문자 이름 + 줄바꿈 + 주소의 SHA-256)
+-- 같은 키가 이미 있으면 채우지 않고, 키 없는 가맹점끼리 겹치면 id 가 가장 작은 가맹점만 채움
+UPDATE merchant m SET natural_key = k.natural_key
+FROM (
+    SELECT l.id, l.natural_key, ROW_NUMBER() OVER (PARTITION BY l.natural_key ORDER BY l.id) AS rn
+    FROM (
+        SELECT m2.id, encode(sha256(convert_to(
+                   LOWER(regexp_replace(btrim(m2.name, E' \t\n\r\f\v'), '\s+', ' ', 'g')) || E'\n' ||
+                   LOWER(regexp_replace(btrim(COALESCE(m2.address, ''), E' \t\n\r\f\v'), '\s+', ' ', 'g')),
+                   'UTF8')), 'hex') AS natural_key
+        FROM merchant m2
+        WHERE m2.natural_key IS NULL AND m2.closed_at IS NULL
+          AND EXISTS (SELECT 1 FROM merchant_card mc JOIN card c ON c.id = mc.card_id
+                      WHERE mc.merchant_id = m2.id AND c.name = '지역사랑상품권')
+    ) l
+    WHERE NOT EXISTS (SELECT 1 FROM merchant dup WHERE dup.natural_key = l.natural_key)
+) k
+WHERE m.id = k.id AND k.rn = 1;
+-- 위에서 키를 채우지 못한 이전 임포트 가맹점은 같은 키 가맹점의 중복이므로 폐업 처리
+UPDATE merchant m SET closed_at = NOW()
+WHERE m.natural_key IS NULL AND m.closed_at IS NULL
+  AND EXISTS (SELECT 1 FROM merchant_card mc JOIN card c ON c.id = mc.card_id
+              WHERE mc.merchant_id = m.id AND c.name = '지역사랑상품권');
+CREATE UNIQUE INDEX IF NOT EXISTS idx_merchant_natural_key ON merchant (natural_key);
+CREATE TABLE IF NOT EXISTS import_seen_key (
+    job_id BIGINT NOT NULL,
+    natural_key VARCHAR(64) NOT NULL,
+    PRIMARY KEY (job_id, natural_key)
+);
+
+-- ============================================
+-- 6. 지오코딩 결과 캐시 (정제한 주소 고유 키)
+-- ============================================
+CREATE UNIQUE INDEX IF NOT EXISTS idx_geocode_cache_address_key ON geocode_cache (address_key);
+
+-- ============================================
+-- 7. 경로 캐시 (가맹점 + 출발지 격자 셀 고유 키, 만료 정리용 인덱스)
+-- ============================================
+CREATE UNIQUE INDEX IF NOT EXISTS idx_route_cache_merchant_cell ON route_cache (merchant_id, origin_cell);
+CREATE INDEX IF NOT EXISTS idx_route_cache_expires_at ON route_cache (expires_at);
+
+-- ============================================
+-- 8. 가맹점 임베딩 (벡터는 BYTEA vector 컬럼, 쓰지 않던 TEXT 컬럼 삭제)
+-- ============================================
+ALTER TABLE merchant_embedding DROP COLUMN IF EXISTS embedding;
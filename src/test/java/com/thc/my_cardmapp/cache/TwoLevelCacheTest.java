@@ -0,0 +1,182 @@
+package com.thc.my_cardmapp.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "merchants";
+    private static final CacheSpec SPEC = new CacheSpec(Duration.ofMinutes(10), 100);
+
+    // 노드들이 함께 쓰는 Redis (키 → 값) 와 발행된 무효화 메시지
+    private final Map<String, Object> redisStore = new HashMap<>();
+    private final List<byte[]> published = new ArrayList<>();
+    private boolean redisDown;
+
+    @Test
+    void remoteHitIsCopiedToLocal() {
+        TwoLevelCacheManager node = node();
+        TwoLevelCache cache = cache(node);
+        redisStore.put(CACHE_NAME + "::1", "가맹점");
+
+        assertEquals("가맹점", cache.get("1").get());
+        assertEquals("가맹점", cache.get("1").get());
+
+        // 두 번째 조회는 L1 에서 (Redis 는 한 번만 조회)
+        assertEquals(1L, cache.getStatistics().get("remoteHits"));
+        assertEquals("가맹점", local(cache).get(CACHE_NAME + "::1"));
+    }
+
+    @Test
+    void loaderRunsOnceAndFillsBothLevels() {
+        TwoLevelCache cache = cache(node());
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            return "값";
+        };
+
+        assertEquals("값", cache.get("1", loader));
+        assertEquals("값", cache.get("1", loader));
+
+        assertEquals(1, loads.get());
+        assertEquals("값", redisStore.get(CACHE_NAME + "::1"));
+    }
+
+    @Test
+    void nullResultIsKeptOnlyLocally() {
+        TwoLevelCache cache = cache(node());
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            return null;
+        };
+
+        assertNull(cache.get("1", loader));
+        assertNull(cache.get("1", loader));
+
+        assertEquals(1, loads.get());
+        assertTrue(redisStore.isEmpty());
+    }
+
+    @Test
+    void redisFailureFallsBackToLocalOnly() {
+        TwoLevelCache cache = cache(node());
+        redisDown = true;
+
+        assertEquals("값", cache.get("1", () -> "값"));
+        cache.put("2", "다른 값");
+
+        assertEquals("다른 값", cache.get("2").get());
+        assertEquals(0L, cache.getStatistics().get("remoteHits"));
+        assertTrue(redisStore.isEmpty());
+    }
+
+    @Test
+    void invalidationSkipsOwnMessageAndEvictsOtherNodes() {
+        TwoLevelCacheManager nodeA = node();
+        TwoLevelCacheManager nodeB = node();
+        cache(nodeB).get("1", () -> "이전 값");
+
+        cache(nodeA).put("1", "새 값");
+        assertEquals(1, published.size());
+        deliver(nodeA, published.get(0));
+        deliver(nodeB, published.get(0));
+
+        // 보낸 노드의 L1 은 그대로, 다른 노드는 L1 만 지우고 다음 조회 때 Redis 의 새 값을 읽음
+        assertEquals("새 값", local(cache(nodeA)).get(CACHE_NAME + "::1"));
+        assertFalse(local(cache(nodeB)).containsKey(CACHE_NAME + "::1"));
+        assertEquals("새 값", cache(nodeB).get("1").get());
+    }
+
+    @Test
+    void ignoresMalformedOrUnknownCacheMessages() {
+        TwoLevelCacheManager node = node();
+        cache(node).put("1", "값");
+
+        deliver(node, "다른노드".getBytes(StandardCharsets.UTF_8));
+        deliver(node, "다른노드|E|없는캐시|없는캐시::1".getBytes(StandardCharsets.UTF_8));
+        deliver(node, ("다른노드|E|" + CACHE_NAME).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("값", local(cache(node)).get(CACHE_NAME + "::1"));
+    }
+
+    // Helper Methods
+
+    /**
+     * 같은 Redis 를 쓰는 노드 하나 (노드마다 캐시 매니저 하나)
+     */
+    @SuppressWarnings("unchecked")
+    private TwoLevelCacheManager node() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        RedisConnection connection = mock(RedisConnection.class);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(any())).thenAnswer(invocation -> {
+            failIfDown();
+            return redisStore.get(invocation.<String>getArgument(0));
+        });
+        doAnswer(invocation -> {
+            failIfDown();
+            redisStore.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(anyString(), any(), any(Duration.class));
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> {
+            failIfDown();
+            return redisStore.remove(invocation.<String>getArgument(0)) != null;
+        });
+        when(connection.publish(any(), any())).thenAnswer(invocation -> {
+            failIfDown();
+            published.add(invocation.getArgument(1));
+            return 1L;
+        });
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+
+        return new TwoLevelCacheManager(Map.of(CACHE_NAME, SPEC), SPEC, redisTemplate);
+    }
+
+    private void failIfDown() {
+        if (redisDown) {
+            throw new IllegalStateException("Redis 연결 실패");
+        }
+    }
+
+    private static TwoLevelCache cache(TwoLevelCacheManager node) {
+        return (TwoLevelCache) node.getCache(CACHE_NAME);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> local(TwoLevelCache cache) {
+        return ((com.github.benmanes.caffeine.cache.Cache<String, Object>) cache.getNativeCache()).asMap();
+    }
+
+    private static void deliver(TwoLevelCacheManager node, byte[] body) {
+        node.onMessage(new DefaultMessage(
+                TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+    }
+}
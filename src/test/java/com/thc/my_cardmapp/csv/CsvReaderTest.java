@@ -0,0 +1,121 @@
+package com.thc.my_cardmapp.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvReaderTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    @Test
+    void parsesQuotedFieldsWithCommasNewlinesAndEscapes() throws IOException {
+        String csv = "a,\"b, c\",\"line1\nline2\",\"say \"\"hi\"\"\",\r\n"
+                + "x,,\"\"\r\n";
+
+        List<List<String>> records = readAll(CsvReader.of(utf8(csv), StandardCharsets.UTF_8));
+
+        assertEquals(List.of(
+                List.of("a", "b, c", "line1\nline2", "say \"hi\"", ""),
+                List.of("x", "", "")), records);
+    }
+
+    @Test
+    void readsLastRecordWithoutTrailingNewline() throws IOException {
+        CsvReader reader = CsvReader.of(utf8("h1,h2\nv1,v2"), StandardCharsets.UTF_8);
+
+        assertTrue(reader.next());
+        assertTrue(reader.next());
+        assertEquals("v2", reader.getString(1));
+        assertEquals(11, reader.getOffset());
+        assertFalse(reader.next());
+    }
+
+    @Test
+    void fieldSlicesAreDecodedText() throws IOException {
+        CsvReader reader = CsvReader.of(ByteBuffer.wrap("두손두발,\"서울 성동구, 1층\"\n".getBytes(EUC_KR)), EUC_KR);
+
+        assertTrue(reader.next());
+        CharSequence name = reader.getField(0);
+        assertEquals(4, name.length());
+        assertEquals('손', name.charAt(1));
+        assertEquals("서울 성동구, 1층", reader.getField(1).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.getField(2));
+    }
+
+    @Test
+    void streamsAcrossSmallBuffer() throws IOException {
+        StringBuilder csv = new StringBuilder("name,address\r\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append("가맹점").append(i).append(",\"서울특별시 중구, ").append(i).append("호\"\r\n");
+        }
+        byte[] data = csv.toString().getBytes(EUC_KR);
+
+        CsvReader reader = CsvReader.open(new ByteArrayInputStream(data), EUC_KR, 0, 8);
+        List<List<String>> records = readAll(reader);
+
+        assertEquals(201, records.size());
+        assertEquals(List.of("가맹점199", "서울특별시 중구, 199호"), records.get(200));
+        assertEquals(data.length, reader.getOffset());
+    }
+
+    @Test
+    void resumesFromRecordOffset() throws IOException {
+        byte[] data = "h\n\"a\nb\"\nc\nd\n".getBytes(StandardCharsets.UTF_8);
+        CsvReader first = CsvReader.open(new ByteArrayInputStream(data), StandardCharsets.UTF_8, 0, 4);
+        first.next();
+        first.next();
+        long offset = first.getOffset();
+
+        CsvReader resumed = CsvReader.open(new ByteArrayInputStream(data), StandardCharsets.UTF_8, offset, 4);
+
+        assertEquals(List.of(List.of("c"), List.of("d")), readAll(resumed));
+    }
+
+    @Test
+    void skipsUtf8BomAndDetectsCharset() throws IOException {
+        byte[] body = "가맹점명,주소\n".getBytes(StandardCharsets.UTF_8);
+        byte[] data = new byte[body.length + 3];
+        data[0] = (byte) 0xEF;
+        data[1] = (byte) 0xBB;
+        data[2] = (byte) 0xBF;
+        System.arraycopy(body, 0, data, 3, body.length);
+
+        assertEquals(StandardCharsets.UTF_8, CsvCharsetDetector.detect(new ByteArrayInputStream(data), EUC_KR));
+        CsvReader reader = CsvReader.of(ByteBuffer.wrap(data), StandardCharsets.UTF_8);
+        assertTrue(reader.next());
+        assertEquals("가맹점명", reader.getString(0));
+
+        assertEquals(EUC_KR, CsvCharsetDetector.detect(new ByteArrayInputStream("가맹점명".getBytes(EUC_KR)), EUC_KR));
+        assertEquals(StandardCharsets.UTF_8, CsvCharsetDetector.detect(new ByteArrayInputStream(body), EUC_KR));
+    }
+
+    // Helper Methods
+
+    private static ByteBuffer utf8(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<List<String>> readAll(CsvReader reader) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        while (reader.next()) {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < reader.getFieldCount(); i++) {
+                fields.add(reader.getString(i));
+            }
+            records.add(fields);
+        }
+        return records;
+    }
+}
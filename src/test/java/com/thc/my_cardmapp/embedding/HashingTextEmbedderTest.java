@@ -0,0 +1,63 @@
+package com.thc.my_cardmapp.embedding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashingTextEmbedderTest {
+
+    private final HashingTextEmbedder embedder = new HashingTextEmbedder(128);
+
+    @Test
+    void isDeterministicAndNormalized() {
+        float[] first = embedder.embed("스타벅스 강남역점");
+        float[] second = new HashingTextEmbedder(128).embed("스타벅스  강남역점!");
+
+        assertArrayEquals(first, second);
+        assertEquals(1.0, dot(first, first), 1e-5);
+        assertEquals("hash-v2-128", embedder.getName());
+    }
+
+    @Test
+    void sharedWordsAndSyllablesAreCloser() {
+        float[] query = embedder.embed("스타벅스");
+        float[] branch = embedder.embed("스타벅스 강남역점");
+        float[] partial = embedder.embed("스타벅스커피");
+        float[] unrelated = embedder.embed("김밥천국 역삼점");
+
+        assertTrue(dot(query, branch) > dot(query, unrelated), "같은 단어");
+        assertTrue(dot(query, partial) > dot(query, unrelated), "같은 글자 bigram");
+    }
+
+    @Test
+    void weightedFieldsAndBlankText() {
+        float[] blank = embedder.embed("  ");
+        assertEquals(0.0, dot(blank, blank), 0);
+
+        float[] merchant = embedder.embed(new String[]{"행복 편의점", "편의점", null}, new float[]{1f, 0.6f, 0.3f});
+        assertEquals(1.0, dot(merchant, merchant), 1e-5);
+        assertTrue(dot(merchant, embedder.embed("편의점")) > dot(merchant, embedder.embed("음식점")));
+    }
+
+    @Test
+    void codecRoundTrip() {
+        float[] vector = embedder.embed("문화누리카드 서점");
+        byte[] bytes = VectorCodec.encode(vector);
+
+        assertEquals(128 * 4, bytes.length);
+        assertArrayEquals(vector, VectorCodec.decode(bytes, 128));
+        assertThrows(IllegalArgumentException.class, () -> VectorCodec.decode(bytes, 64));
+        assertThrows(IllegalArgumentException.class, () -> VectorCodec.decode(null, 128));
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,128 @@
+package com.thc.my_cardmapp.geocoding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AddressNormalizerTest {
+
+    private final AddressNormalizer normalizer = new AddressNormalizer();
+
+    @Test
+    void removesUnitFloorAndParentheses() {
+        assertEquals("서울특별시 은평구 갈현로 100",
+                normalizer.clean("서울특별시 은평구 갈현로 100, 102동 204호 (구산동,갈현현대아파트)"));
+        assertEquals("서울특별시 중구 장충단로 253 지하1층 160호",
+                normalizer.clean("서울특별시 중구 장충단로 253 (을지로6가, 헬로우APM) 지하1층 160호"));
+        assertEquals("서울 강남구 삼성로 212, 상가A동 1층 113호",
+                normalizer.clean("서울 강남구 삼성로 212, 상가A동 1층 113호 (대치동)"));
+        assertEquals("서울특별시 노원구 상계로 51",
+                normalizer.clean("  서울특별시\t노원구  상계로 51, 2층, "));
+    }
+
+    @Test
+    void cleanMatchesLegacyImplementation() {
+        String[] samples = {
+                "서울특별시 성동구 왕십리로31길 10-1 1층 두손두발",
+                "서울 마포구 양화로15길 12, 지하1층 (서교동)",
+                "A, , 2층 3호 4호",
+                "A, 1동, 2층 3호",
+                ", (x)3층",
+                "a, ",
+                "",
+                "   ",
+        };
+        for (String sample : samples) {
+            assertEquals(legacyCleanAddress(sample), normalizer.clean(sample));
+        }
+
+        // 단계 순서에 민감한 조합을 무작위로 생성
+        String[] parts = {",", " ", "  ", "\t", "1", "23", "동", "층", "호", "(", ")", "가", "로", "\n"};
+        Random random = new Random(42);
+        for (int n = 0; n < 20000; n++) {
+            StringBuilder address = new StringBuilder();
+            int length = 1 + random.nextInt(14);
+            for (int i = 0; i < length; i++) {
+                address.append(parts[random.nextInt(parts.length)]);
+            }
+            String sample = address.toString();
+            assertEquals(legacyCleanAddress(sample), normalizer.clean(sample), "input [" + sample + "]");
+        }
+    }
+
+    @Test
+    void parsesRoadNameAddress() {
+        ParsedAddress parsed = normalizer.parse("서울 성동구 왕십리로31길 10-1 1층 두손두발").orElseThrow();
+
+        assertEquals(ParsedAddress.Type.ROAD, parsed.type());
+        assertEquals("서울특별시", parsed.sido());
+        assertEquals("성동구", parsed.sigungu());
+        assertEquals("왕십리로31길", parsed.street());
+        assertEquals(10, parsed.mainNumber());
+        assertEquals(1, parsed.subNumber());
+        assertEquals("서울특별시 성동구 왕십리로31길 10-1", parsed.key());
+
+        assertEquals("서울특별시 서초구 신반포로 지하 200",
+                normalizer.parse("서울특별시 서초구 신반포로 지하 200").orElseThrow().key());
+        assertEquals("경기도 수원시 장안구 정조로 940-1",
+                normalizer.parse("경기 수원시 장안구 정조로 940-1").orElseThrow().key());
+        assertEquals("서울특별시 중구 남대문시장4길 21",
+                normalizer.parse("서울 중구 남대문시장4길 21대도E동158호1층 테마").orElseThrow().key());
+        assertEquals("세종특별자치시 한누리대로 2130",
+                normalizer.parse("세종 한누리대로 2130").orElseThrow().key());
+    }
+
+    @Test
+    void parsesLotNumberAddress() {
+        ParsedAddress parsed = normalizer.parse("서울특별시 강남구 역삼동 736-1").orElseThrow();
+
+        assertEquals(ParsedAddress.Type.LOT, parsed.type());
+        assertEquals("역삼동", parsed.street());
+        assertEquals("서울특별시 강남구 역삼동 736-1", parsed.key());
+
+        assertEquals("서울특별시 용산구 청파동2가 53",
+                normalizer.parse("서울시 용산구 청파동2가 53번지").orElseThrow().key());
+        assertEquals("강원특별자치도 홍천군 서면 팔봉리 산12",
+                normalizer.parse("강원도 홍천군 서면 팔봉리 산 12").orElseThrow().key());
+        assertTrue(normalizer.parse("서울특별시 강남구 역삼동 산12-3").orElseThrow().special());
+    }
+
+    @Test
+    void sameBuildingSharesCacheKey() {
+        String full = normalizer.clean("서울특별시 강남구 삼성로 212, 상가A동 1층 113호 (대치동)");
+        String shortForm = normalizer.clean("서울 강남구 삼성로 212");
+
+        assertEquals(normalizer.cacheKey(shortForm), normalizer.cacheKey(full));
+    }
+
+    @Test
+    void fallsBackToCleanedAddressWhenUnparseable() {
+        assertFalse(normalizer.parse("서울 금천구 벚꽃로").isPresent());
+        assertFalse(normalizer.parse("강남구 삼성로 212").isPresent());
+        assertFalse(normalizer.parse("서울 강남구 삼성로 지하").isPresent());
+        assertEquals("서울 금천구 벚꽃로", normalizer.cacheKey("서울 금천구 벚꽃로"));
+    }
+
+    /**
+     * 이전 cleanAddress (정제 결과 비교 기준)
+     */
+    private static String legacyCleanAddress(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            return address;
+        }
+        String cleaned = address;
+        cleaned = cleaned.replaceAll(",\\s*\\d+동\\s*\\d+호", "");
+        cleaned = cleaned.replaceAll(",\\s*\\d+층\\s*\\d+호", "");
+        cleaned = cleaned.replaceAll(",\\s*\\d+동", "");
+        cleaned = cleaned.replaceAll(",\\s*\\d+호", "");
+        cleaned = cleaned.replaceAll(",\\s*\\d+층", "");
+        cleaned = cleaned.replaceAll("\\s*\\([^)]*\\)", "");
+        cleaned = cleaned.replaceAll("\\s+", " ");
+        cleaned = cleaned.trim().replaceAll(",$", "");
+        return cleaned;
+    }
+}
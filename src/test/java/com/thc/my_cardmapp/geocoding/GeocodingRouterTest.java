@@ -0,0 +1,108 @@
+package com.thc.my_cardmapp.geocoding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeocodingRouterTest {
+
+    private static final String ADDRESS = "서울특별시 중구 세종대로 110";
+
+    private static final GeocodingRouter.Settings NO_HEDGE = new GeocodingRouter.Settings(false, 95, 1000, 100, 20);
+
+    @Test
+    void fallsBackToNextProviderOnEmptyOrFailedResult() throws InterruptedException {
+        try (GeocodingRouter router = new GeocodingRouter(List.of(
+                stub("A", 0, GeocodingResult.Status.NOT_FOUND),
+                stub("B", 0, GeocodingResult.Status.ERROR),
+                stub("C", 0, GeocodingResult.Status.FOUND)), NO_HEDGE)) {
+
+            GeocodingResult result = router.geocode(ADDRESS);
+
+            assertTrue(result.isSuccess());
+            assertEquals("C", result.getProvider());
+        }
+    }
+
+    @Test
+    void reportsNotFoundOnlyWhenEveryProviderAnswered() throws InterruptedException {
+        try (GeocodingRouter allEmpty = new GeocodingRouter(List.of(
+                stub("A", 0, GeocodingResult.Status.NOT_FOUND),
+                stub("B", 0, GeocodingResult.Status.NOT_FOUND)), NO_HEDGE);
+             GeocodingRouter withError = new GeocodingRouter(List.of(
+                     stub("A", 0, GeocodingResult.Status.NOT_FOUND),
+                     stub("B", 0, GeocodingResult.Status.ERROR)), NO_HEDGE)) {
+
+            assertEquals(GeocodingResult.Status.NOT_FOUND, allEmpty.geocode(ADDRESS).getStatus());
+
+            GeocodingResult result = withError.geocode(ADDRESS);
+            assertEquals(GeocodingResult.Status.ERROR, result.getStatus());
+            assertTrue(result.isRetryable());
+        }
+    }
+
+    @Test
+    void hedgesSlowPrimaryWithBackup() throws InterruptedException {
+        GeocodingRouter.Settings hedge = new GeocodingRouter.Settings(true, 95, 50, 10, 20);
+        try (GeocodingRouter router = new GeocodingRouter(List.of(
+                stub("SLOW", 2000, GeocodingResult.Status.FOUND),
+                stub("FAST", 0, GeocodingResult.Status.FOUND)), hedge)) {
+
+            GeocodingResult result = router.geocode(ADDRESS);
+
+            assertEquals("FAST", result.getProvider());
+            assertEquals(1, router.getHedges());
+            assertEquals(1, router.getHedgeWins());
+        }
+    }
+
+    @Test
+    void doesNotHedgeWhenPrimaryAnswersInTime() throws InterruptedException {
+        GeocodingRouter.Settings hedge = new GeocodingRouter.Settings(true, 95, 1000, 100, 20);
+        try (GeocodingRouter router = new GeocodingRouter(List.of(
+                stub("A", 0, GeocodingResult.Status.FOUND),
+                stub("B", 0, GeocodingResult.Status.FOUND)), hedge)) {
+
+            assertEquals("A", router.geocode(ADDRESS).getProvider());
+            assertEquals(0, router.getHedges());
+        }
+    }
+
+    @Test
+    void reordersProvidersBySuccessRateOnceSampled() throws InterruptedException {
+        GeocodingRouter.Settings settings = new GeocodingRouter.Settings(false, 95, 1000, 100, 5);
+        try (GeocodingRouter router = new GeocodingRouter(List.of(
+                stub("A", 0, GeocodingResult.Status.NOT_FOUND),
+                stub("B", 0, GeocodingResult.Status.FOUND)), settings)) {
+
+            assertEquals("A", router.rankedProviders().get(0).getName());
+            for (int i = 0; i < 5; i++) {
+                assertTrue(router.geocode(ADDRESS + " " + i).isSuccess());
+            }
+
+            assertEquals("B", router.rankedProviders().get(0).getName());
+        }
+    }
+
+    @Test
+    void stubReturnsStableCoordinatesInsideSeoul() {
+        StubGeocodingProvider provider = stub("STUB", 0, GeocodingResult.Status.FOUND);
+
+        GeocodingResult first = provider.geocode(ADDRESS);
+        GeocodingResult second = provider.geocode(ADDRESS);
+
+        assertEquals(first.getLatitude(), second.getLatitude(), 0);
+        assertEquals(first.getLongitude(), second.getLongitude(), 0);
+        assertTrue(first.getLatitude() >= 37.41 && first.getLatitude() <= 37.72);
+        assertTrue(first.getLongitude() >= 126.76 && first.getLongitude() <= 127.19);
+        assertFalse(provider.geocode(" ").isSuccess());
+    }
+
+    private static StubGeocodingProvider stub(String name, long latencyMs, GeocodingResult.Status mode) {
+        return new StubGeocodingProvider(name, latencyMs, mode);
+    }
+}
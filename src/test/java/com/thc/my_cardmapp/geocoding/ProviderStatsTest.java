@@ -0,0 +1,47 @@
+package com.thc.my_cardmapp.geocoding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProviderStatsTest {
+
+    @Test
+    void reportsSuccessRateAndLatencyPercentiles() {
+        ProviderStats stats = new ProviderStats();
+        for (int i = 1; i <= 100; i++) {
+            stats.record(i % 4 != 0, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertEquals(0.75, stats.getSuccessRate(), 1e-9);
+        assertEquals(50, stats.getLatencyPercentileMillis(50));
+        assertEquals(95, stats.getLatencyPercentileMillis(95));
+        assertEquals(100, stats.getLatencyPercentileMillis(100));
+    }
+
+    @Test
+    void keepsOnlyRecentWindow() {
+        ProviderStats stats = new ProviderStats();
+        for (int i = 0; i < ProviderStats.WINDOW; i++) {
+            stats.record(false, TimeUnit.SECONDS.toNanos(1));
+        }
+        for (int i = 0; i < ProviderStats.WINDOW; i++) {
+            stats.record(true, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertEquals(ProviderStats.WINDOW, stats.getSamples());
+        assertEquals(2L * ProviderStats.WINDOW, stats.getTotalCalls());
+        assertEquals(1.0, stats.getSuccessRate(), 1e-9);
+        assertEquals(10, stats.getLatencyPercentileMillis(95));
+    }
+
+    @Test
+    void emptyStatsAreNeutral() {
+        ProviderStats stats = new ProviderStats();
+
+        assertEquals(1.0, stats.getSuccessRate(), 1e-9);
+        assertEquals(0, stats.getLatencyPercentileMillis(95));
+    }
+}
@@ -0,0 +1,81 @@
+package com.thc.my_cardmapp.index;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CardMembershipIndexTest {
+
+    @Test
+    void unionMergesCardsAndIgnoresUnknownCard() {
+        CardMembershipIndex index = new CardMembershipIndex();
+        index.add("A카드", 1);
+        index.add("A카드", 3);
+        index.add("B카드", 3);
+        index.add("B카드", 5);
+
+        assertArrayEquals(new int[]{1, 3}, index.union(List.of("A카드")).toArray());
+        assertArrayEquals(new int[]{1, 3, 5}, index.union(List.of("A카드", "B카드", "없는카드")).toArray());
+        assertTrue(index.union(List.of()).isEmpty());
+        assertEquals(2, index.count("B카드"));
+        assertEquals(0, index.count("없는카드"));
+    }
+
+    @Test
+    void unionReturnsCopy() {
+        CardMembershipIndex index = new CardMembershipIndex();
+        index.add("A카드", 1);
+
+        RoaringBitmap result = index.union(List.of("A카드"));
+        result.add(2);
+        result.remove(1);
+
+        // 반환값을 바꿔도 인덱스는 그대로
+        assertArrayEquals(new int[]{1}, index.union(List.of("A카드")).toArray());
+    }
+
+    @Test
+    void replaceMerchantMovesItBetweenCards() {
+        CardMembershipIndex index = new CardMembershipIndex();
+        index.add("A카드", 7);
+        index.add("B카드", 7);
+        index.add("B카드", 8);
+
+        index.replaceMerchant(7, List.of("B카드", "C카드"));
+
+        assertEquals(0, index.count("A카드"));
+        assertArrayEquals(new int[]{7, 8}, index.union(List.of("B카드")).toArray());
+        assertArrayEquals(new int[]{7}, index.union(List.of("C카드")).toArray());
+
+        // 빈 목록이면 모든 카드에서 제거
+        index.replaceMerchant(7, List.of());
+        assertArrayEquals(new int[]{8}, index.union(List.of("A카드", "B카드", "C카드")).toArray());
+    }
+
+    @Test
+    void optimizeKeepsMembership() {
+        CardMembershipIndex index = new CardMembershipIndex();
+        for (long id = 1; id <= 10_000; id++) {
+            index.add("A카드", id);
+        }
+
+        index.optimize();
+
+        assertEquals(10_000, index.count("A카드"));
+        assertTrue(index.union(List.of("A카드")).contains(5_000));
+    }
+
+    @Test
+    void rejectsMerchantIdOutsideIntRange() {
+        CardMembershipIndex index = new CardMembershipIndex();
+
+        assertEquals(Integer.MAX_VALUE, CardMembershipIndex.toIndex(Integer.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> index.add("A카드", Integer.MAX_VALUE + 1L));
+    }
+}
@@ -0,0 +1,69 @@
+package com.thc.my_cardmapp.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DistrictIndexTest {
+
+    // 경도 127.0~127.2, 위도 37.5~37.6 의 가상 구역 (실제 경계 아님)
+    private static final String GEOJSON = """
+            {"type": "FeatureCollection", "features": [
+              {"type": "Feature", "properties": {"name": "서구"},
+               "geometry": {"type": "Polygon", "coordinates": [
+                 [[127.0, 37.5], [127.1, 37.5], [127.1, 37.6], [127.0, 37.6], [127.0, 37.5]]]}},
+              {"type": "Feature", "properties": {"name": "동구"},
+               "geometry": {"type": "Polygon", "coordinates": [
+                 [[127.1, 37.5], [127.2, 37.5], [127.2, 37.6], [127.1, 37.6], [127.1, 37.5]],
+                 [[127.14, 37.54], [127.16, 37.54], [127.16, 37.56], [127.14, 37.56], [127.14, 37.54]]]}},
+              {"type": "Feature", "properties": {"name": "섬구"},
+               "geometry": {"type": "MultiPolygon", "coordinates": [
+                 [[[127.14, 37.54], [127.16, 37.54], [127.16, 37.56], [127.14, 37.56], [127.14, 37.54]]],
+                 [[[127.3, 37.5], [127.4, 37.5], [127.4, 37.6], [127.3, 37.5]]]]}},
+              {"type": "Feature", "properties": {"name": "점"},
+               "geometry": {"type": "Point", "coordinates": [127.05, 37.55]}},
+              {"type": "Feature", "properties": {},
+               "geometry": {"type": "Polygon", "coordinates": [
+                 [[126.0, 37.0], [126.5, 37.0], [126.5, 37.5], [126.0, 37.0]]]}}
+            ]}
+            """;
+
+    @Test
+    void findsDistrictContainingPoint() throws IOException {
+        DistrictIndex index = read(GEOJSON);
+
+        assertEquals(3, index.size());
+        assertEquals("서구", index.find(37.55, 127.05));
+        assertEquals("동구", index.find(37.52, 127.18));
+        // 동구의 구멍 안은 섬구
+        assertEquals("섬구", index.find(37.55, 127.15));
+        assertEquals("섬구", index.find(37.51, 127.38));
+    }
+
+    @Test
+    void returnsNullOutsideAllDistricts() throws IOException {
+        DistrictIndex index = read(GEOJSON);
+
+        assertNull(index.find(37.7, 127.05));
+        // 섬구 삼각형의 외곽 사각형 안이지만 삼각형 밖
+        assertNull(index.find(37.58, 127.31));
+        // 이름 없는 구역은 제외
+        assertNull(index.find(37.1, 126.4));
+    }
+
+    @Test
+    void rejectsNonFeatureCollection() {
+        assertThrows(IllegalArgumentException.class, () -> read("{\"type\": \"Feature\"}"));
+    }
+
+    private static DistrictIndex read(String geoJson) throws IOException {
+        return DistrictIndex.fromGeoJson(
+                new ByteArrayInputStream(geoJson.getBytes(StandardCharsets.UTF_8)), "name");
+    }
+}
@@ -0,0 +1,50 @@
+package com.thc.my_cardmapp.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoHashTest {
+
+    @Test
+    void encodesKnownPoints() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        // 서울시청
+        assertEquals("wydm9qy", GeoHash.encode(37.5665, 126.9780, 7));
+    }
+
+    @Test
+    void decodedCenterLiesInSameCell() {
+        String geohash = GeoHash.encode(37.5665, 126.9780, 6);
+        double[] center = GeoHash.decodeCenter(geohash);
+
+        assertEquals(geohash, GeoHash.encode(center[0], center[1], 6));
+        assertTrue(Math.abs(center[0] - 37.5665) <= GeoHash.cellHeightDeg(6) / 2);
+        assertTrue(Math.abs(center[1] - 126.9780) <= GeoHash.cellWidthDeg(6) / 2);
+    }
+
+    @Test
+    void coveringCellsContainEveryPointWithinRadius() {
+        double lat = 37.5665;
+        double lng = 126.9780;
+        List<String> cells = GeoHash.coveringCells(lat, lng, 150, 7);
+
+        assertEquals(GeoHash.encode(lat, lng, 7), cells.get(0));
+        for (int degree = 0; degree < 360; degree += 15) {
+            double radians = Math.toRadians(degree);
+            double pointLat = lat + 150 * Math.cos(radians) / 111_320d;
+            double pointLng = lng + 150 * Math.sin(radians) / (111_320d * Math.cos(Math.toRadians(lat)));
+            assertTrue(cells.contains(GeoHash.encode(pointLat, pointLng, 7)));
+        }
+        assertEquals(List.of(GeoHash.encode(lat, lng, 7)), GeoHash.coveringCells(lat, lng, 0, 7));
+    }
+
+    @Test
+    void rejectsInvalidPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(37.5, 127.0, 0));
+    }
+}
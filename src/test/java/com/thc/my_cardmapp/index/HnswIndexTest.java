@@ -0,0 +1,137 @@
+package com.thc.my_cardmapp.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    void approximateSearchMatchesBruteForce() {
+        Random random = new Random(7);
+        float[][] vectors = new float[3000][];
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 100, 42);
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector(random);
+            index.upsert(i, vectors[i]);
+        }
+
+        int k = 10;
+        int found = 0;
+        for (int q = 0; q < 50; q++) {
+            float[] query = randomVector(random);
+            Set<Long> exact = bruteForce(vectors, query, k);
+            HnswIndex.Hits hits = index.search(query, k, 64, null);
+            assertEquals(k, hits.size());
+            for (long id : hits.ids()) {
+                if (exact.contains(id)) {
+                    found++;
+                }
+            }
+            // 유사도 내림차순
+            for (int i = 1; i < hits.size(); i++) {
+                assertTrue(hits.scores()[i - 1] >= hits.scores()[i], "정렬 순서");
+            }
+        }
+        double recall = found / (50.0 * k);
+        assertTrue(recall >= 0.95, "recall: " + recall);
+    }
+
+    @Test
+    void upsertReplacesAndRemoveHides() {
+        HnswIndex index = new HnswIndex(2, 4, 8, 1);
+        index.upsert(1, new float[]{1, 0});
+        index.upsert(2, new float[]{0, 1});
+        index.upsert(3, new float[]{1, 1});
+
+        assertEquals(1L, index.search(new float[]{1, 0.1f}, 1, 8, null).ids()[0]);
+
+        // 1번을 반대 방향으로 옮기면 3번이 가장 가까움
+        index.upsert(1, new float[]{-1, 0});
+        assertEquals(3L, index.search(new float[]{1, 0.1f}, 1, 8, null).ids()[0]);
+        assertEquals(3, index.size());
+        assertEquals(1, index.deletedCount());
+
+        index.remove(3);
+        assertEquals(2L, index.search(new float[]{1, 0.1f}, 1, 8, null).ids()[0]);
+        assertEquals(2, index.search(new float[]{1, 0.1f}, 5, 8, null).size());
+        assertNull(index.vector(3));
+        assertArrayEquals(new float[]{-1, 0}, index.vector(1));
+    }
+
+    @Test
+    void filterAndExactCandidates() {
+        Random random = new Random(3);
+        HnswIndex index = new HnswIndex(DIMENSION, 8, 40, 42);
+        float[][] vectors = new float[500][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector(random);
+            index.upsert(i, vectors[i]);
+        }
+        float[] query = randomVector(random);
+
+        HnswIndex.Hits even = index.search(query, 5, 64, id -> id % 2 == 0);
+        assertEquals(5, even.size());
+        for (long id : even.ids()) {
+            assertEquals(0L, id % 2);
+        }
+
+        long[] candidates = {10, 20, 30, 9999};
+        HnswIndex.Hits among = index.searchAmong(query, candidates, 10);
+        assertEquals(3, among.size());
+        Set<Long> expected = bruteForce(new float[][]{vectors[10], vectors[20], vectors[30]}, query, 1);
+        long best = new long[]{10, 20, 30}[expected.iterator().next().intValue()];
+        assertEquals(best, among.ids()[0]);
+    }
+
+    @Test
+    void zeroVectorIsNotSearchable() {
+        HnswIndex index = new HnswIndex(2, 4, 8, 1);
+        index.upsert(1, new float[]{1, 0});
+        index.upsert(1, new float[]{0, 0});
+
+        assertEquals(0, index.size());
+        assertTrue(index.search(new float[]{1, 0}, 3, 8, null).isEmpty());
+        assertTrue(index.search(new float[]{0, 0}, 3, 8, null).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.upsert(2, new float[]{1, 0, 0}));
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static Set<Long> bruteForce(float[][] vectors, float[] query, int k) {
+        return IntStream.range(0, vectors.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> -cosine(vectors[i], query)))
+                .limit(k)
+                .map(Integer::longValue)
+                .collect(HashSet::new, Set::add, Set::addAll);
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, na = 0, nb = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            na += a[i] * a[i];
+            nb += b[i] * b[i];
+        }
+        return dot / Math.sqrt(na * nb);
+    }
+}
@@ -0,0 +1,49 @@
+package com.thc.my_cardmapp.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NgramSearchIndexTest {
+
+    @Test
+    void ranksExactThenPrefixThenInfixThenAddress() {
+        NgramSearchIndex index = new NgramSearchIndex();
+        index.upsert(1L, "두손두발 카페", "서울특별시 성동구 왕십리로31길 10-1");
+        index.upsert(2L, "카페", "서울특별시 강남구 삼성로 212");
+        index.upsert(3L, "카페 드 파리", "서울특별시 종로구 세종대로 1");
+        index.upsert(4L, "역삼청소년센터", "서울특별시 강남구 카페거리 7");
+        index.upsert(5L, "그루밍74", "서울특별시 강남구 삼성로 212");
+
+        NgramSearchIndex.Hits hits = index.search("카페", 0, 10);
+
+        assertArrayEquals(new long[]{2L, 3L, 1L, 4L}, hits.ids());
+        assertEquals(4, hits.total());
+    }
+
+    @Test
+    void matchesIgnoringWhitespaceAndCaseAndSupportsPaging() {
+        NgramSearchIndex index = new NgramSearchIndex();
+        index.upsert(1L, "GS25 역삼점", "서울특별시 강남구 논현로64길 7");
+        index.upsert(2L, "GS25 삼성점", "서울특별시 강남구 삼성로 1");
+
+        assertEquals(2, index.search("gs 25", 0, 10).total());
+        assertArrayEquals(new long[]{2L}, index.search("gs25", 1, 10).ids());
+        assertArrayEquals(new long[]{1L}, index.search("역삼", 0, 10).ids());
+    }
+
+    @Test
+    void upsertReplacesAndRemoveDeletes() {
+        NgramSearchIndex index = new NgramSearchIndex();
+        index.upsert(1L, "얘들아 놀자", "서울특별시 강동구 강동대로 143-48");
+        index.upsert(1L, "얘들아 뛰자", "서울특별시 강동구 강동대로 143-48");
+
+        assertEquals(0, index.search("놀자", 0, 10).total());
+        assertEquals(1, index.search("뛰자", 0, 10).total());
+
+        index.remove(1L);
+        assertEquals(0, index.search("얘들아", 0, 10).total());
+        assertEquals(0, index.size());
+    }
+}
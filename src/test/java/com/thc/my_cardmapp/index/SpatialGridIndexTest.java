@@ -0,0 +1,68 @@
+package com.thc.my_cardmapp.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpatialGridIndexTest {
+
+    // 서울시청 기준
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Test
+    void queryReturnsPointsWithinRadiusSortedByDistance() {
+        SpatialGridIndex index = new SpatialGridIndex(0.005);
+        index.upsert(1L, LAT + 0.005, LNG);   // 약 556m
+        index.upsert(2L, LAT + 0.001, LNG);   // 약 111m
+        index.upsert(3L, LAT + 0.05, LNG);    // 약 5.5km (반경 밖)
+
+        SpatialGridIndex.Neighbors result = index.query(LAT, LNG, 1000, null);
+
+        assertArrayEquals(new long[]{2L, 1L}, result.ids());
+        assertTrue(result.distances()[0] < result.distances()[1]);
+    }
+
+    @Test
+    void upsertMovesPointAndRemoveDeletesIt() {
+        SpatialGridIndex index = new SpatialGridIndex(0.005);
+        index.upsert(1L, LAT + 0.05, LNG);
+        assertTrue(index.query(LAT, LNG, 1000, null).isEmpty());
+
+        index.upsert(1L, LAT, LNG + 0.001);
+        assertArrayEquals(new long[]{1L}, index.query(LAT, LNG, 1000, null).ids());
+        assertEquals(1, index.size());
+
+        index.remove(1L);
+        assertTrue(index.query(LAT, LNG, 1000, null).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void filterExcludesIds() {
+        SpatialGridIndex index = new SpatialGridIndex(0.005);
+        for (long id = 1; id <= 10; id++) {
+            index.upsert(id, LAT + id * 0.0001, LNG);
+        }
+
+        SpatialGridIndex.Neighbors result = index.query(LAT, LNG, 1000, id -> id % 2 == 0);
+
+        assertArrayEquals(new long[]{2L, 4L, 6L, 8L, 10L}, result.ids());
+    }
+
+    @Test
+    void limitKeepsNearestNeighbors() {
+        SpatialGridIndex index = new SpatialGridIndex(0.005);
+        for (long id = 1; id <= 10; id++) {
+            index.upsert(id, LAT + (11 - id) * 0.0001, LNG);
+        }
+
+        SpatialGridIndex.Neighbors result = index.query(LAT, LNG, 1000, null);
+
+        assertArrayEquals(new long[]{10L, 9L, 8L}, result.limit(3).ids());
+        assertEquals(3, result.limit(3).distances().length);
+        assertEquals(result, result.limit(10));
+    }
+}
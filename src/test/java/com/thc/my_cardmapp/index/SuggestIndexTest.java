@@ -0,0 +1,64 @@
+package com.thc.my_cardmapp.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestIndexTest {
+
+    @Test
+    void matchesPartialSyllablesByJamoPrefix() {
+        SuggestIndex index = new SuggestIndex(100);
+        index.replaceAll(List.of(
+                merchant(1L, "스타벅스 역삼점", 0),
+                merchant(2L, "닭갈비", 0),
+                merchant(3L, "스탠다드", 0)));
+
+        // "스탑" 은 "스타벅..." 입력 도중의 상태
+        assertEquals(List.of(1L), refIds(index.suggest("스탑", 10)));
+        // 겹받침 "ㄺ" 입력 전 단계
+        assertEquals(List.of(2L), refIds(index.suggest("달", 10)));
+        assertEquals("ㅅㅡㅌㅏㅂ", SuggestIndex.decompose("스탑"));
+    }
+
+    @Test
+    void ranksByPopularityThenTypeAndDeduplicatesNames() {
+        SuggestIndex index = new SuggestIndex(100);
+        index.replaceAll(List.of(
+                merchant(1L, "스타벅스 역삼점", 0),
+                merchant(2L, "스타벅스", 5),
+                merchant(3L, "스타벅스", 5),
+                new SuggestIndex.Suggestion(SuggestIndex.Type.CARD, 9L, "스타카드", 0)));
+
+        List<SuggestIndex.Suggestion> result = index.suggest("스타", 10);
+
+        assertEquals(List.of(2L, 9L, 1L), refIds(result));
+    }
+
+    @Test
+    void incrementalUpdatesSurviveCompaction() {
+        SuggestIndex index = new SuggestIndex(2);
+        index.replaceAll(List.of(merchant(1L, "얘들아 놀자", 0), merchant(2L, "그루밍74", 0)));
+
+        index.upsert(merchant(1L, "얘들아 뛰자", 0));
+        assertEquals("얘들아 뛰자", index.suggest("얘들", 10).get(0).text());
+
+        index.remove(SuggestIndex.Type.MERCHANT, 2L); // 임계치 도달 → 압축
+        index.upsert(merchant(3L, "그린카페", 0));
+
+        assertTrue(index.suggest("그루", 10).isEmpty());
+        assertEquals(List.of(3L), refIds(index.suggest("그", 10)));
+        assertEquals(2, index.size());
+    }
+
+    private static SuggestIndex.Suggestion merchant(long id, String name, long popularity) {
+        return new SuggestIndex.Suggestion(SuggestIndex.Type.MERCHANT, id, name, popularity);
+    }
+
+    private static List<Long> refIds(List<SuggestIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestIndex.Suggestion::refId).toList();
+    }
+}
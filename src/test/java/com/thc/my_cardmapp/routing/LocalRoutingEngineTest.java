@@ -0,0 +1,47 @@
+package com.thc.my_cardmapp.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalRoutingEngineTest {
+
+    @Test
+    void estimatesWalkingDistanceAndTime() {
+        LocalRoutingEngine engine = new LocalRoutingEngine(1.3, 1.2);
+
+        // 위도 0.009도 ≒ 1000.8m
+        RouteResult result = engine.route(37.5, 127.0, 37.509, 127.0);
+
+        assertEquals(LocalRoutingEngine.NAME, result.engine());
+        assertTrue(Math.abs(result.distanceM() - 1301) <= 1, "거리: " + result.distanceM());
+        assertTrue(Math.abs(result.travelTimeS() - 1084) <= 1, "시간: " + result.travelTimeS());
+        assertEquals("LINESTRING(127.0 37.5, 127.0 37.509)", result.path());
+    }
+
+    @Test
+    void samePointIsZeroDistance() {
+        RouteResult result = new LocalRoutingEngine(1.3, 1.2).route(37.5, 127.0, 37.5, 127.0);
+
+        assertEquals(0, result.distanceM());
+        assertEquals(0, result.travelTimeS());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new LocalRoutingEngine(0.9, 1.2));
+        assertThrows(IllegalArgumentException.class, () -> new LocalRoutingEngine(1.3, 0));
+    }
+
+    @Test
+    void lineStringNeedsTwoPoints() {
+        assertNull(RouteResult.lineString(List.of(new double[]{127.0, 37.5})));
+        assertEquals("LINESTRING(127.0 37.5, 127.1 37.6, 127.2 37.7)", RouteResult.lineString(List.of(
+                new double[]{127.0, 37.5}, new double[]{127.1, 37.6}, new double[]{127.2, 37.7})));
+    }
+}
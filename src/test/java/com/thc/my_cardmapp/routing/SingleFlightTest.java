@@ -0,0 +1,103 @@
+package com.thc.my_cardmapp.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentRequestsForSameKeyShareOneCall() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            CompletableFuture<Integer> first = singleFlight.execute("a", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return 42;
+            }, executor);
+            CompletableFuture<Integer> second = singleFlight.execute("a", () -> {
+                calls.incrementAndGet();
+                return -1;
+            }, executor);
+            CompletableFuture<Integer> other = singleFlight.execute("b", () -> {
+                calls.incrementAndGet();
+                return 7;
+            }, executor);
+
+            assertEquals(7, other.get(1, TimeUnit.SECONDS));
+            release.countDown();
+            assertEquals(42, first.get(1, TimeUnit.SECONDS));
+            assertEquals(42, second.get(1, TimeUnit.SECONDS));
+            assertEquals(2, calls.get());
+            assertEquals(1, singleFlight.getShared());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keyIsReleasedAfterCompletion() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        // 호출 스레드에서 바로 실행
+        assertEquals(1, singleFlight.execute("a", calls::incrementAndGet, Runnable::run).get());
+        assertEquals(2, singleFlight.execute("a", calls::incrementAndGet, Runnable::run).get());
+        assertEquals(0, singleFlight.size());
+    }
+
+    @Test
+    void failureIsSharedAndReleased() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        CompletableFuture<Integer> failed = singleFlight.execute("a", () -> {
+            throw new IllegalStateException("엔진 오류");
+        }, Runnable::run);
+
+        ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals(0, singleFlight.size());
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotAffectOthers() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Integer> first = singleFlight.execute("a", () -> {
+                await(release);
+                return 1;
+            }, executor);
+            CompletableFuture<Integer> second = singleFlight.execute("a", () -> 2, executor);
+
+            first.cancel(true);
+            release.countDown();
+            assertEquals(1, second.get(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
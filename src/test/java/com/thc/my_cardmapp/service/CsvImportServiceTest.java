@@ -0,0 +1,43 @@
+package com.thc.my_cardmapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvImportServiceTest {
+
+    private static final String NAME = "스타벅스 시청점";
+    private static final String ADDRESS = "서울특별시 중구 세종대로 110 1층";
+
+    @Test
+    void naturalKeyIgnoresWhitespaceAndCase() {
+        String key = CsvImportService.naturalKey("Cafe " + NAME, ADDRESS);
+
+        assertTrue(key.matches("[0-9a-f]{64}"), key);
+        assertEquals(key, CsvImportService.naturalKey("  cafe  스타벅스\t시청점 ", "서울특별시  중구 세종대로 110   1층"));
+    }
+
+    @Test
+    void naturalKeyKeepsNameAndAddressApart() {
+        assertNotEquals(CsvImportService.naturalKey(NAME, ADDRESS), CsvImportService.naturalKey(NAME + "2", ADDRESS));
+        assertNotEquals(CsvImportService.naturalKey(NAME, ADDRESS), CsvImportService.naturalKey(NAME, ADDRESS + " 2층"));
+        // 이름/주소 경계가 달라지면 다른 가맹점
+        assertNotEquals(CsvImportService.naturalKey("가 나", "다"), CsvImportService.naturalKey("가", "나 다"));
+    }
+
+    @Test
+    void contentHashDetectsChangesTheKeyIgnores() {
+        String hash = CsvImportService.contentHash(NAME, ADDRESS, "중구", 1L);
+
+        assertEquals(hash, CsvImportService.contentHash(NAME, ADDRESS, "중구", 1L));
+        // 같은 가맹점 키라도 원문이 바뀌면 갱신 대상
+        String respaced = "서울특별시 중구  세종대로 110 1층";
+        assertEquals(CsvImportService.naturalKey(NAME, ADDRESS), CsvImportService.naturalKey(NAME, respaced));
+        assertNotEquals(hash, CsvImportService.contentHash(NAME, respaced, "중구", 1L));
+        assertNotEquals(hash, CsvImportService.contentHash(NAME, ADDRESS, "종로구", 1L));
+        assertNotEquals(hash, CsvImportService.contentHash(NAME, ADDRESS, "중구", 2L));
+        assertNotEquals(hash, CsvImportService.contentHash(NAME, ADDRESS, "중구", null));
+    }
+}
@@ -0,0 +1,68 @@
+package com.thc.my_cardmapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsIdAndDistanceCursors() {
+        KeysetCursor byId = KeysetCursor.decode(KeysetCursor.ofId(42).encode());
+        assertNull(byId.distance());
+        assertEquals(42L, byId.id());
+        assertEquals(-1d, byId.distanceOrMin(), 0);
+
+        KeysetCursor byDistance = KeysetCursor.decode(KeysetCursor.ofDistance(123.456789, 7).encode());
+        assertEquals(123.456789, byDistance.distance(), 0);
+        assertEquals(7L, byDistance.id());
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = KeysetCursor.ofDistance(1234.5678901234, Long.MAX_VALUE).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+        assertFalse(encoded.contains("="));
+    }
+
+    @Test
+    void blankCursorIsFirstPage() {
+        assertEquals(KeysetCursor.FIRST, KeysetCursor.decode(null));
+        assertEquals(KeysetCursor.FIRST, KeysetCursor.decode(""));
+        assertEquals(KeysetCursor.FIRST, KeysetCursor.decode("  "));
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        // Base64 가 아닌 값
+        assertRejected("!!!");
+        // 형식이 다른 값
+        assertRejected(encodeRaw("abc"));
+        assertRejected(encodeRaw("1.5:"));
+        assertRejected(encodeRaw("1.5:2:3"));
+        // 범위 밖 값
+        assertRejected(encodeRaw("-1"));
+        assertRejected(encodeRaw("-0.5:3"));
+        assertRejected(encodeRaw("NaN:3"));
+        assertRejected(encodeRaw("Infinity:3"));
+    }
+
+    // Helper Methods
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertRejected(String cursor) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor));
+        assertEquals("잘못된 커서입니다: " + cursor, e.getMessage());
+    }
+}
@@ -0,0 +1,52 @@
+package com.thc.my_cardmapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MerchantCopyWriterTest {
+
+    @Test
+    void classifiesInsertedUpdatedAndUnchangedRows() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(10L, 11L, 12L);
+        when(resultSet.getBoolean(2)).thenReturn(true, false, true);
+
+        // 5행 적재 → 결과 3행 (나머지 2행은 내용 해시가 같거나 청크 안 중복 키)
+        MerchantCopyWriter.UpsertResult result = MerchantCopyWriter.classify(resultSet, 5);
+
+        assertEquals(List.of(10L, 12L), result.insertedIds());
+        assertEquals(List.of(11L), result.updatedIds());
+        assertEquals(2, result.unchanged());
+    }
+
+    @Test
+    void noReturnedRowsMeansAllUnchanged() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(false);
+
+        MerchantCopyWriter.UpsertResult result = MerchantCopyWriter.classify(resultSet, 3);
+
+        assertEquals(List.of(), result.insertedIds());
+        assertEquals(List.of(), result.updatedIds());
+        assertEquals(3, result.unchanged());
+    }
+
+    @Test
+    void stageCsvQuotesTextAndKeepsNullsEmpty() {
+        String csv = MerchantCopyWriter.toStageCsv(List.of(
+                new MerchantCopyWriter.MerchantRow("카페 \"별\", 1호점", "서울 중구", "중구", 3L, "k1", "h1"),
+                new MerchantCopyWriter.MerchantRow("빵집", "", null, null, "k2", "h2")));
+
+        // 텍스트는 항상 따옴표 (빈 문자열 ""), null 은 빈 값 (NULL)
+        assertEquals("0,\"카페 \"\"별\"\", 1호점\",\"서울 중구\",\"중구\",3,k1,h1\n" +
+                "1,\"빵집\",\"\",,,k2,h2\n", csv);
+    }
+}
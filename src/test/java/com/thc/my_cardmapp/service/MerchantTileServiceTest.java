@@ -0,0 +1,69 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MerchantTileServiceTest {
+
+    private final MerchantRepository merchantRepository = mock(MerchantRepository.class);
+    private final MerchantTileService service = new MerchantTileService(merchantRepository);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void tileIsLoadedOnceAndCached() {
+        stubTile(new byte[]{1, 2, 3}, null);
+
+        MerchantTileService.Tile first = service.getTile(14, 13970, 6344, null);
+        MerchantTileService.Tile second = service.getTile(14, 13970, 6344, List.of());
+
+        assertEquals(1, loads.get());
+        assertArrayEquals(new byte[]{1, 2, 3}, second.getData());
+        assertEquals(first.getEtag(), second.getEtag());
+    }
+
+    @Test
+    void changeDuringLoadIsNotCached() {
+        // 타일 생성 중에 가맹점 변경이 커밋됨
+        stubTile(new byte[]{1}, () -> service.onMerchantChanged(new MerchantChangedEvent(List.of(1L))));
+
+        service.getTile(14, 13970, 6344, null);
+        service.getTile(14, 13970, 6344, null);
+
+        // 변경 전 타일을 저장하지 않았으므로 다시 생성
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void rejectsTileOutsideZoomRange() {
+        assertThrows(IllegalArgumentException.class, () -> service.getTile(23, 0, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> service.getTile(2, 4, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> service.getTile(2, 0, -1, null));
+        assertEquals(0, loads.get());
+    }
+
+    // Helper Methods
+
+    private void stubTile(byte[] data, Runnable duringLoad) {
+        ReflectionTestUtils.setField(service, "cacheSize", 10);
+        service.initCache();
+        when(merchantRepository.findMerchantTile(anyInt(), anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() == 1 && duringLoad != null) {
+                duringLoad.run();
+            }
+            return data;
+        });
+    }
+}
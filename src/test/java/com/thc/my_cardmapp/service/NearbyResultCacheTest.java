@@ -0,0 +1,183 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.index.GeoHash;
+import com.thc.my_cardmapp.index.SpatialGridIndex;
+import com.thc.my_cardmapp.repository.MerchantCardRepository;
+import com.thc.my_cardmapp.repository.MerchantRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class NearbyResultCacheTest {
+
+    // 서울시청 기준
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    // NearbyResultCache 의 반경 구간과 구간별 geohash 자릿수
+    private static final int[] BUCKETS = {100, 300, 500, 1000, 2000, 3000, 5000};
+    private static final int[] PRECISIONS = {7, 7, 7, 6, 6, 6, 5};
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(NearbyResultCache.CACHE_NAME);
+    private final NearbyResultCache cache = new NearbyResultCache(cacheManager,
+            mock(MerchantRepository.class), mock(MerchantCardRepository.class));
+
+    // 적재한 셀 키 → 셀 적재 반경 (셀 중심에서 이 거리 안의 가맹점을 후보로 보관)
+    private final Map<String, Double> loadedReach = new HashMap<>();
+    private final List<Integer> loadedLimits = new ArrayList<>();
+
+    @Test
+    void cacheableRadiusIsWithinLargestBucket() {
+        assertTrue(cache.isCacheable(1));
+        assertTrue(cache.isCacheable(5000));
+        assertFalse(cache.isCacheable(0));
+        assertFalse(cache.isCacheable(5001));
+    }
+
+    @Test
+    void radiiInSameBucketAndCellShareOneLoad() {
+        find(LAT, LNG, 250);
+        find(LAT + 0.00001, LNG + 0.00001, 300);
+        assertEquals(1, loadedReach.size());
+
+        String key = "300:" + GeoHash.encode(LAT, LNG, 7);
+        assertEquals(List.of(key), List.copyOf(nativeCache().keySet()));
+        // 셀 안 어느 지점에서 검색해도 구간 반경이 후보 범위 안에 들도록 셀 반대각선만큼 확장
+        assertTrue(loadedReach.get(key) > 300 && loadedReach.get(key) < 400, "적재 반경: " + loadedReach.get(key));
+
+        // 다음 구간은 따로 적재
+        find(LAT, LNG, 301);
+        assertTrue(nativeCache().containsKey("500:" + GeoHash.encode(LAT, LNG, 7)));
+        assertEquals(2, loadedReach.size());
+    }
+
+    @Test
+    void oversizedCellIsBypassedWithBoundedLoad() {
+        NearbyResultCache.CellLoader crowded = (lat, lng, radius, limit) -> {
+            loadedLimits.add(limit);
+            List<MerchantNearbyView> views = new ArrayList<>();
+            for (long id = 1; id <= limit; id++) {
+                views.add(merchant(id, lat, lng));
+            }
+            return views;
+        };
+
+        assertNull(cache.find(LAT, LNG, 1000, null, crowded));
+        // 두 번째 요청은 셀 표시만 보고 적재 없이 직접 조회로
+        assertNull(cache.find(LAT, LNG, 1000, null, crowded));
+        assertEquals(List.of(3001), loadedLimits);
+        assertEquals(2L, cache.getStatistics().get("bypasses"));
+    }
+
+    @Test
+    void hitRecomputesDistanceAndFiltersRadius() {
+        NearbyResultCache.CellLoader loader = (lat, lng, radius, limit) -> List.of(
+                merchant(1, LAT + 0.0020, LNG),   // 약 222m
+                merchant(2, LAT + 0.0005, LNG),   // 약 56m
+                merchant(3, LAT + 0.0040, LNG));  // 약 445m
+
+        cache.find(LAT, LNG, 300, null, loader);
+        List<MerchantNearbyView> result = cache.find(LAT, LNG, 300, null, loader);
+
+        assertEquals(List.of(2L, 1L), result.stream().map(MerchantNearbyView::getId).toList());
+        assertEquals(SpatialGridIndex.haversine(LAT, LNG, LAT + 0.0005, LNG), result.get(0).getDistance(), 1e-6);
+        assertEquals(1L, cache.getStatistics().get("hits"));
+    }
+
+    @Test
+    void invalidationCoversEveryCellThatCanHoldTheMerchant() {
+        // 변경 위치 주변 여러 지점에서 모든 구간을 조회해 셀을 채움
+        for (int bucket : BUCKETS) {
+            double step = bucket / 111_320d / 2;
+            for (int i = -8; i <= 8; i++) {
+                for (int j = -8; j <= 8; j++) {
+                    find(LAT + i * step, LNG + j * step, bucket);
+                }
+            }
+        }
+        int loaded = nativeCache().size();
+
+        cache.onMerchantChanged(new MerchantChangedEvent(List.of(1L),
+                List.of(GEOMETRY_FACTORY.createPoint(new Coordinate(LNG, LAT)))));
+
+        // 남은 셀은 모두 변경 위치가 후보 범위 밖이어야 함
+        for (Object key : nativeCache().keySet()) {
+            String geohash = ((String) key).substring(((String) key).indexOf(':') + 1);
+            double[] center = GeoHash.decodeCenter(geohash);
+            double distance = SpatialGridIndex.haversine(center[0], center[1], LAT, LNG);
+            assertTrue(distance > loadedReach.get(key), key + " 셀이 무효화되지 않음: " + distance);
+        }
+        // 변경 위치가 속한 셀은 구간마다 무효화
+        for (int bucket : BUCKETS) {
+            assertFalse(nativeCache().containsKey(keyOf(LAT, LNG, bucket)));
+        }
+        assertTrue(nativeCache().size() > 0 && nativeCache().size() < loaded);
+    }
+
+    @Test
+    void loadOverlappingInvalidationIsNotStored() {
+        // 적재 도중 커밋된 변경의 무효화가 먼저 끝난 경우
+        NearbyResultCache.CellLoader racing = (lat, lng, radius, limit) -> {
+            cache.onMerchantChanged(new MerchantChangedEvent(List.of(1L),
+                    List.of(GEOMETRY_FACTORY.createPoint(new Coordinate(LNG, LAT)))));
+            return List.of(merchant(1, LAT, LNG));
+        };
+
+        List<MerchantNearbyView> result = cache.find(LAT, LNG, 300, null, racing);
+
+        assertEquals(1, result.size());
+        assertTrue(nativeCache().isEmpty());
+    }
+
+    // Helper Methods
+
+    /**
+     * 캐시 조회 (적재가 일어나면 조회 지점의 셀 키로 적재 반경 기록)
+     */
+    private List<MerchantNearbyView> find(double lat, double lng, double radius) {
+        String key = keyOf(lat, lng, radius);
+        return cache.find(lat, lng, radius, null, (centerLat, centerLng, reach, limit) -> {
+            // 셀 중심으로 적재하므로 중심의 키도 같아야 함
+            assertEquals(key, keyOf(centerLat, centerLng, radius));
+            loadedReach.put(key, reach);
+            return List.of();
+        });
+    }
+
+    private static String keyOf(double lat, double lng, double radius) {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            if (radius <= BUCKETS[i]) {
+                return BUCKETS[i] + ":" + GeoHash.encode(lat, lng, PRECISIONS[i]);
+            }
+        }
+        throw new IllegalArgumentException("캐시할 수 없는 반경입니다: " + radius);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<Object, Object> nativeCache() {
+        return (ConcurrentMap<Object, Object>) cacheManager.getCache(NearbyResultCache.CACHE_NAME).getNativeCache();
+    }
+
+    private static MerchantNearbyView merchant(long id, double lat, double lng) {
+        return new NearbyResultCache.CachedMerchant(id, "가맹점" + id, null, lat, lng, null, null,
+                null, null, new ArrayList<>(), null);
+    }
+}
@@ -0,0 +1,250 @@
+package com.thc.my_cardmapp.service;
+
+import com.thc.my_cardmapp.event.MerchantChangedEvent;
+import com.thc.my_cardmapp.repository.RouteCacheRepository;
+import com.thc.my_cardmapp.repository.projection.MerchantNearbyView;
+import com.thc.my_cardmapp.routing.LocalRoutingEngine;
+import com.thc.my_cardmapp.routing.RouteResult;
+import com.thc.my_cardmapp.routing.RoutingEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RouteServiceTest {
+
+    private static final double ORIGIN_LAT = 37.5;
+    private static final double ORIGIN_LNG = 127.0;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger engineCalls = new AtomicInteger();
+    private RouteCacheService routeCacheService;
+    private RouteService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void ordersCandidatesByTravelTime() {
+        // 도착지 위도로 소요 시간 지정 (직선 거리 순서와 다르게)
+        service = createService(travelTimeByLatitude(Map.of(37.501, 300, 37.502, 100, 37.503, 200)),
+                8, 32, 3, 1000);
+        List<MerchantNearbyView> merchants = List.of(
+                merchant(1, 37.501, 100), merchant(2, 37.502, 200), merchant(3, 37.503, 300), merchant(4, 37.504, 400));
+
+        List<RouteService.MerchantRoute> ranked = service.rankByTravelTime(ORIGIN_LAT, ORIGIN_LNG, merchants, service.changeStamp());
+
+        assertEquals(List.of(2L, 3L, 1L, 4L), ids(ranked));
+        assertEquals(100, ranked.get(0).route().travelTimeS());
+        // 후보 밖 가맹점은 경로 없이 뒤에 거리순
+        assertNull(ranked.get(3).route());
+        assertEquals(0L, service.getStatistics().get("etaRankingFallbacks"));
+    }
+
+    @Test
+    void keepsDistanceOrderWhenBudgetIsExceeded() {
+        service = createService(blockedEngine(), 8, 32, 30, 50);
+        List<MerchantNearbyView> merchants = List.of(
+                merchant(1, 37.503, 100), merchant(2, 37.502, 200), merchant(3, 37.501, 300));
+
+        List<RouteService.MerchantRoute> ranked = service.rankByTravelTime(ORIGIN_LAT, ORIGIN_LNG, merchants, service.changeStamp());
+
+        assertEquals(List.of(1L, 2L, 3L), ids(ranked));
+        assertTrue(ranked.stream().allMatch(merchantRoute -> merchantRoute.route() == null));
+        assertEquals(1L, service.getStatistics().get("etaRankingFallbacks"));
+    }
+
+    @Test
+    void skipsQueuedCallsThatCouldNotStartBeforeDeadline() throws Exception {
+        service = createService(blockedEngine(), 1, 32, 30, 50);
+        List<MerchantNearbyView> merchants = List.of(
+                merchant(1, 37.501, 100), merchant(2, 37.502, 200), merchant(3, 37.503, 300), merchant(4, 37.504, 400));
+
+        service.rankByTravelTime(ORIGIN_LAT, ORIGIN_LNG, merchants, service.changeStamp());
+        release.countDown();
+        awaitIdle();
+
+        // 마감 전에 시작한 첫 호출만 엔진을 부르고, 대기 중이던 호출은 버림
+        assertEquals(1, engineCalls.get());
+        assertEquals(3L, service.getStatistics().get("engineSkipped"));
+    }
+
+    @Test
+    void fullQueueFallsBackToEstimate() {
+        service = createService(blockedEngine(), 1, 1, 30, 50);
+        List<MerchantNearbyView> merchants = List.of(
+                merchant(1, 37.501, 100), merchant(2, 37.502, 200), merchant(3, 37.503, 300));
+
+        List<RouteService.MerchantRoute> ranked = service.rankByTravelTime(ORIGIN_LAT, ORIGIN_LNG, merchants, service.changeStamp());
+
+        // 실행 1 + 대기 1 을 넘는 호출은 바로 추정값 (추정값이 섞이면 거리순 유지)
+        assertEquals(List.of(1L, 2L, 3L), ids(ranked));
+        RouteService.RouteInfo rejected = ranked.get(2).route();
+        assertTrue(rejected.estimated());
+        assertFalse(rejected.cached());
+        assertEquals(1L, service.getStatistics().get("engineRejected"));
+        assertEquals(1L, service.getStatistics().get("etaRankingFallbacks"));
+    }
+
+    @Test
+    void inFlightRouteIsNotCachedAfterMerchantChanged() throws Exception {
+        service = createService(blockedEngine(), 2, 32, 30, 50);
+        List<MerchantNearbyView> merchants = List.of(merchant(1, 37.501, 100), merchant(2, 37.502, 200));
+
+        service.rankByTravelTime(ORIGIN_LAT, ORIGIN_LNG, merchants, service.changeStamp());
+        // 엔진 호출 도중 1번 가맹점 이동
+        MerchantChangedEvent event = new MerchantChangedEvent(List.of(1L));
+        routeCacheService.onMerchantChanged(event);
+        service.onMerchantChanged(event);
+        release.countDown();
+        awaitIdle();
+
+        // 이전 도착지로 계산한 1번 경로는 메모리 캐시/기록 대기열에 남지 않음
+        assertEquals(2, engineCalls.get());
+        assertEquals(List.of(2L), List.copyOf(routeCacheService.findAll(List.of(1L, 2L), ORIGIN_LAT, ORIGIN_LNG).keySet()));
+        assertEquals(1, service.getStatistics().get("pendingWrites"));
+        assertEquals(1L, routeCacheService.getStatistics().get("staleSkipped"));
+    }
+
+    @Test
+    void changeBetweenLoadAndRankingIsNotCached() {
+        service = createService(travelTimeByLatitude(Map.of(37.501, 100)), 2, 32, 30, 1000);
+        long changeStamp = service.changeStamp();
+        List<MerchantNearbyView> merchants = List.of(merchant(1, 37.501, 100));
+        // 목록 조회 뒤, 정렬 전에 1번 가맹점 이동
+        routeCacheService.onMerchantChanged(new MerchantChangedEvent(List.of(1L)));
+
+        List<RouteService.MerchantRoute> ranked = service.rankByTravelTime(ORIGIN_LAT, ORIGIN_LNG, merchants, changeStamp);
+
+        assertEquals(100, ranked.get(0).route().travelTimeS());
+        assertTrue(routeCacheService.findAll(List.of(1L), ORIGIN_LAT, ORIGIN_LNG).isEmpty());
+        assertEquals(0, service.getStatistics().get("pendingWrites"));
+    }
+
+    @Test
+    void pendingWriteIsSkippedWhenMerchantChangesBeforeFlush() {
+        service = createService(travelTimeByLatitude(Map.of(37.501, 100)), 2, 32, 30, 1000);
+        long changeStamp = routeCacheService.changeStamp();
+        RouteCacheService.CachedRoute route = routeCacheService.remember(1L, ORIGIN_LAT, ORIGIN_LNG,
+                500, 100, null, changeStamp);
+
+        routeCacheService.onMerchantChanged(new MerchantChangedEvent(List.of(1L)));
+
+        assertEquals(0, routeCacheService.persist(List.of(
+                new RouteCacheService.RouteWrite(route, 37.501, ORIGIN_LNG, changeStamp))));
+        assertNull(routeCacheService.remember(1L, ORIGIN_LAT, ORIGIN_LNG, 500, 100, null, changeStamp));
+        // 변경 뒤에 받은 순번으로는 다시 저장
+        assertNotNull(routeCacheService.remember(1L, ORIGIN_LAT, ORIGIN_LNG, 500, 100, null,
+                routeCacheService.changeStamp()));
+    }
+
+    // Helper Methods
+
+    private RouteService createService(RoutingEngine engine, int concurrency, int queueSize,
+                                       int candidates, long budgetMs) {
+        routeCacheService = new RouteCacheService(mock(RouteCacheRepository.class));
+        ReflectionTestUtils.setField(routeCacheService, "cellPrecision", 7);
+        ReflectionTestUtils.setField(routeCacheService, "toleranceM", 100.0);
+        ReflectionTestUtils.setField(routeCacheService, "ttlHours", 24L);
+        ReflectionTestUtils.setField(routeCacheService, "maxEntries", 1000);
+        routeCacheService.initCache();
+
+        RouteService routeService = new RouteService(List.of(engine), new LocalRoutingEngine(1.3, 1.2),
+                routeCacheService, null, null);
+        ReflectionTestUtils.setField(routeService, "engineName", "TEST");
+        ReflectionTestUtils.setField(routeService, "engineConcurrency", concurrency);
+        ReflectionTestUtils.setField(routeService, "engineQueueSize", queueSize);
+        ReflectionTestUtils.setField(routeService, "writeQueueSize", 100);
+        ReflectionTestUtils.setField(routeService, "writeBatchSize", 10);
+        ReflectionTestUtils.setField(routeService, "rankingCandidates", candidates);
+        ReflectionTestUtils.setField(routeService, "rankingBudgetMs", budgetMs);
+        routeService.init();
+        return routeService;
+    }
+
+    private RoutingEngine travelTimeByLatitude(Map<Double, Integer> travelTimes) {
+        return new TestEngine() {
+            @Override
+            RouteResult compute(double destLat) {
+                return new RouteResult("TEST", 500, travelTimes.get(destLat), null);
+            }
+        };
+    }
+
+    /**
+     * release 전까지 응답하지 않는 엔진
+     */
+    private RoutingEngine blockedEngine() {
+        return new TestEngine() {
+            @Override
+            RouteResult compute(double destLat) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new RouteResult("TEST", 500, 400, null);
+            }
+        };
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (((Number) service.getStatistics().get("inFlight")).intValue() > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static MerchantNearbyView merchant(long id, double lat, double distance) {
+        MerchantNearbyView view = mock(MerchantNearbyView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getLatitude()).thenReturn(lat);
+        when(view.getLongitude()).thenReturn(ORIGIN_LNG);
+        when(view.getDistance()).thenReturn(distance);
+        return view;
+    }
+
+    private static List<Long> ids(List<RouteService.MerchantRoute> ranked) {
+        return ranked.stream().map(merchantRoute -> merchantRoute.merchant().getId()).toList();
+    }
+
+    private abstract class TestEngine implements RoutingEngine {
+
+        @Override
+        public String getName() {
+            return "TEST";
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public RouteResult route(double originLat, double originLng, double destLat, double destLng) {
+            engineCalls.incrementAndGet();
+            return compute(destLat);
+        }
+
+        abstract RouteResult compute(double destLat);
+    }
+}
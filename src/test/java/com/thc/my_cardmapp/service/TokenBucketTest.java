@@ -0,0 +1,66 @@
+package com.thc.my_cardmapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private long now;
+
+    @Test
+    void spacesRequestsAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(10, 1, () -> now);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(millis(100), bucket.reserve());
+        assertEquals(millis(200), bucket.reserve());
+
+        // 대기 없이 1초가 지나도 버스트는 1초 분량까지만
+        now += TimeUnit.SECONDS.toNanos(5);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, bucket.reserve());
+        }
+        assertEquals(millis(100), bucket.reserve());
+    }
+
+    @Test
+    void backOffHalvesRateAndRecoversGradually() {
+        TokenBucket bucket = new TokenBucket(10, 2, () -> now);
+
+        bucket.backOff();
+        assertEquals(5, bucket.getRate(), 1e-9);
+        bucket.backOff();
+        bucket.backOff();
+        assertEquals(2, bucket.getRate(), 1e-9);
+
+        for (int i = 0; i < 100; i++) {
+            bucket.recover();
+        }
+        assertEquals(10, bucket.getRate(), 1e-9);
+    }
+
+    @Test
+    void backOffDropsAccumulatedTokens() {
+        TokenBucket bucket = new TokenBucket(4, 1, () -> now);
+        now += TimeUnit.SECONDS.toNanos(1);
+
+        bucket.backOff();
+
+        assertTrue(bucket.reserve() > 0);
+    }
+
+    @Test
+    void rejectsInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(5, 10));
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+}